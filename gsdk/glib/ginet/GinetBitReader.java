@@ -0,0 +1,54 @@
+package gsdk.glib.ginet;
+
+import java.nio.ByteBuffer;
+
+// Reads bits written by GinetBitWriter; running out of bytes throws BufferUnderflowException.
+class GinetBitReader {
+    private final ByteBuffer buffer;
+
+    private long accumulator = 0;
+
+    private int accumulated = 0;
+
+    protected GinetBitReader(ByteBuffer buffer_) {
+        buffer = buffer_;
+    }
+
+    /**
+     * Read bits (most significant first).
+     *
+     * @param count Bits count (0 - 64).
+     */
+    protected long read(int count) {
+        if(count > 32) {
+            long high = read(count - 32);
+
+            return (high << 32) | read(32);
+        }
+
+        while(accumulated < count) {
+            accumulator = (accumulator << 8) | (buffer.get() & 0xFF);
+            accumulated += 8;
+        }
+
+        accumulated -= count;
+
+        return (accumulator >>> accumulated) & ((1L << count) - 1);
+    }
+
+    /**
+     * Read value written with GinetBitWriter.writeVar.
+     */
+    protected long readVar() {
+        return read((int) read(6));
+    }
+
+    /**
+     * Read value written with GinetBitWriter.writeSigned.
+     */
+    protected int readSigned() {
+        int zigzag = (int) readVar();
+
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
@@ -0,0 +1,81 @@
+package gsdk.glib.ginet;
+
+import java.util.Arrays;
+
+// Big-endian bit packer; reused between messages with reset().
+class GinetBitWriter {
+    private byte[] bytes = new byte[256];
+
+    private int length = 0;
+
+    private long accumulator = 0;
+
+    private int accumulated = 0;
+
+    /**
+     * Write lowest bits of value (most significant first).
+     *
+     * @param value Value.
+     * @param count Bits count (0 - 64).
+     */
+    protected void write(long value, int count) {
+        if(count > 32) {
+            write(value >>> 32, count - 32);
+
+            count = 32;
+        }
+
+        accumulator = (accumulator << count) | (value & ((1L << count) - 1));
+        accumulated += count;
+
+        while(accumulated >= 8) {
+            accumulated -= 8;
+
+            if(length == bytes.length) bytes = Arrays.copyOf(bytes, bytes.length * 2);
+
+            bytes[length++] = (byte) (accumulator >>> accumulated);
+        }
+    }
+
+    /**
+     * Write unsigned value as 6 bit length and significant bits.
+     *
+     * @param value Value (up to 63 significant bits).
+     */
+    protected void writeVar(long value) {
+        int bits = 64 - Long.numberOfLeadingZeros(value);
+
+        write(bits, 6);
+        write(value, bits);
+    }
+
+    /**
+     * Write signed value zigzag encoded (small magnitudes take few bits).
+     *
+     * @param value Value.
+     */
+    protected void writeSigned(int value) {
+        writeVar(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get written bytes (last byte padded with zeros).
+     */
+    protected byte[] toByteArray() {
+        byte[] result = Arrays.copyOf(bytes, length + (accumulated > 0 ? 1 : 0));
+
+        if(accumulated > 0) result[length] = (byte) (accumulator << (8 - accumulated));
+
+        return result;
+    }
+
+    /**
+     * Clear written bits.
+     */
+    protected void reset() {
+        length = 0;
+
+        accumulator = 0;
+        accumulated = 0;
+    }
+}
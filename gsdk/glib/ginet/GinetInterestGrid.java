@@ -0,0 +1,233 @@
+package gsdk.glib.ginet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * GinetInterestGrid -
+ *
+ * Area-of-interest index of client positions: uniform grid of square cells, so moving a client is O(1)
+ * and a range query only visits cells overlapping the range. Used by servers to deliver an update only
+ * to clients near its source; cell size around the usual broadcast range works best.
+ *
+ * @param <C> Client type.
+ */
+public class GinetInterestGrid<C> {
+    public static final float DEFAULT_CELL_SIZE = 64.0f;
+
+    private final HashMap<Long, ArrayList<Entry<C>>> cells = new HashMap<>();
+
+    private final HashMap<C, Entry<C>> entries = new HashMap<>();
+
+    private float cellSize;
+
+    /**
+     * Initialize interest grid with default cell size.
+     */
+    public GinetInterestGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Initialize interest grid.
+     *
+     * @param cellSize_ Cell size (world units).
+     */
+    public GinetInterestGrid(float cellSize_) {
+        assert_t(!(cellSize_ > 0.0f), "Cell size must be positive");
+
+        cellSize = cellSize_;
+    }
+
+    /**
+     * Set client position (client is added if not indexed yet).
+     *
+     * @param client Client.
+     * @param x Position X.
+     * @param y Position Y.
+     */
+    public synchronized void update(C client, float x, float y) {
+        Entry<C> entry = entries.get(client);
+
+        long cell = cell(x, y);
+
+        if(entry == null) {
+            entry = new Entry<>(client);
+
+            entries.put(client, entry);
+        } else if(entry.cell != cell) {
+            unlink(entry);
+        } else {
+            entry.x = x;
+            entry.y = y;
+
+            return;
+        }
+
+        entry.x = x;
+        entry.y = y;
+
+        link(entry, cell);
+    }
+
+    /**
+     * Remove client.
+     *
+     * @param client Client.
+     */
+    public synchronized void remove(C client) {
+        Entry<C> entry = entries.remove(client);
+
+        if(entry != null) unlink(entry);
+    }
+
+    /**
+     * Add clients within range of a point (inclusive) to result list.
+     *
+     * @param x Point X.
+     * @param y Point Y.
+     * @param range Range (world units).
+     * @param result List for clients.
+     */
+    public synchronized List<C> query(float x, float y, float range, List<C> result) {
+        if(range < 0.0f || entries.isEmpty()) return result;
+
+        float squared = range * range;
+
+        int minX = (int) Math.floor((x - range) / cellSize), maxX = (int) Math.floor((x + range) / cellSize);
+        int minY = (int) Math.floor((y - range) / cellSize), maxY = (int) Math.floor((y + range) / cellSize);
+
+        // Range covering more cells than occupied: scanning occupied cells is cheaper.
+        if(((long) maxX - minX + 1) * ((long) maxY - minY + 1) > cells.size()) {
+            for(ArrayList<Entry<C>> cell : cells.values()) collect(cell, x, y, squared, result);
+
+            return result;
+        }
+
+        for(long cellX = minX; cellX <= maxX; cellX++) {
+            for(long cellY = minY; cellY <= maxY; cellY++) {
+                ArrayList<Entry<C>> cell = cells.get(key((int) cellX, (int) cellY));
+
+                if(cell != null) collect(cell, x, y, squared, result);
+            }
+        }
+
+        return result;
+    }
+
+    private static <C> void collect(ArrayList<Entry<C>> cell, float x, float y, float squared, List<C> result) {
+        for(int i = 0; i < cell.size(); i++) {
+            Entry<C> entry = cell.get(i);
+
+            float dx = entry.x - x, dy = entry.y - y;
+
+            if(dx * dx + dy * dy <= squared) result.add(entry.client);
+        }
+    }
+
+    private void link(Entry<C> entry, long cell) {
+        ArrayList<Entry<C>> clients = cells.computeIfAbsent(cell, key -> new ArrayList<>());
+
+        entry.cell = cell;
+        entry.index = clients.size();
+
+        clients.add(entry);
+    }
+
+    // Swap with last entry of the cell: O(1) removal.
+    private void unlink(Entry<C> entry) {
+        ArrayList<Entry<C>> clients = cells.get(entry.cell);
+
+        Entry<C> last = clients.remove(clients.size() - 1);
+
+        if(last != entry) {
+            clients.set(entry.index, last);
+
+            last.index = entry.index;
+        }
+
+        if(clients.isEmpty()) cells.remove(entry.cell);
+    }
+
+    private long cell(float x, float y) {
+        return key((int) Math.floor(x / cellSize), (int) Math.floor(y / cellSize));
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Set cell size, clients are reindexed.
+     *
+     * @param cellSize_ Cell size (world units).
+     */
+    public synchronized void setCellSize(float cellSize_) {
+        assert_t(!(cellSize_ > 0.0f), "Cell size must be positive");
+
+        cellSize = cellSize_;
+
+        cells.clear();
+
+        for(Entry<C> entry : entries.values()) link(entry, cell(entry.x, entry.y));
+    }
+
+    /**
+     * Get cell size.
+     */
+    public synchronized float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Is client indexed.
+     *
+     * @param client Client.
+     */
+    public synchronized boolean contains(C client) {
+        return entries.containsKey(client);
+    }
+
+    /**
+     * Get client position ([x, y]) or null.
+     *
+     * @param client Client.
+     */
+    public synchronized float[] getPosition(C client) {
+        Entry<C> entry = entries.get(client);
+
+        return entry == null ? null : new float[] {entry.x, entry.y};
+    }
+
+    /**
+     * Get indexed clients count.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all clients.
+     */
+    public synchronized void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    private static class Entry<C> {
+        private final C client;
+
+        private float x, y;
+
+        private long cell;
+
+        private int index;
+
+        private Entry(C client_) {
+            client = client_;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package gsdk.glib.ginet;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * GinetLatencyHistogram -
+ *
+ * HdrHistogram-style latency histogram: log-linear buckets (every power of two split into 512 linear
+ * sub-buckets, relative error below 0.2%) from 1 ns up to about 18 minutes, fixed memory, lock-free recording
+ * from many threads. Percentiles report the highest value equivalent to the bucket, like HdrHistogram.
+ *
+ * @see <a href="https://hdrhistogram.github.io/HdrHistogram/">HdrHistogram.</a>
+ */
+public class GinetLatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 10;
+
+    private static final int HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(index(MAX_VALUE) + 1);
+
+    private final AtomicLong count = new AtomicLong(), sum = new AtomicLong();
+
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE), max = new AtomicLong(0);
+
+    // Value v is stored with its top SUB_BUCKET_BITS significant bits: exponent e = bits dropped.
+    private static int index(long value) {
+        int exponent = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+
+        int sub = (int) (value >>> exponent);
+
+        return exponent == 0 ? sub : exponent * HALF_COUNT + sub;
+    }
+
+    private static long highestEquivalent(int index) {
+        if(index < 2 * HALF_COUNT) return index;
+
+        int exponent = index / HALF_COUNT - 1;
+
+        long sub = index - (long) exponent * HALF_COUNT;
+
+        return ((sub + 1) << exponent) - 1;
+    }
+
+    /**
+     * Record value (clamped to 0 - MAX_VALUE).
+     *
+     * @param value Value (ns).
+     */
+    public void record(long value) {
+        value = Math.max(0, Math.min(MAX_VALUE, value));
+
+        counts.incrementAndGet(index(value));
+
+        count.incrementAndGet();
+        sum.addAndGet(value);
+
+        long current;
+
+        while(value < (current = min.get()) && !min.compareAndSet(current, value));
+        while(value > (current = max.get()) && !max.compareAndSet(current, value));
+    }
+
+    /**
+     * Add values of another histogram.
+     *
+     * @param histogram Histogram.
+     */
+    public void add(GinetLatencyHistogram histogram) {
+        for(int i = 0; i < counts.length(); i++) {
+            long bucket = histogram.counts.get(i);
+
+            if(bucket != 0) counts.addAndGet(i, bucket);
+        }
+
+        count.addAndGet(histogram.count.get());
+        sum.addAndGet(histogram.sum.get());
+
+        min.accumulateAndGet(histogram.min.get(), Math::min);
+        max.accumulateAndGet(histogram.max.get(), Math::max);
+    }
+
+    /**
+     * Get value at percentile (0 if empty).
+     *
+     * @param percentile Percentile (0 - 100).
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.get();
+
+        if(total == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+
+        long seen = 0;
+
+        for(int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+
+            if(seen >= target) return Math.min(highestEquivalent(i), max.get());
+        }
+
+        return max.get();
+    }
+
+    /**
+     * Get recorded values count.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get lowest recorded value (0 if empty).
+     */
+    public long getMin() {
+        return count.get() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Get highest recorded value.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get mean value (0 if empty).
+     */
+    public double getMean() {
+        long total = count.get();
+
+        return total == 0 ? 0.0 : (double) sum.get() / total;
+    }
+
+    /**
+     * Remove all values.
+     */
+    public void reset() {
+        for(int i = 0; i < counts.length(); i++) counts.set(i, 0);
+
+        count.set(0);
+        sum.set(0);
+
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+}
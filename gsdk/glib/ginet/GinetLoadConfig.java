@@ -0,0 +1,219 @@
+package gsdk.glib.ginet;
+
+import gsdk.glib.ginet.tcp.GinetProtocolMode;
+import gsdk.glib.ginet.tcp.GinetServerMode;
+import gsdk.glib.ginet.udp.GinetChannelUDP;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Ginet load generator parameters (immutable): transport, simulated clients and their message rate, size and mix.
+ *
+ * @see GinetLoadGenerator
+ */
+public class GinetLoadConfig {
+    public static final int DEFAULT_CLIENTS = 16;
+
+    public static final int DEFAULT_RATE = 100;
+
+    public static final int DEFAULT_MESSAGE_SIZE = 64;
+
+    public static final long DEFAULT_WARMUP = 1000, DEFAULT_DURATION = 5000;
+
+    private final GinetServerMode mode;
+
+    private final GinetProtocolMode protocol;
+
+    private final GinetChannelUDP channel;
+
+    private final int clients, rate, messageSize;
+
+    private final double dataWeight, eventWeight, binaryWeight;
+
+    private final long warmup, duration;
+
+    private GinetLoadConfig(GinetServerMode mode_, GinetProtocolMode protocol_, GinetChannelUDP channel_, int clients_, int rate_, int messageSize_,
+                            double dataWeight_, double eventWeight_, double binaryWeight_, long warmup_, long duration_) {
+        assert_t(clients_ < 1, "load needs at least one client");
+        assert_t(rate_ < 1, "message rate must be positive");
+        assert_t(messageSize_ < 0, "message size can not be negative");
+        assert_t(dataWeight_ < 0 || eventWeight_ < 0 || binaryWeight_ < 0 || dataWeight_ + eventWeight_ + binaryWeight_ <= 0, "message mix needs a positive weight");
+        assert_t(warmup_ < 0 || duration_ < 1, "invalid warmup or duration");
+
+        mode = mode_;
+        protocol = protocol_;
+
+        channel = channel_;
+
+        clients = clients_;
+
+        rate = rate_;
+
+        messageSize = messageSize_;
+
+        dataWeight = dataWeight_;
+        eventWeight = eventWeight_;
+        binaryWeight = binaryWeight_;
+
+        warmup = warmup_;
+        duration = duration_;
+    }
+
+    /**
+     * Get default config for TCP server (BLOCKING mode serves one client at a time, use one client with it).
+     *
+     * @param mode_ Server execution mode.
+     * @param protocol_ Clients wire protocol.
+     */
+    public static GinetLoadConfig tcp(GinetServerMode mode_, GinetProtocolMode protocol_) {
+        return new GinetLoadConfig(mode_, protocol_, null, DEFAULT_CLIENTS, DEFAULT_RATE, DEFAULT_MESSAGE_SIZE, 1.0, 1.0, 1.0, DEFAULT_WARMUP, DEFAULT_DURATION);
+    }
+
+    /**
+     * Get default config for UDP server.
+     *
+     * @param channel_ Delivery channel of all messages.
+     */
+    public static GinetLoadConfig udp(GinetChannelUDP channel_) {
+        return new GinetLoadConfig(null, null, channel_, DEFAULT_CLIENTS, DEFAULT_RATE, DEFAULT_MESSAGE_SIZE, 1.0, 1.0, 1.0, DEFAULT_WARMUP, DEFAULT_DURATION);
+    }
+
+    /**
+     * Get same config with another clients count.
+     *
+     * @param clients_ Simulated clients.
+     */
+    public GinetLoadConfig withClients(int clients_) {
+        return new GinetLoadConfig(mode, protocol, channel, clients_, rate, messageSize, dataWeight, eventWeight, binaryWeight, warmup, duration);
+    }
+
+    /**
+     * Get same config with another message rate.
+     *
+     * @param rate_ Messages per second sent by each client.
+     */
+    public GinetLoadConfig withRate(int rate_) {
+        return new GinetLoadConfig(mode, protocol, channel, clients, rate_, messageSize, dataWeight, eventWeight, binaryWeight, warmup, duration);
+    }
+
+    /**
+     * Get same config with another message size.
+     *
+     * @param messageSize_ Payload size (bytes, at least timestamp size).
+     */
+    public GinetLoadConfig withMessageSize(int messageSize_) {
+        return new GinetLoadConfig(mode, protocol, channel, clients, rate, messageSize_, dataWeight, eventWeight, binaryWeight, warmup, duration);
+    }
+
+    /**
+     * Get same config with another message mix (relative weights, binary events are sent as text events over TCP text protocol).
+     *
+     * @param dataWeight_ Weight of plain data messages.
+     * @param eventWeight_ Weight of named text events.
+     * @param binaryWeight_ Weight of binary events.
+     */
+    public GinetLoadConfig withMix(double dataWeight_, double eventWeight_, double binaryWeight_) {
+        return new GinetLoadConfig(mode, protocol, channel, clients, rate, messageSize, dataWeight_, eventWeight_, binaryWeight_, warmup, duration);
+    }
+
+    /**
+     * Get same config with another run length.
+     *
+     * @param warmup_ Time (ms) of load before measuring.
+     * @param duration_ Time (ms) of measured load.
+     */
+    public GinetLoadConfig withDuration(long warmup_, long duration_) {
+        return new GinetLoadConfig(mode, protocol, channel, clients, rate, messageSize, dataWeight, eventWeight, binaryWeight, warmup_, duration_);
+    }
+
+    /**
+     * Is UDP transport.
+     */
+    public boolean isUDP() {
+        return channel != null;
+    }
+
+    /**
+     * Get short transport description.
+     */
+    public String getLabel() {
+        return isUDP() ? "UDP " + channel : "TCP " + mode + " " + protocol;
+    }
+
+    /**
+     * Get TCP server execution mode (null for UDP).
+     */
+    public GinetServerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get TCP clients wire protocol (null for UDP).
+     */
+    public GinetProtocolMode getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Get UDP delivery channel (null for TCP).
+     */
+    public GinetChannelUDP getChannel() {
+        return channel;
+    }
+
+    /**
+     * Get simulated clients count.
+     */
+    public int getClients() {
+        return clients;
+    }
+
+    /**
+     * Get messages per second sent by each client.
+     */
+    public int getRate() {
+        return rate;
+    }
+
+    /**
+     * Get payload size (bytes).
+     */
+    public int getMessageSize() {
+        return messageSize;
+    }
+
+    /**
+     * Get weight of plain data messages.
+     */
+    public double getDataWeight() {
+        return dataWeight;
+    }
+
+    /**
+     * Get weight of named text events.
+     */
+    public double getEventWeight() {
+        return eventWeight;
+    }
+
+    /**
+     * Get weight of binary events.
+     */
+    public double getBinaryWeight() {
+        return binaryWeight;
+    }
+
+    /**
+     * Get time (ms) of load before measuring.
+     */
+    public long getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Get time (ms) of measured load.
+     */
+    public long getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,505 @@
+package gsdk.glib.ginet;
+
+import java.nio.ByteBuffer;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.concurrent.locks.LockSupport;
+
+import gsdk.glib.ginet.tcp.GinetClientEventsTCP;
+import gsdk.glib.ginet.tcp.GinetClientServer;
+import gsdk.glib.ginet.tcp.GinetClientTCP;
+import gsdk.glib.ginet.tcp.GinetServerClient;
+import gsdk.glib.ginet.tcp.GinetServerEventsTCP;
+import gsdk.glib.ginet.tcp.GinetServerTCP;
+import gsdk.glib.ginet.udp.GinetChannelUDP;
+import gsdk.glib.ginet.udp.GinetClientEventsUDP;
+import gsdk.glib.ginet.udp.GinetClientUDP;
+import gsdk.glib.ginet.udp.GinetServerClientUDP;
+import gsdk.glib.ginet.udp.GinetServerEventsUDP;
+import gsdk.glib.ginet.udp.GinetServerUDP;
+
+/**
+ * GinetLoadGenerator -
+ *
+ * Loopback load test for Ginet transports: starts an echo server on a free local port, connects simulated
+ * GinetClientTCP or GinetClientUDP clients and makes each of them send messages at a fixed rate with configured
+ * size and mix of data, text events and binary events. Every message carries the time it was scheduled at,
+ * the echo is timed against it and recorded into a GinetLatencyHistogram.<br>
+ * <br>
+ * Messages are paced by a few sender threads (not one per client); if a sender falls behind, late messages
+ * are sent in a burst and their wait counts as latency. Only messages scheduled after warmup are measured.
+ *
+ * @see GinetLoadConfig
+ * @see GinetLoadReport
+ */
+public class GinetLoadGenerator {
+    public static final String HOST = "127.0.0.1";
+
+    public static final String EVENT_NAME = "load";
+
+    public static final int BINARY_EVENT = 1;
+
+    public static final int CONNECTION_TIME = 10000;
+
+    public static final long DRAIN_TIME = 2000;
+
+    protected static final int DATA = 0, EVENT = 1, BINARY = 2;
+
+    private static final int STAMP_SIZE = 8;
+
+    private final GinetLoadConfig config;
+
+    private final GinetLatencyHistogram histogram = new GinetLatencyHistogram();
+
+    private final AtomicLong sent = new AtomicLong(), received = new AtomicLong(), receivedBytes = new AtomicLong(), errors = new AtomicLong();
+
+    private final String padding;
+
+    // Measured window (System.nanoTime), empty until load starts.
+    private volatile long measureStart = Long.MAX_VALUE, measureEnd = Long.MIN_VALUE;
+
+    // Closing sockets after the run raises exceptions that are not load errors.
+    private volatile boolean stopping = false;
+
+    /**
+     * Initialize load generator.
+     *
+     * @param config_ Load config.
+     */
+    public GinetLoadGenerator(GinetLoadConfig config_) {
+        config = config_;
+
+        padding = "x".repeat(config.getMessageSize());
+    }
+
+    /**
+     * Run load with given config.
+     *
+     * @param config Load config.
+     */
+    public static GinetLoadReport run(GinetLoadConfig config) throws IOException, InterruptedException {
+        return new GinetLoadGenerator(config).run();
+    }
+
+    /**
+     * Run load: connect clients, send for warmup and measured duration, wait for echoes and disconnect
+     * (takes a bit longer than warmup + duration).
+     */
+    public GinetLoadReport run() throws IOException, InterruptedException {
+        if(config.isUDP()) {
+            runUDP();
+        } else {
+            runTCP();
+        }
+
+        return new GinetLoadReport(config, histogram, sent.get(), received.get(), receivedBytes.get(), errors.get());
+    }
+
+    private void runTCP() throws IOException, InterruptedException {
+        GinetServerTCP server = new GinetServerTCP(new EchoTCP(), 0, config.getMode());
+
+        List<GinetClientTCP> clients = new ArrayList<>();
+
+        CountDownLatch connected = new CountDownLatch(config.getClients());
+
+        try {
+            for(int i = 0; i < config.getClients(); i++) {
+                clients.add(new GinetClientTCP(new ClientTCP(connected), HOST, server.getServerSocket().getLocalPort(), CONNECTION_TIME, config.getProtocol()));
+            }
+
+            await(connected);
+
+            List<Target> targets = new ArrayList<>();
+
+            for(GinetClientTCP client : clients) {
+                targets.add(new Target() {
+                    @Override
+                    public void send(int kind, String data, ByteBuffer payload) {
+                        if(kind == DATA) {
+                            client.send(data);
+                        } else if(kind == EVENT) {
+                            client.emit(EVENT_NAME, data);
+                        } else {
+                            client.emit(BINARY_EVENT, payload);
+                        }
+                    }
+
+                    @Override
+                    public boolean isBinary() {
+                        return client.isBinary();
+                    }
+                });
+            }
+
+            load(targets);
+        } finally {
+            stopping = true;
+
+            for(GinetClientTCP client : clients) client.disconnect();
+
+            server.stop();
+        }
+    }
+
+    private void runUDP() throws IOException, InterruptedException {
+        GinetChannelUDP channel = config.getChannel();
+
+        GinetServerUDP server = new GinetServerUDP(new EchoUDP(channel), 0);
+
+        List<GinetClientUDP> clients = new ArrayList<>();
+
+        CountDownLatch connected = new CountDownLatch(config.getClients());
+
+        try {
+            for(int i = 0; i < config.getClients(); i++) {
+                clients.add(new GinetClientUDP(new ClientUDP(connected), HOST, server.getPort(), CONNECTION_TIME));
+            }
+
+            await(connected);
+
+            List<Target> targets = new ArrayList<>();
+
+            for(GinetClientUDP client : clients) {
+                targets.add(new Target() {
+                    @Override
+                    public void send(int kind, String data, ByteBuffer payload) {
+                        if(kind == DATA) {
+                            client.send(data, channel);
+                        } else if(kind == EVENT) {
+                            client.emit(EVENT_NAME, data, channel);
+                        } else {
+                            client.emit(BINARY_EVENT, payload, channel);
+                        }
+                    }
+
+                    @Override
+                    public boolean isBinary() {
+                        return true;
+                    }
+                });
+            }
+
+            load(targets);
+        } finally {
+            stopping = true;
+
+            for(GinetClientUDP client : clients) client.disconnect();
+
+            server.stop();
+        }
+    }
+
+    private void await(CountDownLatch connected) throws IOException, InterruptedException {
+        if(!connected.await(CONNECTION_TIME, TimeUnit.MILLISECONDS)) {
+            throw new IOException("Only %d of %d load clients connected".formatted(config.getClients() - connected.getCount(), config.getClients()));
+        }
+    }
+
+    private void load(List<Target> targets) throws InterruptedException {
+        int senders = Math.min(targets.size(), Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+        long interval = 1_000_000_000L / config.getRate();
+
+        long begin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+
+        measureStart = begin + TimeUnit.MILLISECONDS.toNanos(config.getWarmup());
+        measureEnd = measureStart + TimeUnit.MILLISECONDS.toNanos(config.getDuration());
+
+        List<Thread> threads = new ArrayList<>();
+
+        for(int i = 0; i < senders; i++) {
+            int first = i;
+
+            Thread thread = new Thread(() -> sender(targets, first, senders, begin, interval), "ginet-load-sender-" + i);
+
+            thread.setDaemon(true);
+
+            thread.start();
+
+            threads.add(thread);
+        }
+
+        for(Thread thread : threads) thread.join();
+
+        // Echoes still in flight; lost unreliable messages never arrive.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIME);
+
+        while(received.get() < sent.get() && System.nanoTime() < deadline) Thread.sleep(10);
+    }
+
+    // Sender thread paces every senders-th target; send times of clients are spread over the interval.
+    private void sender(List<Target> targets, int first, int step, long begin, long interval) {
+        SplittableRandom random = new SplittableRandom(first);
+
+        ByteBuffer payload = ByteBuffer.allocate(Math.max(STAMP_SIZE, config.getMessageSize()));
+
+        int count = (targets.size() - first + step - 1) / step;
+
+        long[] next = new long[count];
+
+        for(int i = 0; i < count; i++) next[i] = begin + interval * (first + i * step) / targets.size();
+
+        double total = config.getDataWeight() + config.getEventWeight() + config.getBinaryWeight();
+
+        while(true) {
+            long now = System.nanoTime(), earliest = Long.MAX_VALUE;
+
+            for(int i = 0; i < count; i++) {
+                Target target = targets.get(first + i * step);
+
+                for(; next[i] <= now && next[i] < measureEnd; next[i] += interval) send(target, kind(random.nextDouble() * total), next[i], payload);
+
+                if(next[i] < measureEnd) earliest = Math.min(earliest, next[i]);
+            }
+
+            if(earliest == Long.MAX_VALUE) return;
+
+            long wait = earliest - System.nanoTime();
+
+            if(wait > 0) LockSupport.parkNanos(wait);
+        }
+    }
+
+    private int kind(double roll) {
+        if(roll < config.getDataWeight()) return DATA;
+
+        return roll < config.getDataWeight() + config.getEventWeight() ? EVENT : BINARY;
+    }
+
+    private void send(Target target, int kind, long scheduled, ByteBuffer payload) {
+        if(kind == BINARY && !target.isBinary()) kind = EVENT;
+
+        if(scheduled >= measureStart) sent.incrementAndGet();
+
+        if(kind == BINARY) {
+            payload.clear().putLong(scheduled).position(payload.capacity()).flip();
+
+            target.send(kind, null, payload);
+
+            return;
+        }
+
+        String stamp = Long.toString(scheduled);
+
+        target.send(kind, stamp + " " + padding.substring(0, Math.max(0, padding.length() - stamp.length() - 1)), null);
+    }
+
+    private void error() {
+        if(!stopping) errors.incrementAndGet();
+    }
+
+    private void received(String data) {
+        int separator = data.indexOf(' ');
+
+        received(Long.parseLong(separator < 0 ? data : data.substring(0, separator)), data.length());
+    }
+
+    private void received(ByteBuffer payload) {
+        received(payload.getLong(payload.position()), payload.remaining());
+    }
+
+    private void received(long scheduled, int bytes) {
+        long now = System.nanoTime();
+
+        if(scheduled < measureStart || scheduled >= measureEnd) return;
+
+        histogram.record(now - scheduled);
+
+        received.incrementAndGet();
+        receivedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Get load config.
+     */
+    public GinetLoadConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get round trip latency histogram (ns), filled while running.
+     */
+    public GinetLatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    private interface Target {
+        void send(int kind, String data, ByteBuffer payload);
+
+        boolean isBinary();
+    }
+
+    private class EchoTCP implements GinetServerEventsTCP {
+        @Override
+        public void start(GinetServerTCP server) {}
+
+        @Override
+        public void end(GinetServerTCP server) {}
+
+        @Override
+        public void connection(GinetServerClient client, GinetServerTCP server) {}
+
+        @Override
+        public void disconnection(GinetServerClient client, GinetServerTCP server) {}
+
+        @Override
+        public void receive(String data, GinetServerClient client, GinetServerTCP server) {
+            server.send(data, client);
+        }
+
+        @Override
+        public void event(String name, String data, GinetServerClient client, GinetServerTCP server) {
+            server.emit(name, data, client);
+        }
+
+        @Override
+        public void binaryEvent(int id, ByteBuffer payload, GinetServerClient client, GinetServerTCP server) {
+            server.emit(id, payload, client);
+        }
+
+        @Override
+        public void exception(Exception exception, GinetServerTCP server) {
+            error();
+        }
+
+        @Override
+        public void lost(GinetServerClient client, GinetServerTCP server) {}
+    }
+
+    private class ClientTCP implements GinetClientEventsTCP {
+        private final CountDownLatch connected;
+
+        private ClientTCP(CountDownLatch connected_) {
+            connected = connected_;
+        }
+
+        @Override
+        public void connection(GinetClientServer server, GinetClientTCP client) {
+            connected.countDown();
+        }
+
+        @Override
+        public void disconnection(GinetClientServer server, GinetClientTCP client) {}
+
+        @Override
+        public void receive(String data, GinetClientServer server, GinetClientTCP client) {
+            received(data);
+        }
+
+        @Override
+        public void event(String name, String data, GinetClientServer server, GinetClientTCP client) {
+            received(data);
+        }
+
+        @Override
+        public void binaryEvent(int id, ByteBuffer payload, GinetClientServer server, GinetClientTCP client) {
+            received(payload);
+        }
+
+        @Override
+        public void exception(Exception exception, GinetClientTCP client) {
+            error();
+        }
+
+        @Override
+        public void lost(GinetClientTCP client) {}
+
+        @Override
+        public void timeout(GinetClientTCP client) {}
+    }
+
+    private class EchoUDP implements GinetServerEventsUDP {
+        private final GinetChannelUDP channel;
+
+        private EchoUDP(GinetChannelUDP channel_) {
+            channel = channel_;
+        }
+
+        @Override
+        public void start(GinetServerUDP server) {}
+
+        @Override
+        public void end(GinetServerUDP server) {}
+
+        @Override
+        public void connection(GinetServerClientUDP client, GinetServerUDP server) {}
+
+        @Override
+        public void disconnection(GinetServerClientUDP client, GinetServerUDP server) {}
+
+        @Override
+        public void receive(String data, GinetServerClientUDP client, GinetServerUDP server) {
+            server.send(data, client, channel);
+        }
+
+        @Override
+        public void event(String name, String data, GinetServerClientUDP client, GinetServerUDP server) {
+            server.emit(name, data, client, channel);
+        }
+
+        @Override
+        public void binaryEvent(int id, ByteBuffer payload, GinetServerClientUDP client, GinetServerUDP server) {
+            server.emit(id, payload, client, channel);
+        }
+
+        @Override
+        public void exception(Exception exception, GinetServerUDP server) {
+            error();
+        }
+
+        @Override
+        public void lost(GinetServerClientUDP client, GinetServerUDP server) {}
+    }
+
+    private class ClientUDP implements GinetClientEventsUDP {
+        private final CountDownLatch connected;
+
+        private ClientUDP(CountDownLatch connected_) {
+            connected = connected_;
+        }
+
+        @Override
+        public void connection(GinetClientUDP client) {
+            connected.countDown();
+        }
+
+        @Override
+        public void disconnection(GinetClientUDP client) {}
+
+        @Override
+        public void receive(String data, GinetClientUDP client) {
+            received(data);
+        }
+
+        @Override
+        public void event(String name, String data, GinetClientUDP client) {
+            received(data);
+        }
+
+        @Override
+        public void binaryEvent(int id, ByteBuffer payload, GinetClientUDP client) {
+            received(payload);
+        }
+
+        @Override
+        public void exception(Exception exception, GinetClientUDP client) {
+            error();
+        }
+
+        @Override
+        public void lost(GinetClientUDP client) {}
+
+        @Override
+        public void timeout(GinetClientUDP client) {}
+    }
+}
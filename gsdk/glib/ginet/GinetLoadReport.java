@@ -0,0 +1,116 @@
+package gsdk.glib.ginet;
+
+/**
+ * Result of one GinetLoadGenerator run: counts and latency histogram of messages sent in the measured window.
+ * Latency is client -> server -> client echo time, measured from the time message was scheduled (not actually sent),
+ * so stalls of the sender are included like in HdrHistogram's coordinated omission correction.
+ *
+ * @see GinetLoadGenerator
+ */
+public class GinetLoadReport {
+    private final GinetLoadConfig config;
+
+    private final GinetLatencyHistogram histogram;
+
+    private final long sent, received, receivedBytes, errors;
+
+    /**
+     * Initialize load report.
+     *
+     * @param config_ Run config.
+     * @param histogram_ Round trip latency (ns).
+     * @param sent_ Messages sent in measured window.
+     * @param received_ Echoes of these messages received.
+     * @param receivedBytes_ Payload bytes of received echoes.
+     * @param errors_ Exceptions reported by server and clients.
+     */
+    public GinetLoadReport(GinetLoadConfig config_, GinetLatencyHistogram histogram_, long sent_, long received_, long receivedBytes_, long errors_) {
+        config = config_;
+
+        histogram = histogram_;
+
+        sent = sent_;
+        received = received_;
+
+        receivedBytes = receivedBytes_;
+
+        errors = errors_;
+    }
+
+    /**
+     * Get table header matching <code>GinetLoadReport::toString</code>.
+     */
+    public static String header() {
+        return "%-28s %7s %10s %8s %9s %9s %9s %9s %9s %7s %6s".formatted("transport", "clients", "msg/s", "MB/s", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us", "loss %", "errors");
+    }
+
+    /**
+     * Get echoes received per second of measured window.
+     */
+    public double getThroughput() {
+        return received * 1000.0 / config.getDuration();
+    }
+
+    /**
+     * Get echoed payload bytes per second of measured window.
+     */
+    public double getBandwidth() {
+        return receivedBytes * 1000.0 / config.getDuration();
+    }
+
+    /**
+     * Get share of sent messages without echo (0 - 1).
+     */
+    public double getLoss() {
+        return sent == 0 ? 0.0 : Math.max(0, sent - received) / (double) sent;
+    }
+
+    /**
+     * Get run config.
+     */
+    public GinetLoadConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get round trip latency histogram (ns).
+     */
+    public GinetLatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Get messages sent in measured window.
+     */
+    public long getSent() {
+        return sent;
+    }
+
+    /**
+     * Get echoes received.
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * Get payload bytes of received echoes.
+     */
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Get exceptions reported by server and clients.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "%-28s %7d %10.0f %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f %6d".formatted(config.getLabel(), config.getClients(), getThroughput(), getBandwidth() / 1e6,
+            histogram.getValueAtPercentile(50.0) / 1e3, histogram.getValueAtPercentile(90.0) / 1e3, histogram.getValueAtPercentile(99.0) / 1e3,
+            histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMax() / 1e3, getLoss() * 100.0, errors);
+    }
+}
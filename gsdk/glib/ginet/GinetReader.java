@@ -0,0 +1,181 @@
+package gsdk.glib.ginet;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Binary reader for GinetSchema codecs, counterpart of GinetWriter. Reader is reused between messages (reset);
+ * strings are decoded straight from heap buffers. Truncated input throws BufferUnderflowException,
+ * malformed lengths and varints throw AssertionError.
+ *
+ * @see GinetWriter
+ */
+public class GinetReader {
+    private ByteBuffer buffer;
+
+    private byte[] scratch = new byte[0];
+
+    /**
+     * Initialize reader.
+     *
+     * @param buffer_ Buffer (remaining bytes are read).
+     */
+    public GinetReader(ByteBuffer buffer_) {
+        buffer = buffer_;
+    }
+
+    /**
+     * Read next buffer with this reader.
+     *
+     * @param buffer_ Buffer (remaining bytes are read).
+     */
+    public GinetReader reset(ByteBuffer buffer_) {
+        buffer = buffer_;
+
+        return this;
+    }
+
+    /**
+     * Read boolean.
+     */
+    public boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    /**
+     * Read byte.
+     */
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    /**
+     * Read unsigned varint.
+     */
+    public int readUnsignedVarInt() {
+        int value = 0;
+
+        for(int shift = 0; shift < 35; shift += 7) {
+            byte part = buffer.get();
+
+            value |= (part & 0x7F) << shift;
+
+            if(part >= 0) return value;
+        }
+
+        assert_t(true, "Malformed varint");
+
+        return 0;
+    }
+
+    /**
+     * Read signed (zigzag) varint.
+     */
+    public int readVarInt() {
+        int zigzag = readUnsignedVarInt();
+
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Read signed (zigzag) varlong.
+     */
+    public long readVarLong() {
+        long zigzag = 0;
+
+        for(int shift = 0; shift < 70; shift += 7) {
+            byte part = buffer.get();
+
+            zigzag |= (long) (part & 0x7F) << shift;
+
+            if(part >= 0) return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        assert_t(true, "Malformed varlong");
+
+        return 0;
+    }
+
+    /**
+     * Read float.
+     */
+    public float readFloat() {
+        return buffer.getFloat();
+    }
+
+    /**
+     * Read double.
+     */
+    public double readDouble() {
+        return buffer.getDouble();
+    }
+
+    /**
+     * Read string (null if written as null).
+     */
+    public String readString() {
+        int size = readLength();
+
+        if(size < 0) return null;
+
+        String value;
+
+        if(buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), size, StandardCharsets.UTF_8);
+        } else {
+            if(scratch.length < size) scratch = new byte[Math.max(size, scratch.length * 2)];
+
+            buffer.get(buffer.position(), scratch, 0, size);
+
+            value = new String(scratch, 0, size, StandardCharsets.UTF_8);
+        }
+
+        buffer.position(buffer.position() + size);
+
+        return value;
+    }
+
+    /**
+     * Read byte array (null if written as null).
+     */
+    public byte[] readBytes() {
+        int size = readLength();
+
+        if(size < 0) return null;
+
+        byte[] value = new byte[size];
+
+        buffer.get(value);
+
+        return value;
+    }
+
+    /**
+     * Read length prefix (length + 1, 0 for null) of string, bytes or array; returns -1 for null.
+     * Length is checked against remaining bytes (every element takes at least one byte).
+     */
+    public int readLength() {
+        int size = readUnsignedVarInt() - 1;
+
+        assert_t(size < -1 || size > buffer.remaining(), "Length exceeds remaining bytes");
+
+        return size;
+    }
+
+    /**
+     * Get remaining bytes.
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Get buffer.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+}
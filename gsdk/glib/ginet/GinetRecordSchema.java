@@ -0,0 +1,492 @@
+package gsdk.glib.ginet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+
+import java.util.HashMap;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * GinetRecordSchema -
+ *
+ * Schema derived from a record class: components are written in declaration order, without names or tags.<br>
+ *
+ * Supported component types:<br>
+ * - boolean, byte, short, char, int, long (zigzag varints), float, double.<br>
+ * - String (UTF-8), enums (ordinal varint), byte[].<br>
+ * - Nested records, and arrays of any supported type (int[], float[], String[], Record[], int[][], ...).<br><br>
+ *
+ * References may be null (strings and arrays carry length + 1, records a presence byte). Both sides must use
+ * the same record shape; adding, removing or reordering components changes the format.
+ *
+ * @param <R> Record type.
+ */
+public class GinetRecordSchema<R extends Record> implements GinetSchema<R> {
+    private static final HashMap<Class<?>, GinetRecordSchema<?>> SCHEMAS = new HashMap<>();
+
+    private final Class<R> type;
+
+    private Component[] components;
+
+    private MethodHandle constructor;
+
+    private GinetRecordSchema(Class<R> type_) {
+        type = type_;
+    }
+
+    /**
+     * Get schema of record class (schemas are cached).
+     *
+     * @param type Record class.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <R extends Record> GinetRecordSchema<R> of(Class<R> type) {
+        GinetRecordSchema<R> schema = (GinetRecordSchema<R>) SCHEMAS.get(type);
+
+        if(schema != null) return schema;
+
+        schema = new GinetRecordSchema<>(type);
+
+        // Cached before components are resolved: recursive records (record Node(Node next)) refer to it.
+        SCHEMAS.put(type, schema);
+
+        try {
+            schema.resolve();
+        } catch(RuntimeException | Error exception) {
+            SCHEMAS.remove(type);
+
+            throw exception;
+        }
+
+        return schema;
+    }
+
+    private void resolve() {
+        RecordComponent[] recordComponents = type.getRecordComponents();
+
+        Class<?>[] types = new Class<?>[recordComponents.length];
+
+        Component[] resolved = new Component[recordComponents.length];
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            for(int i = 0; i < recordComponents.length; i++) {
+                types[i] = recordComponents[i].getType();
+
+                recordComponents[i].getAccessor().setAccessible(true);
+
+                MethodHandle accessor = lookup.unreflect(recordComponents[i].getAccessor());
+
+                resolved[i] = component(types[i], accessor.asType(MethodType.methodType(types[i].isPrimitive() ? types[i] : Object.class, Object.class)));
+            }
+
+            Constructor<R> canonical = type.getDeclaredConstructor(types);
+
+            canonical.setAccessible(true);
+
+            constructor = lookup.unreflectConstructor(canonical).asSpreader(Object[].class, types.length).asType(MethodType.methodType(Object.class, Object[].class));
+        } catch(ReflectiveOperationException | RuntimeException exception) {
+            throw new IllegalArgumentException("Record " + type.getName() + " is not accessible: " + exception.getMessage(), exception);
+        }
+
+        components = resolved;
+    }
+
+    private static Component component(Class<?> componentType, MethodHandle accessor) {
+        if(componentType == int.class) return new IntComponent(accessor);
+        if(componentType == float.class) return new FloatComponent(accessor);
+        if(componentType == long.class) return new LongComponent(accessor);
+        if(componentType == double.class) return new DoubleComponent(accessor);
+        if(componentType == boolean.class) return new BooleanComponent(accessor);
+        if(componentType == byte.class) return new ByteComponent(accessor);
+        if(componentType == short.class) return new ShortComponent(accessor);
+        if(componentType == char.class) return new CharComponent(accessor);
+
+        return new ObjectComponent(accessor, value(componentType));
+    }
+
+    // Codec for a reference type (component, array element).
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static GinetSchema<Object> value(Class<?> valueType) {
+        if(valueType == String.class) return new StringSchema();
+        if(valueType == byte[].class) return new BytesSchema();
+        if(valueType.isEnum()) return new EnumSchema(valueType.getEnumConstants());
+        if(valueType.isRecord()) return new NullableSchema(of((Class<? extends Record>) valueType));
+        if(valueType.isArray()) return new ArraySchema(valueType.getComponentType());
+
+        assert_t(true, "Unsupported record component type " + valueType.getName());
+
+        return null;
+    }
+
+    @Override
+    public void write(R value, GinetWriter writer) {
+        try {
+            for(Component component : components) component.write(value, writer);
+        } catch(RuntimeException | Error exception) {
+            throw exception;
+        } catch(Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R read(GinetReader reader) {
+        Object[] arguments = new Object[components.length];
+
+        for(int i = 0; i < arguments.length; i++) arguments[i] = components[i].read(reader);
+
+        try {
+            return (R) (Object) constructor.invokeExact(arguments);
+        } catch(RuntimeException | Error exception) {
+            throw exception;
+        } catch(Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Get record class.
+     */
+    public Class<R> getType() {
+        return type;
+    }
+
+    private abstract static class Component {
+        protected final MethodHandle accessor;
+
+        private Component(MethodHandle accessor_) {
+            accessor = accessor_;
+        }
+
+        abstract void write(Object record, GinetWriter writer) throws Throwable;
+
+        // Primitive values are boxed for the canonical constructor.
+        abstract Object read(GinetReader reader);
+    }
+
+    private static class IntComponent extends Component {
+        private IntComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeVarInt((int) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return reader.readVarInt();
+        }
+    }
+
+    private static class LongComponent extends Component {
+        private LongComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeVarLong((long) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return reader.readVarLong();
+        }
+    }
+
+    private static class FloatComponent extends Component {
+        private FloatComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeFloat((float) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return reader.readFloat();
+        }
+    }
+
+    private static class DoubleComponent extends Component {
+        private DoubleComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeDouble((double) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return reader.readDouble();
+        }
+    }
+
+    private static class BooleanComponent extends Component {
+        private BooleanComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeBoolean((boolean) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return reader.readBoolean();
+        }
+    }
+
+    private static class ByteComponent extends Component {
+        private ByteComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeByte((byte) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return reader.readByte();
+        }
+    }
+
+    private static class ShortComponent extends Component {
+        private ShortComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeVarInt((short) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return (short) reader.readVarInt();
+        }
+    }
+
+    private static class CharComponent extends Component {
+        private CharComponent(MethodHandle accessor_) {
+            super(accessor_);
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            writer.writeUnsignedVarInt((char) accessor.invokeExact(record));
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return (char) reader.readUnsignedVarInt();
+        }
+    }
+
+    private static class ObjectComponent extends Component {
+        private final GinetSchema<Object> schema;
+
+        private ObjectComponent(MethodHandle accessor_, GinetSchema<Object> schema_) {
+            super(accessor_);
+
+            schema = schema_;
+        }
+
+        @Override
+        void write(Object record, GinetWriter writer) throws Throwable {
+            schema.write((Object) accessor.invokeExact(record), writer);
+        }
+
+        @Override
+        Object read(GinetReader reader) {
+            return schema.read(reader);
+        }
+    }
+
+    private static class StringSchema implements GinetSchema<Object> {
+        @Override
+        public void write(Object value, GinetWriter writer) {
+            writer.writeString((String) value);
+        }
+
+        @Override
+        public Object read(GinetReader reader) {
+            return reader.readString();
+        }
+    }
+
+    private static class BytesSchema implements GinetSchema<Object> {
+        @Override
+        public void write(Object value, GinetWriter writer) {
+            writer.writeBytes((byte[]) value);
+        }
+
+        @Override
+        public Object read(GinetReader reader) {
+            return reader.readBytes();
+        }
+    }
+
+    private static class EnumSchema implements GinetSchema<Object> {
+        private final Object[] constants;
+
+        private EnumSchema(Object[] constants_) {
+            constants = constants_;
+        }
+
+        // Ordinal + 1, 0 for null.
+        @Override
+        public void write(Object value, GinetWriter writer) {
+            writer.writeUnsignedVarInt(value == null ? 0 : ((Enum<?>) value).ordinal() + 1);
+        }
+
+        @Override
+        public Object read(GinetReader reader) {
+            int ordinal = reader.readUnsignedVarInt() - 1;
+
+            assert_t(ordinal < -1 || ordinal >= constants.length, "Unknown enum ordinal");
+
+            return ordinal == -1 ? null : constants[ordinal];
+        }
+    }
+
+    private static class NullableSchema<T> implements GinetSchema<Object> {
+        private final GinetSchema<T> schema;
+
+        private NullableSchema(GinetSchema<T> schema_) {
+            schema = schema_;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(Object value, GinetWriter writer) {
+            writer.writeBoolean(value != null);
+
+            if(value != null) schema.write((T) value, writer);
+        }
+
+        @Override
+        public Object read(GinetReader reader) {
+            return reader.readBoolean() ? schema.read(reader) : null;
+        }
+    }
+
+    // Arrays: length + 1 (0 for null), then elements; primitive arrays are written without boxing.
+    private static class ArraySchema implements GinetSchema<Object> {
+        private final Class<?> elementType;
+
+        private final GinetSchema<Object> elementSchema;
+
+        private ArraySchema(Class<?> elementType_) {
+            elementType = elementType_;
+
+            elementSchema = elementType.isPrimitive() ? null : value(elementType);
+        }
+
+        @Override
+        public void write(Object value, GinetWriter writer) {
+            if(value == null) {
+                writer.writeUnsignedVarInt(0);
+
+                return;
+            }
+
+            int length = Array.getLength(value);
+
+            writer.writeUnsignedVarInt(length + 1);
+
+            if(elementType == int.class) {
+                for(int element : (int[]) value) writer.writeVarInt(element);
+            } else if(elementType == float.class) {
+                for(float element : (float[]) value) writer.writeFloat(element);
+            } else if(elementType == long.class) {
+                for(long element : (long[]) value) writer.writeVarLong(element);
+            } else if(elementType == double.class) {
+                for(double element : (double[]) value) writer.writeDouble(element);
+            } else if(elementType == boolean.class) {
+                for(boolean element : (boolean[]) value) writer.writeBoolean(element);
+            } else if(elementType == short.class) {
+                for(short element : (short[]) value) writer.writeVarInt(element);
+            } else if(elementType == char.class) {
+                for(char element : (char[]) value) writer.writeUnsignedVarInt(element);
+            } else {
+                for(Object element : (Object[]) value) elementSchema.write(element, writer);
+            }
+        }
+
+        @Override
+        public Object read(GinetReader reader) {
+            int length = reader.readLength();
+
+            if(length < 0) return null;
+
+            if(elementType == int.class) {
+                int[] array = new int[length];
+
+                for(int i = 0; i < length; i++) array[i] = reader.readVarInt();
+
+                return array;
+            } else if(elementType == float.class) {
+                float[] array = new float[length];
+
+                for(int i = 0; i < length; i++) array[i] = reader.readFloat();
+
+                return array;
+            } else if(elementType == long.class) {
+                long[] array = new long[length];
+
+                for(int i = 0; i < length; i++) array[i] = reader.readVarLong();
+
+                return array;
+            } else if(elementType == double.class) {
+                double[] array = new double[length];
+
+                for(int i = 0; i < length; i++) array[i] = reader.readDouble();
+
+                return array;
+            } else if(elementType == boolean.class) {
+                boolean[] array = new boolean[length];
+
+                for(int i = 0; i < length; i++) array[i] = reader.readBoolean();
+
+                return array;
+            } else if(elementType == short.class) {
+                short[] array = new short[length];
+
+                for(int i = 0; i < length; i++) array[i] = (short) reader.readVarInt();
+
+                return array;
+            } else if(elementType == char.class) {
+                char[] array = new char[length];
+
+                for(int i = 0; i < length; i++) array[i] = (char) reader.readUnsignedVarInt();
+
+                return array;
+            }
+
+            Object[] array = (Object[]) Array.newInstance(elementType, length);
+
+            for(int i = 0; i < length; i++) array[i] = elementSchema.read(reader);
+
+            return array;
+        }
+    }
+}
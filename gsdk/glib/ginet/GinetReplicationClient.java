@@ -0,0 +1,131 @@
+package gsdk.glib.ginet;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * GinetReplicationClient -
+ *
+ * Receiving side of GinetReplicationServer: applies deltas to the snapshots they were encoded against
+ * and keeps the newest state. Every applied sequence should be sent back to the server as acknowledgement.
+ *
+ * @see GinetReplicationServer
+ */
+public class GinetReplicationClient {
+    private final GinetSnapshot[] history = new GinetSnapshot[GinetSnapshot.HISTORY];
+
+    private GinetSnapshot latest = GinetSnapshot.EMPTY;
+
+    /**
+     * Apply received delta, returns sequence to acknowledge or -1 if baseline is unknown
+     * or delta is malformed (server sends full state when acknowledgements stop).
+     *
+     * @param delta Delta from GinetReplicationServer.encode (remaining bytes, position is not changed).
+     */
+    public synchronized int receive(ByteBuffer delta) {
+        GinetBitReader reader = new GinetBitReader(delta.duplicate());
+
+        try {
+            int sequence = GinetSnapshot.sequence(reader);
+
+            if(sequence < 0) return -1;
+
+            GinetSnapshot known = history[sequence & (GinetSnapshot.HISTORY - 1)];
+
+            // Duplicate: acknowledge again, ack may have been lost.
+            if(known != null && known.sequence == sequence) return sequence;
+
+            int baselineSequence = GinetSnapshot.baseline(reader, sequence);
+
+            GinetSnapshot baseline = GinetSnapshot.EMPTY;
+
+            if(baselineSequence != -1) {
+                baseline = history[baselineSequence & (GinetSnapshot.HISTORY - 1)];
+
+                if(baseline == null || baseline.sequence != baselineSequence) return -1;
+            }
+
+            GinetSnapshot snapshot = GinetSnapshot.decode(reader, sequence, baseline);
+
+            if(snapshot == null) return -1;
+
+            history[sequence & (GinetSnapshot.HISTORY - 1)] = snapshot;
+
+            // Late snapshot is kept as baseline only.
+            if(sequence > latest.sequence) latest = snapshot;
+
+            return sequence;
+        } catch(BufferUnderflowException malformed) {
+            return -1;
+        }
+    }
+
+    /**
+     * Get newest applied sequence (-1 before first snapshot).
+     */
+    public synchronized int getSequence() {
+        return latest.sequence;
+    }
+
+    /**
+     * Is entity exists.
+     *
+     * @param entityId Entity id.
+     */
+    public synchronized boolean contains(int entityId) {
+        return latest.get(entityId) != null;
+    }
+
+    /**
+     * Get entity field.
+     *
+     * @param entityId Entity id.
+     * @param field Field index.
+     */
+    public synchronized int get(int entityId, int field) {
+        int[] fields = latest.get(entityId);
+
+        assert_t(fields == null, "Entity does not exist");
+
+        return fields[field];
+    }
+
+    /**
+     * Get entity float field.
+     *
+     * @param entityId Entity id.
+     * @param field Field index.
+     */
+    public float getFloat(int entityId, int field) {
+        return Float.intBitsToFloat(get(entityId, field));
+    }
+
+    /**
+     * Get entity fields (copy).
+     *
+     * @param entityId Entity id.
+     */
+    public synchronized int[] getFields(int entityId) {
+        int[] fields = latest.get(entityId);
+
+        assert_t(fields == null, "Entity does not exist");
+
+        return fields.clone();
+    }
+
+    /**
+     * Get entity ids, ascending (copy).
+     */
+    public synchronized int[] getEntities() {
+        return latest.ids.clone();
+    }
+
+    /**
+     * Get entities count.
+     */
+    public synchronized int getEntityCount() {
+        return latest.ids.length;
+    }
+}
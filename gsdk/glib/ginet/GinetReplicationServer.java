@@ -0,0 +1,267 @@
+package gsdk.glib.ginet;
+
+import java.nio.ByteBuffer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * GinetReplicationServer -
+ *
+ * Snapshot replication of entity state for Game Immediate mode Networking (Ginet), transport independent.
+ * Entities are integer ids with a fixed number of integer fields (floats are stored by their bits). Every
+ * tick the state is captured as a numbered snapshot, and each client is sent only what changed since the
+ * snapshot it last acknowledged, bit-packed (unchanged entities and fields cost nothing). Client without
+ * an acknowledged snapshot in history (new client, or long loss) gets full state.<br>
+ *
+ * Typical tick: set changed fields, snapshot(), for each client send encode(client) (unreliable channel is enough),
+ * call acknowledge(client, sequence) when client answers with sequence returned by GinetReplicationClient.receive.
+ *
+ * @param <C> Client type (GinetServerClient, GinetServerClientUDP, ...).
+ * @see GinetReplicationClient
+ */
+public class GinetReplicationServer<C> {
+    /**
+     * Snapshots kept for delta baselines.
+     */
+    public static final int HISTORY = GinetSnapshot.HISTORY;
+
+    private final HashMap<Integer, int[]> state = new HashMap<>();
+
+    // Ids whose field arrays were copied since last snapshot, other arrays are shared with it.
+    private final HashSet<Integer> owned = new HashSet<>();
+
+    private final GinetSnapshot[] history = new GinetSnapshot[HISTORY];
+
+    private GinetSnapshot latest = null;
+
+    private int sequence = -1;
+
+    private final HashMap<C, Integer> acknowledged = new HashMap<>();
+
+    // Encoded deltas of latest snapshot by baseline sequence: clients at the same baseline share one encoding.
+    private final HashMap<Integer, ByteBuffer> encoded = new HashMap<>();
+
+    private final GinetBitWriter writer = new GinetBitWriter();
+
+    private long fullStates = 0, deltas = 0;
+
+    /**
+     * Create or replace entity.
+     *
+     * @param entityId Entity id.
+     * @param fields Entity fields.
+     */
+    public synchronized void put(int entityId, int... fields) {
+        assert_t(fields.length > GinetSnapshot.MAX_FIELDS, "Entity can not have more than 1024 fields");
+
+        if(Arrays.equals(state.get(entityId), fields)) return;
+
+        state.put(entityId, fields.clone());
+
+        owned.add(entityId);
+    }
+
+    /**
+     * Set entity field.
+     *
+     * @param entityId Entity id.
+     * @param field Field index.
+     * @param value Field value.
+     */
+    public synchronized void set(int entityId, int field, int value) {
+        int[] fields = state.get(entityId);
+
+        assert_t(fields == null, "Entity does not exist");
+
+        if(fields[field] == value) return;
+
+        if(owned.add(entityId)) {
+            fields = fields.clone();
+
+            state.put(entityId, fields);
+        }
+
+        fields[field] = value;
+    }
+
+    /**
+     * Set entity float field.
+     *
+     * @param entityId Entity id.
+     * @param field Field index.
+     * @param value Field value.
+     */
+    public void setFloat(int entityId, int field, float value) {
+        set(entityId, field, Float.floatToIntBits(value));
+    }
+
+    /**
+     * Remove entity.
+     *
+     * @param entityId Entity id.
+     */
+    public synchronized void remove(int entityId) {
+        state.remove(entityId);
+
+        owned.remove(entityId);
+    }
+
+    /**
+     * Get entity field.
+     *
+     * @param entityId Entity id.
+     * @param field Field index.
+     */
+    public synchronized int get(int entityId, int field) {
+        int[] fields = state.get(entityId);
+
+        assert_t(fields == null, "Entity does not exist");
+
+        return fields[field];
+    }
+
+    /**
+     * Is entity exists.
+     *
+     * @param entityId Entity id.
+     */
+    public synchronized boolean contains(int entityId) {
+        return state.containsKey(entityId);
+    }
+
+    /**
+     * Capture current state as next snapshot, returns its sequence.
+     */
+    public synchronized int snapshot() {
+        int[] ids = new int[state.size()];
+
+        int count = 0;
+
+        for(int id : state.keySet()) ids[count++] = id;
+
+        Arrays.sort(ids);
+
+        int[][] fields = new int[ids.length][];
+
+        for(int i = 0; i < ids.length; i++) fields[i] = state.get(ids[i]);
+
+        latest = new GinetSnapshot(++sequence, ids, fields);
+
+        history[sequence & (HISTORY - 1)] = latest;
+
+        owned.clear();
+        encoded.clear();
+
+        return sequence;
+    }
+
+    /**
+     * Get delta of latest snapshot for client (full state if client has no usable baseline), or null
+     * if client already acknowledged latest snapshot. Buffer is shared and read-only.
+     *
+     * @param client Client.
+     */
+    public synchronized ByteBuffer encode(C client) {
+        assert_t(latest == null, "No snapshot to encode");
+
+        GinetSnapshot baseline = baseline(acknowledged.get(client));
+
+        if(baseline == latest) return null;
+
+        ByteBuffer delta = encoded.get(baseline.sequence);
+
+        if(delta == null) {
+            writer.reset();
+
+            latest.encode(baseline, writer);
+
+            delta = ByteBuffer.wrap(writer.toByteArray()).asReadOnlyBuffer();
+
+            encoded.put(baseline.sequence, delta);
+        }
+
+        if(baseline == GinetSnapshot.EMPTY) fullStates++; else deltas++;
+
+        return delta.duplicate();
+    }
+
+    private GinetSnapshot baseline(Integer acked) {
+        if(acked == null || sequence - acked >= HISTORY) return GinetSnapshot.EMPTY;
+
+        GinetSnapshot baseline = history[acked & (HISTORY - 1)];
+
+        return baseline != null && baseline.sequence == acked ? baseline : GinetSnapshot.EMPTY;
+    }
+
+    /**
+     * Client received snapshot (older or unknown sequences are ignored).
+     *
+     * @param client Client.
+     * @param acknowledgedSequence Sequence returned by GinetReplicationClient.receive.
+     */
+    public synchronized void acknowledge(C client, int acknowledgedSequence) {
+        if(acknowledgedSequence < 0 || acknowledgedSequence > sequence) return;
+
+        Integer acked = acknowledged.get(client);
+
+        if(acked == null || acknowledgedSequence > acked) acknowledged.put(client, acknowledgedSequence);
+    }
+
+    /**
+     * Forget client (on disconnection).
+     *
+     * @param client Client.
+     */
+    public synchronized void removeClient(C client) {
+        acknowledged.remove(client);
+    }
+
+    /**
+     * Get last snapshot acknowledged by client (-1 if none).
+     *
+     * @param client Client.
+     */
+    public synchronized int getAcknowledged(C client) {
+        return acknowledged.getOrDefault(client, -1);
+    }
+
+    /**
+     * Get acknowledged sequences of clients.
+     */
+    public synchronized Map<C, Integer> getAcknowledged() {
+        return new HashMap<>(acknowledged);
+    }
+
+    /**
+     * Get latest snapshot sequence (-1 before first snapshot).
+     */
+    public synchronized int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Get entities count.
+     */
+    public synchronized int getEntityCount() {
+        return state.size();
+    }
+
+    /**
+     * Get full states encoded for clients.
+     */
+    public synchronized long getFullStates() {
+        return fullStates;
+    }
+
+    /**
+     * Get deltas encoded for clients.
+     */
+    public synchronized long getDeltas() {
+        return deltas;
+    }
+}
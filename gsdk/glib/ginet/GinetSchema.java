@@ -0,0 +1,25 @@
+package gsdk.glib.ginet;
+
+/**
+ * Binary codec of a message type. Hand-written schemas call GinetWriter / GinetReader directly
+ * (fastest, nothing allocated but decoded objects); GinetRecordSchema derives one from a record class.
+ *
+ * @param <T> Message type.
+ * @see GinetRecordSchema
+ */
+public interface GinetSchema<T> {
+    /**
+     * Encode value.
+     *
+     * @param value Value.
+     * @param writer Writer.
+     */
+    void write(T value, GinetWriter writer);
+
+    /**
+     * Decode value.
+     *
+     * @param reader Reader.
+     */
+    T read(GinetReader reader);
+}
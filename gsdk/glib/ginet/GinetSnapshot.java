@@ -0,0 +1,219 @@
+package gsdk.glib.ginet;
+
+import java.util.Arrays;
+
+// Immutable replicated state at one sequence: entity ids sorted ascending, fields[i] belongs to ids[i].
+// Field arrays of unchanged entities are shared between snapshots, so equal references mean equal state.
+//
+// Delta layout (bits): [32 sequence][1 full][5 baseline distance - 1, if not full]
+// then per changed entity [1 = more][var id gap][2 op] and [1 = 0] at the end.
+// CHANGE: [1 changed][var zigzag(value - baseline)] per field, CREATE: [var count][var zigzag(value)] per field, REMOVE: nothing.
+class GinetSnapshot {
+    protected static final GinetSnapshot EMPTY = new GinetSnapshot(-1, new int[0], new int[0][]);
+
+    protected static final int HISTORY = 32;
+
+    protected static final int MAX_FIELDS = 1024;
+
+    private static final int CHANGE = 0, CREATE = 1, REMOVE = 2;
+
+    protected final int sequence;
+
+    protected final int[] ids;
+
+    protected final int[][] fields;
+
+    protected GinetSnapshot(int sequence_, int[] ids_, int[][] fields_) {
+        sequence = sequence_;
+
+        ids = ids_;
+        fields = fields_;
+    }
+
+    /**
+     * Get entity fields or null.
+     *
+     * @param id Entity id.
+     */
+    protected int[] get(int id) {
+        int index = Arrays.binarySearch(ids, id);
+
+        return index < 0 ? null : fields[index];
+    }
+
+    /**
+     * Write this snapshot as delta against baseline (EMPTY for full state).
+     *
+     * @param baseline Snapshot known by receiver.
+     * @param writer Writer.
+     */
+    protected void encode(GinetSnapshot baseline, GinetBitWriter writer) {
+        writer.write(sequence, 32);
+
+        writer.write(baseline == EMPTY ? 1 : 0, 1);
+
+        if(baseline != EMPTY) writer.write(sequence - baseline.sequence - 1, 5);
+
+        int i = 0, j = 0;
+
+        long previous = Integer.MIN_VALUE - 1L;
+
+        while(i < baseline.ids.length || j < ids.length) {
+            if(j == ids.length || (i < baseline.ids.length && baseline.ids[i] < ids[j])) {
+                previous = entity(writer, previous, baseline.ids[i++], REMOVE);
+
+                continue;
+            }
+
+            if(i == baseline.ids.length || ids[j] < baseline.ids[i]) {
+                previous = entity(writer, previous, ids[j], CREATE);
+
+                create(writer, fields[j++]);
+
+                continue;
+            }
+
+            int[] before = baseline.fields[i++], after = fields[j];
+
+            if(before != after && !Arrays.equals(before, after)) {
+                if(before.length == after.length) {
+                    previous = entity(writer, previous, ids[j], CHANGE);
+
+                    for(int field = 0; field < after.length; field++) {
+                        boolean changed = before[field] != after[field];
+
+                        writer.write(changed ? 1 : 0, 1);
+
+                        if(changed) writer.writeSigned(after[field] - before[field]);
+                    }
+                } else {
+                    previous = entity(writer, previous, ids[j], CREATE);
+
+                    create(writer, after);
+                }
+            }
+
+            j++;
+        }
+
+        writer.write(0, 1);
+    }
+
+    private static long entity(GinetBitWriter writer, long previous, int id, int op) {
+        writer.write(1, 1);
+        writer.writeVar(id - previous - 1);
+        writer.write(op, 2);
+
+        return id;
+    }
+
+    private static void create(GinetBitWriter writer, int[] values) {
+        writer.writeVar(values.length);
+
+        for(int value : values) writer.writeSigned(value);
+    }
+
+    /**
+     * Get sequence of encoded delta.
+     *
+     * @param reader Reader at delta start.
+     */
+    protected static int sequence(GinetBitReader reader) {
+        return (int) reader.read(32);
+    }
+
+    /**
+     * Get baseline sequence of encoded delta (-1 for full state).
+     *
+     * @param reader Reader after sequence.
+     * @param sequence Delta sequence.
+     */
+    protected static int baseline(GinetBitReader reader, int sequence) {
+        return reader.read(1) == 1 ? -1 : sequence - (int) reader.read(5) - 1;
+    }
+
+    /**
+     * Apply delta to baseline, returns null if delta is malformed.
+     *
+     * @param reader Reader after header.
+     * @param sequence Delta sequence.
+     * @param baseline Baseline snapshot (EMPTY for full state).
+     */
+    protected static GinetSnapshot decode(GinetBitReader reader, int sequence, GinetSnapshot baseline) {
+        int capacity = Math.max(16, baseline.ids.length + 16);
+
+        int[] ids = new int[capacity];
+        int[][] fields = new int[capacity][];
+
+        int count = 0, i = 0;
+
+        long previous = Integer.MIN_VALUE - 1L;
+
+        while(reader.read(1) == 1) {
+            long next = previous + 1 + reader.readVar();
+
+            if(next > Integer.MAX_VALUE) return null;
+
+            int id = (int) next, op = (int) reader.read(2);
+
+            previous = id;
+
+            // Entities up to changed one are kept as they are in baseline.
+            while(i < baseline.ids.length && baseline.ids[i] < id) {
+                if(count + 1 >= ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                    fields = Arrays.copyOf(fields, fields.length * 2);
+                }
+
+                ids[count] = baseline.ids[i];
+                fields[count++] = baseline.fields[i++];
+            }
+
+            int[] before = i < baseline.ids.length && baseline.ids[i] == id ? baseline.fields[i++] : null;
+
+            int[] after;
+
+            if(op == REMOVE) {
+                if(before == null) return null;
+
+                continue;
+            } else if(op == CHANGE) {
+                if(before == null) return null;
+
+                after = before.clone();
+
+                for(int field = 0; field < after.length; field++) {
+                    if(reader.read(1) == 1) after[field] += reader.readSigned();
+                }
+            } else if(op == CREATE) {
+                long length = reader.readVar();
+
+                if(length > MAX_FIELDS) return null;
+
+                after = new int[(int) length];
+
+                for(int field = 0; field < after.length; field++) after[field] = reader.readSigned();
+            } else {
+                return null;
+            }
+
+            if(count + 1 >= ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                fields = Arrays.copyOf(fields, fields.length * 2);
+            }
+
+            ids[count] = id;
+            fields[count++] = after;
+        }
+
+        int rest = baseline.ids.length - i;
+
+        ids = Arrays.copyOf(ids, count + rest);
+        fields = Arrays.copyOf(fields, count + rest);
+
+        System.arraycopy(baseline.ids, i, ids, count, rest);
+        System.arraycopy(baseline.fields, i, fields, count, rest);
+
+        return new GinetSnapshot(sequence, ids, fields);
+    }
+}
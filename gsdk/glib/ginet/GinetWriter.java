@@ -0,0 +1,258 @@
+package gsdk.glib.ginet;
+
+import java.nio.ByteBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Binary writer for GinetSchema codecs: varints, floats, UTF-8 strings and raw bytes into a growable array.
+ * Writer is reused between messages (reset), so steady state encoding allocates nothing.
+ *
+ * @see GinetReader
+ */
+public class GinetWriter {
+    private byte[] bytes;
+
+    private int length = 0;
+
+    /**
+     * Initialize writer.
+     */
+    public GinetWriter() {
+        this(256);
+    }
+
+    /**
+     * Initialize writer.
+     *
+     * @param capacity Initial capacity (bytes).
+     */
+    public GinetWriter(int capacity) {
+        bytes = new byte[Math.max(16, capacity)];
+    }
+
+    private void ensure(int count) {
+        if(length + count > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+    }
+
+    /**
+     * Write boolean (1 byte).
+     *
+     * @param value Value.
+     */
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write byte.
+     *
+     * @param value Value.
+     */
+    public void writeByte(int value) {
+        ensure(1);
+
+        bytes[length++] = (byte) value;
+    }
+
+    /**
+     * Write unsigned varint (7 bits per byte, 1 - 5 bytes).
+     *
+     * @param value Value (treated as unsigned).
+     */
+    public void writeUnsignedVarInt(int value) {
+        ensure(5);
+
+        while((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+
+            value >>>= 7;
+        }
+
+        bytes[length++] = (byte) value;
+    }
+
+    /**
+     * Write signed varint (zigzag, small magnitudes take 1 byte).
+     *
+     * @param value Value.
+     */
+    public void writeVarInt(int value) {
+        writeUnsignedVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write signed varlong (zigzag, 1 - 10 bytes).
+     *
+     * @param value Value.
+     */
+    public void writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+
+        ensure(10);
+
+        while((zigzag & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+
+            zigzag >>>= 7;
+        }
+
+        bytes[length++] = (byte) zigzag;
+    }
+
+    /**
+     * Write float (4 bytes, big-endian).
+     *
+     * @param value Value.
+     */
+    public void writeFloat(float value) {
+        writeFixedInt(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Write double (8 bytes, big-endian).
+     *
+     * @param value Value.
+     */
+    public void writeDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+
+        writeFixedInt((int) (bits >>> 32));
+        writeFixedInt((int) bits);
+    }
+
+    private void writeFixedInt(int value) {
+        ensure(4);
+
+        bytes[length++] = (byte) (value >>> 24);
+        bytes[length++] = (byte) (value >>> 16);
+        bytes[length++] = (byte) (value >>> 8);
+        bytes[length++] = (byte) value;
+    }
+
+    /**
+     * Write UTF-8 string prefixed with byte length + 1 (0 for null), encoded without temporary arrays.
+     *
+     * @param value String or null.
+     */
+    public void writeString(String value) {
+        if(value == null) {
+            writeUnsignedVarInt(0);
+
+            return;
+        }
+
+        int chars = value.length(), size = 0;
+
+        for(int i = 0; i < chars; i++) {
+            char chr = value.charAt(i);
+
+            if(chr < 0x80) {
+                size++;
+            } else if(chr < 0x800) {
+                size += 2;
+            } else if(!Character.isSurrogate(chr)) {
+                size += 3;
+            } else if(paired(value, i)) {
+                size += 4;
+
+                i++;
+            } else {
+                size++;
+            }
+        }
+
+        writeUnsignedVarInt(size + 1);
+
+        ensure(size);
+
+        for(int i = 0; i < chars; i++) {
+            char chr = value.charAt(i);
+
+            if(chr < 0x80) {
+                bytes[length++] = (byte) chr;
+            } else if(chr < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (chr >> 6));
+                bytes[length++] = (byte) (0x80 | (chr & 0x3F));
+            } else if(!Character.isSurrogate(chr)) {
+                bytes[length++] = (byte) (0xE0 | (chr >> 12));
+                bytes[length++] = (byte) (0x80 | ((chr >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (chr & 0x3F));
+            } else if(paired(value, i)) {
+                int codePoint = Character.toCodePoint(chr, value.charAt(++i));
+
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogate is written as '?', like String.getBytes does.
+                bytes[length++] = '?';
+            }
+        }
+    }
+
+    private static boolean paired(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    /**
+     * Write byte array prefixed with length + 1 (0 for null).
+     *
+     * @param value Bytes or null.
+     */
+    public void writeBytes(byte[] value) {
+        if(value == null) {
+            writeUnsignedVarInt(0);
+
+            return;
+        }
+
+        writeUnsignedVarInt(value.length + 1);
+
+        writeRaw(value, 0, value.length);
+    }
+
+    /**
+     * Write bytes without length prefix.
+     *
+     * @param value Bytes.
+     * @param offset Offset.
+     * @param count Bytes count.
+     */
+    public void writeRaw(byte[] value, int offset, int count) {
+        ensure(count);
+
+        System.arraycopy(value, offset, bytes, length, count);
+
+        length += count;
+    }
+
+    /**
+     * Get written bytes as buffer (no copy, valid until next write or reset).
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(bytes, 0, length);
+    }
+
+    /**
+     * Get copy of written bytes.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * Get written bytes count.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Clear written bytes (capacity is kept).
+     */
+    public void reset() {
+        length = 0;
+    }
+}
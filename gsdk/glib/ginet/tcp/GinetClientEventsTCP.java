@@ -1,5 +1,7 @@
 package gsdk.glib.ginet.tcp;
 
+import java.nio.ByteBuffer;
+
 /**
  * Networking TCP client events.
  */
@@ -52,4 +54,15 @@ public interface GinetClientEventsTCP {
      * Triggered when connection time is out.
      */
     void timeout(GinetClientTCP client);
+
+    /**
+     * Triggered when binary event is toggled by server (binary protocol only).
+     * Payload is a slice of connection's read buffer valid only during the call (a copy when callback executor is set).
+     *
+     * @param id Event id.
+     * @param payload Event payload.
+     * @param server Server reference.
+     * @param client Client reference.
+     */
+    default void binaryEvent(int id, ByteBuffer payload, GinetClientServer server, GinetClientTCP client) {}
 }
@@ -0,0 +1,92 @@
+package gsdk.glib.ginet.tcp;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Connected clients of GinetServerTCP indexed by identity, identifier and IP, plus visitors and resumable sessions by token.
+// All lookups are O(1) hash lookups; reads never lock, connects and disconnects do not copy the client set.
+class GinetClientRegistry {
+    private final Set<GinetServerClient> clients = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentHashMap<String, GinetServerClient> identifiers = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Set<GinetServerClient>> addresses = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, String> visitors = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, GinetSession> sessions = new ConcurrentHashMap<>();
+
+    protected void add(GinetServerClient client) {
+        clients.add(client);
+
+        identifiers.put(client.getClientIdentifier(), client);
+
+        addresses.compute(client.getIP(), (ip, set) -> {
+            if(set == null) set = ConcurrentHashMap.newKeySet();
+
+            set.add(client);
+
+            return set;
+        });
+    }
+
+    // Returns false if client was not registered (removal paths may race).
+    protected boolean remove(GinetServerClient client) {
+        if(!clients.remove(client)) return false;
+
+        identifiers.remove(client.getClientIdentifier(), client);
+
+        addresses.computeIfPresent(client.getIP(), (ip, set) -> {
+            set.remove(client);
+
+            return set.isEmpty() ? null : set;
+        });
+
+        return true;
+    }
+
+    // Client took over identifier of a resumed session.
+    protected void rename(GinetServerClient client, String identifier) {
+        String previous = client.getClientIdentifier();
+
+        client.setClientIdentifier(identifier);
+
+        identifiers.remove(previous, client);
+
+        if(clients.contains(client)) identifiers.put(identifier, client);
+    }
+
+    protected boolean contains(GinetServerClient client) {
+        return client != null && clients.contains(client);
+    }
+
+    // Latest connected client with identifier (visitors from one IP share identifier).
+    protected GinetServerClient byIdentifier(String identifier) {
+        return identifier == null ? null : identifiers.get(identifier);
+    }
+
+    protected Collection<GinetServerClient> byIP(String ip) {
+        Set<GinetServerClient> set = addresses.get(ip);
+
+        return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+    }
+
+    protected Set<GinetServerClient> clients() {
+        return clients;
+    }
+
+    protected int size() {
+        return clients.size();
+    }
+
+    protected ConcurrentHashMap<String, String> visitors() {
+        return visitors;
+    }
+
+    protected ConcurrentHashMap<String, GinetSession> sessions() {
+        return sessions;
+    }
+}
@@ -2,10 +2,15 @@ package gsdk.glib.ginet.tcp;
 
 import java.net.Socket;
 
+import java.nio.ByteBuffer;
+
+import java.io.OutputStream;
 import java.io.PrintWriter;
 
 import java.io.IOException;
 
+import static gsdk.source.generic.Assert.assert_t;
+
 /**
  * Client representation of a server.
  */
@@ -14,10 +19,16 @@ public class GinetClientServer {
 
     private final PrintWriter out;
 
+    private final OutputStream rawOut;
+
+    private boolean binary = false;
+
     protected GinetClientServer(Socket server_) throws IOException {
         server = server_;
 
-        out = new PrintWriter(server.getOutputStream(), true);
+        rawOut = server.getOutputStream();
+
+        out = new PrintWriter(rawOut, true);
     }
 
     /**
@@ -25,8 +36,42 @@ public class GinetClientServer {
      *
      * @param data Data.
      */
-    public void answer(String data) {
-        if(validOut()) out.println(data);
+    public synchronized void answer(String data) {
+        if(validOut()) write(binary ? GinetProtocol.encodeData(data) : GinetProtocol.encodeLine(data));
+    }
+
+    synchronized void answer(String eventName, String data) {
+        if(validOut()) write(binary ? GinetProtocol.encodeEvent(eventName, data) : GinetProtocol.encodeLine(GinetProtocol.formatEvent(eventName, data)));
+    }
+
+    synchronized void answer(int eventId, ByteBuffer payload) {
+        assert_t(!binary, "binary events need binary protocol (see GinetProtocolMode)");
+
+        if(validOut()) write(GinetProtocol.encodeFrame(eventId, payload));
+    }
+
+    // Hello is written before connection is published, nothing else is sent until server answers it.
+    void requestBinary() {
+        write(GinetProtocol.encodeLine(GinetProtocol.HELLO_BINARY));
+    }
+
+    synchronized void setBinary() {
+        binary = true;
+    }
+
+    private void write(ByteBuffer message) {
+        try {
+            rawOut.write(message.array(), message.arrayOffset() + message.position(), message.remaining());
+        } catch(IOException ioExc) {
+            // Like PrintWriter: broken connection is reported by client's read loop.
+        }
+    }
+
+    /**
+     * Is binary protocol negotiated with server.
+     */
+    public synchronized boolean isBinary() {
+        return binary;
     }
 
     /**
@@ -8,11 +8,27 @@ import java.net.SocketTimeoutException;
 
 import java.net.BindException;
 
-import java.io.InputStreamReader;
-import java.io.BufferedReader;
+import java.nio.ByteBuffer;
+
+import java.io.InputStream;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.Executor;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static gsdk.source.generic.Assert.assert_t;
+
 /**
  * GinetClientTCP -
  *
@@ -33,6 +49,8 @@ import java.io.IOException;
  * - Initialize the client with server host, port, and connection timeout.<br>
  * - Connect to the server and manage the connection state.<br>
  * - Send data to the server and emit custom events.<br>
+ * - Call server RPC methods: many calls in flight, each answered through its own CompletableFuture.<br>
+ * - Reconnect and resume the server session of the previous connection.<br>
  * - Handle different events through the GinetClientEventsTCP interface.<br>
  * - Soft handling of critical situations.<br><br>
  *
@@ -52,7 +70,7 @@ import java.io.IOException;
  * @see <a href="https://en.wikipedia.org/wiki/Transmission_Control_Protocol">Transmission Control Protocol (Wikipedia).</a>
  */
 public class GinetClientTCP {
-    private Socket socket;
+    private volatile Socket socket;
 
     private final String host;
 
@@ -64,9 +82,21 @@ public class GinetClientTCP {
 
     private final GinetClientEventsTCP events;
 
-    private GinetClientServer serverRepr;
+    private final GinetProtocolMode protocol;
+
+    private final boolean virtualThread;
+
+    private final Executor callbackExecutor;
+
+    private volatile GinetClientServer serverRepr;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<String>> calls = new ConcurrentHashMap<>();
 
-    private boolean active;
+    private final AtomicLong nextCallId = new AtomicLong();
+
+    private volatile String sessionToken;
+
+    private volatile boolean active;
 
     /**
      * Initialize Game Immediate mode Networking client (TCP).
@@ -77,6 +107,52 @@ public class GinetClientTCP {
      * @param connectionTime Time client has to connect to the server.
      */
     public GinetClientTCP(GinetClientEventsTCP events_, String host_, int port_, int connectionTime) {
+        this(events_, host_, port_, connectionTime, GinetProtocolMode.TEXT, false, null);
+    }
+
+    /**
+     * Initialize Game Immediate mode Networking client (TCP).
+     *
+     * @param events_ Events handler.
+     * @param host_ Server host.
+     * @param port_ Server port.
+     * @param connectionTime Time client has to connect to the server (and to answer binary protocol request).
+     * @param protocol_ Requested wire protocol.
+     */
+    public GinetClientTCP(GinetClientEventsTCP events_, String host_, int port_, int connectionTime, GinetProtocolMode protocol_) {
+        this(events_, host_, port_, connectionTime, protocol_, false, null);
+    }
+
+    /**
+     * Initialize Game Immediate mode Networking client (TCP).
+     * Event callbacks are dispatched to callback executor instead of running on connection thread.
+     * Single-threaded executor (or game loop queue) keeps callbacks in order, pools may reorder them.
+     *
+     * @param events_ Events handler.
+     * @param host_ Server host.
+     * @param port_ Server port.
+     * @param connectionTime Time client has to connect to the server.
+     * @param virtualThread_ Run connection on virtual thread (Java 21+, platform thread on older JVMs).
+     * @param callbackExecutor_ Event callbacks executor (null to run callbacks on connection thread).
+     */
+    public GinetClientTCP(GinetClientEventsTCP events_, String host_, int port_, int connectionTime, boolean virtualThread_, Executor callbackExecutor_) {
+        this(events_, host_, port_, connectionTime, GinetProtocolMode.TEXT, virtualThread_, callbackExecutor_);
+    }
+
+    /**
+     * Initialize Game Immediate mode Networking client (TCP).
+     * Event callbacks are dispatched to callback executor instead of running on connection thread.
+     * Single-threaded executor (or game loop queue) keeps callbacks in order, pools may reorder them.
+     *
+     * @param events_ Events handler.
+     * @param host_ Server host.
+     * @param port_ Server port.
+     * @param connectionTime Time client has to connect to the server (and to answer binary protocol request).
+     * @param protocol_ Requested wire protocol.
+     * @param virtualThread_ Run connection on virtual thread (Java 21+, platform thread on older JVMs).
+     * @param callbackExecutor_ Event callbacks executor (null to run callbacks on connection thread).
+     */
+    public GinetClientTCP(GinetClientEventsTCP events_, String host_, int port_, int connectionTime, GinetProtocolMode protocol_, boolean virtualThread_, Executor callbackExecutor_) {
         host = host_;
         port = port_;
 
@@ -86,61 +162,210 @@ public class GinetClientTCP {
 
         events = events_;
 
-        active = true;
+        protocol = protocol_;
+
+        virtualThread = virtualThread_;
+
+        callbackExecutor = callbackExecutor_;
 
         connect();
     }
 
     private void connect() {
-        new Thread(() -> {
-            try {
-                socket = new Socket();
+        // Replaced before connection thread starts: thread of a previous connection sees it is not current anymore.
+        Socket connection = new Socket();
 
+        socket = connection;
+
+        active = true;
+
+        GinetThreads.start(() -> {
+            try {
                 try {
-                    socket.connect(inetAddress, timeout);
+                    connection.connect(inetAddress, timeout);
                 } catch(BindException bExc) {
-                    events.exception(bExc, this);
+                    exception(bExc);
                 } catch(SocketTimeoutException timeoutExc) {
-                    events.timeout(this);
+                    dispatch(() -> events.timeout(this));
                 }
 
-                if(socket.isConnected()) {
-                    serverRepr = new GinetClientServer(socket);
-
-                    events.connection(serverRepr, this);
-
-                    try(BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()))) {
-                        String data;
-
-                        try {
-                            while(active && (data = in.readLine()) != null) {
-                                if(data.startsWith("EV-BGN ")) {
-                                    String[] parts = data.substring(7, data.indexOf(" EV-END")).split("&&&");
-
-                                    events.event(parts[0].replace("EVENT-NAME", "").trim(), parts[1].replace("EVENT-DATA", "").trim(), serverRepr, this);
-                                } else {
-                                    events.receive(data, serverRepr, this);
-                                }
-                            }
-                        } catch(IOException ioExc) {
-                            if(ioExc.getMessage().equals("Connection reset")) {
-                                events.lost(this);
-                            } else {
-                                if(!ioExc.getMessage().equals("Connection closed") && active) {
-                                    events.exception(ioExc, this);
-                                }
-                            }
-                        }
-                    } catch(IOException ioExc) {
-                        events.exception(ioExc, this);
-                    } finally {
-                        disconnect();
+                if(connection.isConnected()) read(connection, new GinetClientServer(connection));
+            } catch(IOException ioExc) {
+                exception(ioExc);
+            }
+        }, virtualThread, "ginet-client-" + host + ":" + port);
+    }
+
+    private void read(Socket own, GinetClientServer server) {
+        Reader reader = new Reader(server);
+
+        try(InputStream in = own.getInputStream()) {
+            byte[] data = new byte[GinetStreamDecoder.READ_BUFFER_SIZE];
+
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+
+            try {
+                if(protocol == GinetProtocolMode.BINARY) {
+                    // Server answer is awaited for connection time, then text protocol is kept.
+                    own.setSoTimeout(timeout);
+
+                    server.requestBinary();
+                } else {
+                    reader.connected();
+                }
+
+                while(active) {
+                    int count;
+
+                    try {
+                        count = in.read(data);
+                    } catch(SocketTimeoutException timeoutExc) {
+                        if(!reader.negotiating) throw timeoutExc;
+
+                        reader.connected();
+
+                        continue;
                     }
+
+                    if(count < 0) break;
+
+                    reader.decoder.feed(buffer.limit(count).position(0), reader);
                 }
             } catch(IOException ioExc) {
-                events.exception(ioExc, this);
+                // Closed by disconnect or replaced by reconnect: nothing to report.
+                if(socket != own || own.isClosed()) return;
+
+                if("Connection reset".equals(ioExc.getMessage())) {
+                    dispatch(() -> events.lost(this));
+                } else {
+                    if(!"Connection closed".equals(ioExc.getMessage()) && active) {
+                        exception(ioExc);
+                    }
+                }
+            }
+        } catch(IOException ioExc) {
+            exception(ioExc);
+        } finally {
+            synchronized(this) {
+                if(socket == own) disconnect();
+            }
+        }
+    }
+
+    // Connection thread only: publishes connection once protocol is settled, text received while negotiating is delivered after it.
+    private class Reader implements GinetStreamDecoder.Handler {
+        private final GinetClientServer server;
+
+        private final GinetStreamDecoder decoder = new GinetStreamDecoder();
+
+        private final List<String> early = new ArrayList<>();
+
+        private boolean negotiating = true;
+
+        private Reader(GinetClientServer server_) {
+            server = server_;
+        }
+
+        private void connected() throws IOException {
+            negotiating = false;
+
+            server.getServer().setSoTimeout(0);
+
+            // First message of the connection: server resumes session of the token (or starts one) before anything else arrives.
+            String token = sessionToken;
+
+            server.answer(GinetProtocol.SESSION_EVENT, token == null ? "" : token);
+
+            serverRepr = server;
+
+            dispatch(() -> events.connection(server, GinetClientTCP.this));
+
+            for(String line : early) line(line);
+
+            early.clear();
+        }
+
+        @Override
+        public void line(String line) throws IOException {
+            if(negotiating) {
+                if(GinetProtocol.HELLO_BINARY_ACK.equals(line)) {
+                    server.setBinary();
+
+                    decoder.setBinary(true);
+
+                    connected();
+                } else {
+                    early.add(line);
+                }
+
+                return;
             }
-        }).start();
+
+            if(GinetProtocol.isEvent(line)) {
+                String[] event = GinetProtocol.parseEvent(line);
+
+                event(event[0], event[1], server);
+            } else {
+                dispatch(() -> events.receive(line, server, GinetClientTCP.this));
+            }
+        }
+
+        @Override
+        public void frame(int id, ByteBuffer payload) throws IOException {
+            if(id == GinetProtocol.ID_DATA) {
+                String data = GinetProtocol.decodeString(payload);
+
+                dispatch(() -> events.receive(data, server, GinetClientTCP.this));
+            } else if(id == GinetProtocol.ID_EVENT) {
+                String[] event = GinetProtocol.decodeEvent(payload);
+
+                event(event[0], event[1], server);
+            } else if(callbackExecutor == null) {
+                events.binaryEvent(id, payload, server, GinetClientTCP.this);
+            } else {
+                // Read buffer is reused after this call.
+                ByteBuffer copy = ByteBuffer.allocate(payload.remaining()).put(payload).flip();
+
+                callbackExecutor.execute(() -> events.binaryEvent(id, copy, server, GinetClientTCP.this));
+            }
+        }
+    }
+
+    private void event(String name, String data, GinetClientServer server) {
+        if(GinetProtocol.SESSION_EVENT.equals(name)) {
+            sessionToken = data.isEmpty() ? null : data;
+        } else if(GinetRpc.REPLY_EVENT.equals(name)) {
+            dispatch(() -> replied(data));
+        } else {
+            dispatch(() -> events.event(name, data, server, this));
+        }
+    }
+
+    private void replied(String data) {
+        String[] reply = GinetRpc.parse(data);
+
+        // Late replies of timed out calls are dropped.
+        CompletableFuture<String> call = reply == null ? null : calls.remove(GinetRpc.id(reply[0]));
+
+        if(call == null) return;
+
+        if(GinetRpc.OK.equals(reply[1])) {
+            call.complete(reply[2]);
+        } else {
+            call.completeExceptionally(new GinetRpcException(reply[2]));
+        }
+    }
+
+    private void exception(Exception exception) {
+        dispatch(() -> events.exception(exception, this));
+    }
+
+    private void dispatch(Runnable callback) {
+        if(callbackExecutor == null) {
+            callback.run();
+        } else {
+            callbackExecutor.execute(callback);
+        }
     }
 
     /**
@@ -161,7 +386,81 @@ public class GinetClientTCP {
      * @param data Event data.
      */
     public void emit(String eventName, String data) {
-        send("EV-BGN EVENT-NAME%s&&&EVENT-DATA%s EV-END".formatted(eventName, data));
+        if(socket != null && !socket.isClosed() && serverRepr != null && serverRepr.validOut()) {
+            serverRepr.answer(eventName, data);
+        }
+    }
+
+    /**
+     * Emit binary server event (binary protocol must be negotiated, see <code>GinetClientTCP::isBinary</code>).
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     */
+    public void emit(int eventId, ByteBuffer payload) {
+        if(socket != null && !socket.isClosed() && serverRepr != null && serverRepr.validOut()) {
+            serverRepr.answer(eventId, payload);
+        }
+    }
+
+    /**
+     * Call server RPC method (see <code>GinetServerTCP::handle</code>) with default timeout (10 s).
+     *
+     * @param method Method name.
+     * @param request Request.
+     */
+    public CompletableFuture<String> call(String method, String request) {
+        return call(method, request, GinetRpc.DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Call server RPC method. Calls are pipelined: they are sent at once and complete in any order as replies arrive.
+     * Future fails with GinetRpcException (server error, unknown method, connection closed) or TimeoutException.
+     *
+     * @param method Method name (no spaces).
+     * @param request Request.
+     * @param timeoutMillis Time (ms) to wait for reply.
+     */
+    public CompletableFuture<String> call(String method, String request, long timeoutMillis) {
+        assert_t(method.isEmpty() || method.indexOf(' ') >= 0, "RPC method name must be non-empty and without spaces");
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        GinetClientServer server = serverRepr;
+
+        if(!active || socket == null || socket.isClosed() || server == null || !server.validOut()) {
+            call.completeExceptionally(new GinetRpcException("Not connected"));
+
+            return call;
+        }
+
+        long id = nextCallId.getAndIncrement();
+
+        calls.put(id, call);
+
+        call.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((response, failure) -> calls.remove(id));
+
+        server.answer(GinetRpc.CALL_EVENT, GinetRpc.call(id, method, request));
+
+        // Disconnected meanwhile: pending calls may have been failed before this one was added.
+        if(!active) failCalls();
+
+        return call;
+    }
+
+    private void failCalls() {
+        for(Long id : calls.keySet()) {
+            CompletableFuture<String> call = calls.remove(id);
+
+            if(call != null) call.completeExceptionally(new GinetRpcException("Connection closed"));
+        }
+    }
+
+    /**
+     * Get RPC calls waiting for reply.
+     */
+    public int getPendingCalls() {
+        return calls.size();
     }
 
     /**
@@ -170,19 +469,45 @@ public class GinetClientTCP {
     public void disconnect() {
         active = false;
 
-        if(socket != null) {
-            events.disconnection(serverRepr, this);
+        failCalls();
+
+        // Captured first: disconnection callback may reconnect and replace them.
+        Socket current = socket;
+
+        GinetClientServer server = serverRepr;
+
+        if(current != null) {
+            dispatch(() -> events.disconnection(server, this));
 
             try {
-                socket.close();
+                current.close();
             } catch(IOException ioExc) {
-                events.exception(ioExc, this);
+                exception(ioExc);
             }
 
-            if(serverRepr != null) serverRepr.close();
+            if(server != null) server.close();
         }
     }
 
+    /**
+     * Connect to the server again (disconnects first if still connected). Server resumes session of the previous connection
+     * if it still keeps it (see <code>GinetServerTCP::setSessionGrace</code>), connection event is triggered again.
+     */
+    public synchronized void reconnect() {
+        if(active) disconnect();
+
+        serverRepr = null;
+
+        connect();
+    }
+
+    /**
+     * Get token of server session (null until server starts one), sent on reconnect to resume the session.
+     */
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
     /**
      * Is successfully connected to the server.
      */
@@ -225,6 +550,34 @@ public class GinetClientTCP {
         return socket;
     }
 
+    /**
+     * Get requested wire protocol.
+     */
+    public GinetProtocolMode getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Is binary protocol negotiated with server.
+     */
+    public boolean isBinary() {
+        return serverRepr != null && serverRepr.isBinary();
+    }
+
+    /**
+     * Does connection run on virtual thread (if supported by running JVM)?
+     */
+    public boolean isVirtualThread() {
+        return virtualThread;
+    }
+
+    /**
+     * Get event callbacks executor (null if callbacks run on connection thread).
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     /**
      * Get server representation.
      */
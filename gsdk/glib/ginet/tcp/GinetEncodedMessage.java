@@ -0,0 +1,108 @@
+package gsdk.glib.ginet.tcp;
+
+import java.nio.ByteBuffer;
+
+// Message encoded at most once per wire protocol and shared by all recipients.
+// Encoded buffers are never modified: each recipient queues its own duplicate() view (no byte copy).
+// Encoding is lazy (only protocols that have recipients) and published through volatile fields, so broadcasting threads
+// encode it once and see a fully written buffer.
+class GinetEncodedMessage {
+    private final int id;
+
+    private final String eventName, data;
+
+    private final ByteBuffer payload;
+
+    private final String key;
+
+    private volatile ByteBuffer text, binary;
+
+    private GinetEncodedMessage(int id_, String eventName_, String data_, ByteBuffer payload_, String key_) {
+        id = id_;
+
+        eventName = eventName_;
+        data = data_;
+
+        payload = payload_;
+
+        key = key_;
+    }
+
+    /**
+     * Text data message.
+     *
+     * @param data Data.
+     */
+    protected static GinetEncodedMessage data(String data) {
+        return new GinetEncodedMessage(GinetProtocol.ID_DATA, null, data, null, null);
+    }
+
+    /**
+     * Text event message.
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param key Merge key (null for unkeyed event, see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     */
+    protected static GinetEncodedMessage event(String eventName, String data, String key) {
+        return new GinetEncodedMessage(GinetProtocol.ID_EVENT, eventName, data, null, key);
+    }
+
+    /**
+     * Binary event message (binary protocol recipients only).
+     *
+     * @param id Event id.
+     * @param payload Event payload (remaining bytes).
+     * @param key Merge key (null for unkeyed event, see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     */
+    protected static GinetEncodedMessage binary(int id, ByteBuffer payload, String key) {
+        return new GinetEncodedMessage(id, null, null, payload, key);
+    }
+
+    /**
+     * Get message encoded for text protocol (null if message can not be sent as text).
+     */
+    protected ByteBuffer text() {
+        ByteBuffer encoded = text;
+
+        if(encoded == null && payload == null) {
+            synchronized(this) {
+                encoded = text;
+
+                if(encoded == null) text = encoded = GinetProtocol.encodeLine(eventName == null ? data : GinetProtocol.formatEvent(eventName, data));
+            }
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Get message encoded for binary protocol.
+     */
+    protected ByteBuffer binary() {
+        ByteBuffer encoded = binary;
+
+        if(encoded == null) {
+            synchronized(this) {
+                encoded = binary;
+
+                if(encoded == null) {
+                    if(id == GinetProtocol.ID_DATA) encoded = GinetProtocol.encodeData(data);
+                    else if(id == GinetProtocol.ID_EVENT) encoded = GinetProtocol.encodeEvent(eventName, data);
+                    else encoded = GinetProtocol.encodeFrame(id, payload);
+
+                    binary = encoded;
+                }
+            }
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Get merge key (null if message is unkeyed).
+     */
+    protected String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,149 @@
+package gsdk.glib.ginet.tcp;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+import java.io.IOException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Non-blocking client connection owned by one NIO I/O loop.
+class GinetNioConnection {
+    private final GinetNioServer.IoLoop loop;
+
+    private final SocketChannel channel;
+
+    private final GinetStreamDecoder decoder = new GinetStreamDecoder();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private SelectionKey key;
+
+    private GinetServerClient client;
+
+    private GinetStreamDecoder.Handler reader;
+
+    private boolean closed = false;
+
+    protected GinetNioConnection(GinetNioServer.IoLoop loop_, SocketChannel channel_) {
+        loop = loop_;
+
+        channel = channel_;
+    }
+
+    protected void register(SelectionKey key_, GinetServerClient client_) {
+        key = key_;
+
+        client = client_;
+
+        reader = loop.getServer().reader(client, decoder);
+    }
+
+    /**
+     * Schedule writing of client's outbound queue (any thread).
+     */
+    protected void flushLater() {
+        if(flushScheduled.compareAndSet(false, true)) loop.execute(this::flush);
+    }
+
+    /**
+     * Close connection (any thread).
+     */
+    protected void close() {
+        loop.execute(() -> closeNow(false));
+    }
+
+    // I/O loop only.
+    protected void read(ByteBuffer readBuffer) {
+        try {
+            readBuffer.clear();
+
+            int count = channel.read(readBuffer);
+
+            if(count < 0) {
+                closeNow(false);
+
+                return;
+            }
+
+            readBuffer.flip();
+
+            decoder.feed(readBuffer, reader);
+        } catch(IOException ioExc) {
+            if("Connection reset".equals(ioExc.getMessage())) {
+                closeNow(true);
+            } else {
+                loop.getServer().exception(ioExc);
+
+                closeNow(false);
+            }
+        }
+    }
+
+    // I/O loop only: copy queued messages into the loop's direct buffer, one write per filled buffer.
+    protected void flush() {
+        flushScheduled.set(false);
+
+        if(closed || client == null) return;
+
+        GinetOutboundQueue outbound = client.getOutbound();
+
+        ByteBuffer writeBuffer = loop.getWriteBuffer();
+
+        try {
+            while(!outbound.isEmpty()) {
+                writeBuffer.clear();
+
+                outbound.peek(writeBuffer);
+
+                writeBuffer.flip();
+
+                int attempted = writeBuffer.remaining();
+
+                int written = channel.write(writeBuffer);
+
+                outbound.consume(written);
+
+                if(written < attempted) {
+                    // Socket buffer is full: continue when channel becomes writable.
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+
+                    return;
+                }
+            }
+
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } catch(IOException ioExc) {
+            loop.getServer().exception(ioExc);
+
+            closeNow(false);
+        }
+    }
+
+    // I/O loop only.
+    protected void closeNow(boolean lost) {
+        if(closed) return;
+
+        closed = true;
+
+        if(key != null) key.cancel();
+
+        try {
+            channel.close();
+        } catch(IOException ioExc) {
+            loop.getServer().exception(ioExc);
+        }
+
+        if(client != null) {
+            client.getOutbound().close();
+
+            loop.getServer().closed(client, lost);
+        }
+    }
+
+    protected SocketChannel getChannel() {
+        return channel;
+    }
+}
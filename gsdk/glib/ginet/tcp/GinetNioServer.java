@@ -0,0 +1,203 @@
+package gsdk.glib.ginet.tcp;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import java.io.IOException;
+
+import java.util.Iterator;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Selector-driven server core: I/O loop 0 also accepts, connections are spread over loops round-robin.
+class GinetNioServer {
+    protected static final int DEFAULT_IO_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    protected static final int ACCEPT_BACKLOG = 1024;
+
+    protected static final int READ_BUFFER_SIZE = 64 * 1024;
+    protected static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final GinetServerTCP server;
+
+    private final ServerSocketChannel channel;
+
+    private final IoLoop[] loops;
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private int nextLoop = 0;
+
+    protected GinetNioServer(GinetServerTCP server_, ServerSocketChannel channel_, int ioThreads) throws IOException {
+        server = server_;
+
+        channel = channel_;
+
+        channel.configureBlocking(false);
+
+        loops = new IoLoop[Math.max(1, ioThreads)];
+
+        for(int i = 0; i < loops.length; i++) loops[i] = new IoLoop(Selector.open());
+
+        channel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+    }
+
+    protected void start() {
+        running.set(loops.length);
+
+        for(int i = 0; i < loops.length; i++) {
+            Thread thread = new Thread(loops[i], "ginet-nio-" + i);
+
+            thread.setDaemon(true);
+
+            thread.start();
+        }
+    }
+
+    protected void stop() {
+        for(IoLoop loop : loops) loop.selector.wakeup();
+    }
+
+    // Loop 0 only.
+    private void accept() {
+        try {
+            SocketChannel client;
+
+            while((client = channel.accept()) != null) {
+                client.configureBlocking(false);
+
+                client.socket().setTcpNoDelay(true);
+
+                IoLoop loop = loops[nextLoop];
+
+                nextLoop = (nextLoop + 1) % loops.length;
+
+                GinetNioConnection connection = new GinetNioConnection(loop, client);
+
+                loop.execute(() -> loop.attach(connection));
+            }
+        } catch(IOException ioExc) {
+            if(server.isActive()) server.exception(ioExc);
+        }
+    }
+
+    class IoLoop implements Runnable {
+        private final Selector selector;
+
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+
+        private IoLoop(Selector selector_) {
+            selector = selector_;
+        }
+
+        /**
+         * Run task on this I/O loop (any thread).
+         *
+         * @param task Task.
+         */
+        protected void execute(Runnable task) {
+            tasks.add(task);
+
+            selector.wakeup();
+        }
+
+        private void attach(GinetNioConnection connection) {
+            try {
+                SelectionKey key = connection.getChannel().register(selector, SelectionKey.OP_READ, connection);
+
+                connection.register(key, server.accepted(connection));
+            } catch(IOException ioExc) {
+                server.exception(ioExc);
+
+                connection.closeNow(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while(server.isActive()) {
+                    selector.select();
+
+                    Runnable task;
+
+                    while((task = tasks.poll()) != null) {
+                        try {
+                            task.run();
+                        } catch(RuntimeException exception) {
+                            server.exception(exception);
+                        }
+                    }
+
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                    while(keys.hasNext()) {
+                        SelectionKey key = keys.next();
+
+                        keys.remove();
+
+                        if(!key.isValid()) continue;
+
+                        if(key.isAcceptable()) {
+                            accept();
+
+                            continue;
+                        }
+
+                        GinetNioConnection connection = (GinetNioConnection) key.attachment();
+
+                        try {
+                            if(key.isReadable()) connection.read(readBuffer);
+
+                            if(key.isValid() && key.isWritable()) connection.flush();
+                        } catch(RuntimeException exception) {
+                            // Malformed input or failing callback: drop only this connection, loop keeps serving the others.
+                            fail(connection, exception);
+                        }
+                    }
+                }
+            } catch(IOException ioExc) {
+                server.exception(ioExc);
+            } finally {
+                for(SelectionKey key : selector.keys()) {
+                    if(key.attachment() instanceof GinetNioConnection connection) connection.closeNow(false);
+                }
+
+                try {
+                    selector.close();
+                } catch(IOException ioExc) {
+                    server.exception(ioExc);
+                }
+
+                if(running.decrementAndGet() == 0) server.ended();
+            }
+        }
+
+        private void fail(GinetNioConnection connection, RuntimeException exception) {
+            server.exception(exception);
+
+            try {
+                connection.closeNow(false);
+            } catch(RuntimeException closeExc) {
+                server.exception(closeExc);
+            }
+        }
+
+        protected GinetServerTCP getServer() {
+            return server;
+        }
+
+        protected ByteBuffer getWriteBuffer() {
+            return writeBuffer;
+        }
+    }
+}
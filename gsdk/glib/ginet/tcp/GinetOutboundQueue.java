@@ -0,0 +1,223 @@
+package gsdk.glib.ginet.tcp;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+
+// Bounded per-client queue of encoded messages: senders never touch the socket, client's writer drains queue
+// by copying as many queued messages as fit into one write buffer. Messages copied by peek are in flight until consume:
+// in-flight messages (and partially written head message) are never dropped or merged, so written bytes always match the queue.
+class GinetOutboundQueue {
+    protected static final int DEFAULT_MAX_MESSAGES = 16 * 1024;
+
+    protected static final long DEFAULT_MAX_BYTES = 16L << 20;
+
+    private final GinetServerTCP server;
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+    private final HashMap<String, Entry> keyed = new HashMap<>();
+
+    private long queuedBytes = 0, sentBytes = 0, sentMessages = 0, droppedMessages = 0;
+
+    private boolean headStarted = false, closed = false;
+
+    protected GinetOutboundQueue(GinetServerTCP server_) {
+        server = server_;
+    }
+
+    /**
+     * Queue message (any thread).
+     * Returns false if queue is over its limits and client should be disconnected.
+     *
+     * @param message Encoded message (owned by queue from now on).
+     * @param key Merge key (null for unkeyed message).
+     * @param droppable Can message be dropped on overflow (protocol control messages can not).
+     */
+    protected synchronized boolean offer(ByteBuffer message, String key, boolean droppable) {
+        if(closed) return true;
+
+        GinetSlowConsumerPolicy policy = server.getSlowConsumerPolicy();
+
+        if(key != null && policy == GinetSlowConsumerPolicy.MERGE_BY_KEY) {
+            Entry queued = keyed.get(key);
+
+            if(queued != null && !queued.inFlight) {
+                queuedBytes += message.remaining() - queued.message.remaining();
+
+                queued.message = message;
+
+                droppedMessages++;
+
+                return true;
+            }
+        }
+
+        Entry entry = new Entry(message, key, droppable);
+
+        entries.addLast(entry);
+
+        queuedBytes += message.remaining();
+
+        if(key != null && policy == GinetSlowConsumerPolicy.MERGE_BY_KEY) keyed.put(key, entry);
+
+        while(entries.size() > server.getOutboundMaxMessages() || queuedBytes > server.getOutboundMaxBytes()) {
+            if(policy == GinetSlowConsumerPolicy.DISCONNECT) return false;
+
+            if(!dropOldest()) {
+                // Only messages being written are left to drop: over limits until writer consumes them.
+                if(entries.peekFirst().inFlight) break;
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean dropOldest() {
+        for(Iterator<Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+
+            if(!entry.droppable || entry.inFlight) continue;
+
+            iterator.remove();
+
+            remove(entry);
+
+            droppedMessages++;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Copy queued bytes into target buffer, in order, as many as fit (messages stay queued and in flight until consumed).
+     *
+     * @param target Write buffer.
+     */
+    protected synchronized void peek(ByteBuffer target) {
+        for(Entry entry : entries) {
+            if(!target.hasRemaining()) return;
+
+            entry.inFlight = true;
+
+            ByteBuffer slice = entry.message.duplicate();
+
+            if(slice.remaining() > target.remaining()) slice.limit(slice.position() + target.remaining());
+
+            target.put(slice);
+        }
+    }
+
+    /**
+     * Remove written bytes from queue head; unwritten messages are no longer in flight (except partially written head).
+     *
+     * @param written Written bytes count.
+     */
+    protected synchronized void consume(int written) {
+        sentBytes += written;
+
+        while(written > 0) {
+            Entry head = entries.peekFirst();
+
+            if(head == null) break;
+
+            int count = Math.min(head.message.remaining(), written);
+
+            head.message.position(head.message.position() + count);
+
+            queuedBytes -= count;
+
+            written -= count;
+
+            if(head.message.hasRemaining()) {
+                headStarted = true;
+            } else {
+                entries.pollFirst();
+
+                remove(head);
+
+                headStarted = false;
+
+                sentMessages++;
+            }
+        }
+
+        Iterator<Entry> iterator = entries.iterator();
+
+        if(headStarted && iterator.hasNext()) iterator.next();
+
+        while(iterator.hasNext()) {
+            Entry entry = iterator.next();
+
+            if(!entry.inFlight) break;
+
+            entry.inFlight = false;
+        }
+    }
+
+    private void remove(Entry entry) {
+        queuedBytes -= entry.message.remaining();
+
+        if(entry.key != null) keyed.remove(entry.key, entry);
+    }
+
+    /**
+     * Close queue and discard queued messages.
+     */
+    protected synchronized void close() {
+        closed = true;
+
+        entries.clear();
+        keyed.clear();
+
+        queuedBytes = 0;
+    }
+
+    protected synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    protected synchronized int getQueuedMessages() {
+        return entries.size();
+    }
+
+    protected synchronized long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    protected synchronized long getSentBytes() {
+        return sentBytes;
+    }
+
+    protected synchronized long getSentMessages() {
+        return sentMessages;
+    }
+
+    protected synchronized long getDroppedMessages() {
+        return droppedMessages;
+    }
+
+    private static class Entry {
+        private ByteBuffer message;
+
+        private final String key;
+
+        private final boolean droppable;
+
+        private boolean inFlight = false;
+
+        private Entry(ByteBuffer message_, String key_, boolean droppable_) {
+            message = message_;
+
+            key = key_;
+
+            droppable = droppable_;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package gsdk.glib.ginet.tcp;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.io.IOException;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+// Ginet text protocol: one message per line, events are wrapped into EV-BGN ... EV-END.
+// Binary protocol (client sends HELLO_BINARY line, server answers HELLO_BINARY_ACK line, both sides switch to frames):
+// [int length of id + payload][unsigned short event id][payload], big-endian. Ids above MAX_EVENT_ID carry text data/events.
+class GinetProtocol {
+    protected static final String EVENT_FORMAT = "EV-BGN EVENT-NAME%s&&&EVENT-DATA%s EV-END";
+
+    protected static final String EVENT_BEGIN = "EV-BGN ";
+
+    protected static final String EVENT_END = " EV-END";
+
+    protected static final String HELLO_BINARY = "GINET-PROTO BINARY 1";
+
+    protected static final String HELLO_BINARY_ACK = "GINET-PROTO BINARY 1 OK";
+
+    protected static final int FRAME_HEADER = 6;
+
+    protected static final int MAX_FRAME_LENGTH = 16 << 20;
+
+    protected static final int MAX_EVENT_ID = 0xFFFD;
+
+    // Text event frame payload: [unsigned short name length][name][data], UTF-8.
+    protected static final int ID_EVENT = 0xFFFE;
+
+    // Text data frame payload: UTF-8 data.
+    protected static final int ID_DATA = 0xFFFF;
+
+    // Session event: client sends its last session token (empty for new session) right after connecting,
+    // server answers with token of resumed or new session (empty token if it keeps no sessions).
+    protected static final String SESSION_EVENT = "GINET-SESSION";
+
+    /**
+     * Format event line.
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     */
+    protected static String formatEvent(String eventName, String data) {
+        return EVENT_FORMAT.formatted(eventName, data);
+    }
+
+    /**
+     * Is line an event.
+     *
+     * @param line Received line.
+     */
+    protected static boolean isEvent(String line) {
+        return line.startsWith(EVENT_BEGIN);
+    }
+
+    /**
+     * Parse event line into {name, data}. Malformed line is a protocol error (connection is closed).
+     *
+     * @param line Received event line.
+     */
+    protected static String[] parseEvent(String line) throws IOException {
+        int end = line.indexOf(EVENT_END);
+
+        if(end < EVENT_BEGIN.length()) throw new IOException("Invalid event line");
+
+        String[] parts = line.substring(EVENT_BEGIN.length(), end).split("&&&");
+
+        if(parts.length < 2) throw new IOException("Invalid event line");
+
+        return new String[] {parts[0].replace("EVENT-NAME", "").trim(), parts[1].replace("EVENT-DATA", "").trim()};
+    }
+
+    /**
+     * Encode text line (UTF-8, '\n' terminated).
+     *
+     * @param line Line.
+     */
+    protected static ByteBuffer encodeLine(String line) {
+        return ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encode binary event frame (payload is copied, its position is not changed).
+     *
+     * @param id Event id (0 - MAX_EVENT_ID).
+     * @param payload Event payload.
+     */
+    protected static ByteBuffer encodeFrame(int id, ByteBuffer payload) {
+        assert_t(id < 0 || id > MAX_EVENT_ID, "binary event id must be in range 0 - 65533");
+
+        return frame(id, payload.remaining()).put(payload.duplicate()).flip();
+    }
+
+    /**
+     * Encode text data frame.
+     *
+     * @param data Data.
+     */
+    protected static ByteBuffer encodeData(String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+
+        return frame(ID_DATA, bytes.length).put(bytes).flip();
+    }
+
+    /**
+     * Encode text event frame (name and data may contain any characters).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     */
+    protected static ByteBuffer encodeEvent(String eventName, String data) {
+        byte[] name = eventName.getBytes(StandardCharsets.UTF_8), bytes = data.getBytes(StandardCharsets.UTF_8);
+
+        assert_t(name.length > 0xFFFF, "event name is longer than 65535 bytes");
+
+        return frame(ID_EVENT, 2 + name.length + bytes.length).putShort((short) name.length).put(name).put(bytes).flip();
+    }
+
+    /**
+     * Decode text event frame payload into {name, data}. Name length beyond the payload is a protocol error (connection is closed).
+     *
+     * @param payload Event frame payload.
+     */
+    protected static String[] decodeEvent(ByteBuffer payload) throws IOException {
+        if(payload.remaining() < 2) throw new IOException("Invalid event frame");
+
+        int nameLength = payload.getShort(payload.position()) & 0xFFFF;
+
+        if(payload.remaining() < 2 + nameLength) throw new IOException("Invalid event frame name length %d".formatted(nameLength));
+
+        return new String[] {
+            decodeString(payload.slice(payload.position() + 2, nameLength)),
+            decodeString(payload.slice(payload.position() + 2 + nameLength, payload.remaining() - 2 - nameLength))
+        };
+    }
+
+    /**
+     * Decode UTF-8 string from buffer's remaining bytes (position is not changed).
+     *
+     * @param buffer Buffer.
+     */
+    protected static String decodeString(ByteBuffer buffer) {
+        if(buffer.hasArray()) return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+
+        byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.duplicate().get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer frame(int id, int payloadLength) {
+        assert_t(payloadLength > MAX_FRAME_LENGTH - 2, "frame payload is longer than 16 MB");
+
+        return ByteBuffer.allocate(FRAME_HEADER + payloadLength).putInt(2 + payloadLength).putShort((short) id);
+    }
+}
@@ -0,0 +1,17 @@
+package gsdk.glib.ginet.tcp;
+
+/**
+ * Ginet TCP wire protocols.
+ */
+public enum GinetProtocolMode {
+    /**
+     * Newline-delimited text, events are wrapped into EV-BGN ... EV-END (data must not contain newlines or "&&&").
+     */
+    TEXT,
+
+    /**
+     * Length-prefixed frames with numeric event id and raw payload, text data and events are framed too.
+     * Negotiated by client at connect, falls back to text if server does not answer in connection time.
+     */
+    BINARY
+}
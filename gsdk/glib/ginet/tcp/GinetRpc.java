@@ -0,0 +1,62 @@
+package gsdk.glib.ginet.tcp;
+
+// RPC messages are events with reserved names, so they work over text and binary protocol alike.
+// Call data: "<id> <method> <request>;", reply data: "<id> <OK|ERR> <response or error>;".
+// The ';' terminator keeps trailing whitespace of the payload, text protocol trims event data.
+class GinetRpc {
+    protected static final String CALL_EVENT = "GINET-RPC-CALL";
+
+    protected static final String REPLY_EVENT = "GINET-RPC-REPLY";
+
+    protected static final String OK = "OK", ERROR = "ERR";
+
+    protected static final long DEFAULT_TIMEOUT = 10_000;
+
+    /**
+     * Encode call data.
+     *
+     * @param id Correlation id.
+     * @param method Method name.
+     * @param request Request (null is sent as empty string).
+     */
+    protected static String call(long id, String method, String request) {
+        return id + " " + method + " " + (request == null ? "" : request) + ";";
+    }
+
+    /**
+     * Encode reply data.
+     *
+     * @param id Correlation id.
+     * @param ok Is call successful.
+     * @param response Response or error message.
+     */
+    protected static String reply(long id, boolean ok, String response) {
+        return id + " " + (ok ? OK : ERROR) + " " + (response == null ? "" : response) + ";";
+    }
+
+    /**
+     * Parse call or reply data into {id, method or status, payload}, null if malformed.
+     *
+     * @param data Event data.
+     */
+    protected static String[] parse(String data) {
+        int first = data.indexOf(' '), second = first < 0 ? -1 : data.indexOf(' ', first + 1);
+
+        if(second < 0 || !data.endsWith(";")) return null;
+
+        return new String[] {data.substring(0, first), data.substring(first + 1, second), data.substring(second + 1, data.length() - 1)};
+    }
+
+    /**
+     * Parse correlation id, -1 if malformed.
+     *
+     * @param id Id text.
+     */
+    protected static long id(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch(NumberFormatException formatExc) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package gsdk.glib.ginet.tcp;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous RPC method handler (see <code>GinetServerTCP::handleAsync</code>): reply is sent when returned stage completes,
+ * other calls of the same client are handled meanwhile.
+ */
+public interface GinetRpcAsyncHandler {
+    /**
+     * Handle call, stage result is the response; exceptional completion fails the call with its message.
+     *
+     * @param request Request.
+     * @param client Calling client.
+     */
+    CompletionStage<String> handle(String request, GinetServerClient client) throws Exception;
+}
@@ -0,0 +1,18 @@
+package gsdk.glib.ginet.tcp;
+
+/**
+ * RPC call failure: handler error or unknown method on the server, or connection closed before reply.
+ * Timeouts fail the call with <code>java.util.concurrent.TimeoutException</code>.
+ */
+public class GinetRpcException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Initialize RPC exception.
+     *
+     * @param message Message.
+     */
+    public GinetRpcException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package gsdk.glib.ginet.tcp;
+
+/**
+ * RPC method handler (see <code>GinetServerTCP::handle</code>). Runs on the callback thread of the
+ * client connection, so slow work should use GinetRpcAsyncHandler or a callback executor.
+ */
+public interface GinetRpcHandler {
+    /**
+     * Handle call, returned string is the response; thrown exception fails the call with its message.
+     *
+     * @param request Request.
+     * @param client Calling client.
+     */
+    String handle(String request, GinetServerClient client) throws Exception;
+}
@@ -4,48 +4,217 @@ import java.net.Socket;
 
 import java.net.InetAddress;
 
+import java.nio.ByteBuffer;
+
+import java.io.OutputStream;
 import java.io.PrintWriter;
 
 import java.io.IOException;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static java.util.UUID.randomUUID;;
 
 /**
  * Server representation of a client.
  */
 public class GinetServerClient {
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
     private final Socket client;
 
     private final InetAddress clientAddress;
 
     private final PrintWriter out;
 
-    private final String clientIdentifier;
+    private final OutputStream rawOut;
+
+    // Replaced by session identifier when client resumes a session.
+    private volatile String clientIdentifier;
+
+    private final GinetNioConnection connection;
+
+    private final GinetOutboundQueue outbound;
+
+    // Blocking modes: set while a drain is scheduled or running, so only one writer touches the socket.
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+    private final boolean virtualWriter;
+
+    private byte[] writeBuffer;
+
+    private boolean binary = false;
+
+    private volatile GinetSession session;
 
-    protected GinetServerClient(Socket client_, String identifier) throws IOException {
+    protected GinetServerClient(Socket client_, String identifier, GinetServerTCP server, boolean virtualWriter_) throws IOException {
         client = client_;
 
         clientAddress = client.getInetAddress();
 
-        out = new PrintWriter(client.getOutputStream(), true);
+        rawOut = client.getOutputStream();
+
+        out = new PrintWriter(rawOut, true);
+
+        clientIdentifier = identifier == null ? randomUUID().toString() : identifier;
+
+        connection = null;
+
+        outbound = new GinetOutboundQueue(server);
+
+        virtualWriter = virtualWriter_;
+    }
+
+    GinetServerClient(GinetNioConnection connection_, String identifier, GinetServerTCP server) {
+        connection = connection_;
+
+        outbound = new GinetOutboundQueue(server);
+
+        virtualWriter = false;
+
+        client = connection.getChannel().socket();
+
+        clientAddress = client.getInetAddress();
+
+        out = null;
+
+        rawOut = null;
 
         clientIdentifier = identifier == null ? randomUUID().toString() : identifier;
     }
 
     /**
-     * Send data to client.
+     * Send data to client (queued, written by shared writer thread or NIO I/O thread).
      *
      * @param data Data to send.
      */
     public void send(String data) {
-        out.println(data);
+        send(GinetEncodedMessage.data(data));
+    }
+
+    // Shared message: encoding for this client's protocol is done once per message, not per client.
+    // Returns false if message has no form for client's protocol.
+    synchronized boolean send(GinetEncodedMessage message) {
+        ByteBuffer encoded = binary ? message.binary() : message.text();
+
+        if(encoded == null) return false;
+
+        write(encoded.duplicate(), message.getKey(), true);
+
+        return true;
+    }
+
+    // Answer binary hello: ack line is the last text sent, everything after it is framed.
+    synchronized void acceptBinary() {
+        write(GinetProtocol.encodeLine(GinetProtocol.HELLO_BINARY_ACK), null, false);
+
+        binary = true;
+    }
+
+    private void write(ByteBuffer message, String key, boolean droppable) {
+        if(!outbound.offer(message, key, droppable)) {
+            // Slow consumer over queue limits (GinetSlowConsumerPolicy.DISCONNECT).
+            outbound.close();
+
+            try {
+                disconnect();
+            } catch(IOException ioExc) {
+                // Read loop reports broken connection.
+            }
+
+            return;
+        }
+
+        if(connection != null) {
+            connection.flushLater();
+        } else if(writeScheduled.compareAndSet(false, true)) {
+            GinetThreads.write(this::drain, virtualWriter);
+        }
+    }
+
+    // Blocking modes: drains queue on a shared writer thread until it is empty, all messages queued since last write go out in one write.
+    private void drain() {
+        if(writeBuffer == null) writeBuffer = new byte[WRITE_BUFFER_SIZE];
+
+        ByteBuffer buffer = ByteBuffer.wrap(writeBuffer);
+
+        do {
+            try {
+                while(!outbound.isEmpty()) {
+                    buffer.clear();
+
+                    outbound.peek(buffer);
+
+                    rawOut.write(writeBuffer, 0, buffer.position());
+
+                    outbound.consume(buffer.position());
+                }
+            } catch(IOException exception) {
+                // Like PrintWriter: broken connection is reported by client's read loop.
+                outbound.close();
+            }
+
+            writeScheduled.set(false);
+
+            // Message queued after the last check but before the flag was cleared found drain still scheduled: take it over.
+        } while(!outbound.isEmpty() && writeScheduled.compareAndSet(false, true));
+    }
+
+    GinetOutboundQueue getOutbound() {
+        return outbound;
+    }
+
+    /**
+     * Get messages waiting in outbound queue.
+     */
+    public int getQueuedMessages() {
+        return outbound.getQueuedMessages();
+    }
+
+    /**
+     * Get bytes waiting in outbound queue.
+     */
+    public long getQueuedBytes() {
+        return outbound.getQueuedBytes();
+    }
+
+    /**
+     * Get bytes written to client.
+     */
+    public long getSentBytes() {
+        return outbound.getSentBytes();
+    }
+
+    /**
+     * Get messages written to client.
+     */
+    public long getSentMessages() {
+        return outbound.getSentMessages();
+    }
+
+    /**
+     * Get messages dropped or merged by slow consumer policy.
+     */
+    public long getDroppedMessages() {
+        return outbound.getDroppedMessages();
+    }
+
+    /**
+     * Is binary protocol negotiated with client.
+     */
+    public synchronized boolean isBinary() {
+        return binary;
     }
 
     /**
      * Disconnect from the server.
      */
     public void disconnect() throws IOException {
-        client.close();
+        if(connection != null) {
+            connection.close();
+        } else {
+            client.close();
+        }
     }
 
     /**
@@ -70,7 +239,7 @@ public class GinetServerClient {
     }
 
     /**
-     * Get client out (PrintWriter).
+     * Get client out (PrintWriter), null in NIO mode.
      */
     public PrintWriter getClientOut() {
         return out;
@@ -82,4 +251,19 @@ public class GinetServerClient {
     public String getClientIdentifier() {
         return clientIdentifier;
     }
+
+    void setClientIdentifier(String clientIdentifier_) {
+        clientIdentifier = clientIdentifier_;
+    }
+
+    /**
+     * Get client session (null if client did not ask for one or server keeps no sessions).
+     */
+    public GinetSession getSession() {
+        return session;
+    }
+
+    void setSession(GinetSession session_) {
+        session = session_;
+    }
 }
@@ -1,5 +1,7 @@
 package gsdk.glib.ginet.tcp;
 
+import java.nio.ByteBuffer;
+
 /**
  * Networking server events.
  */
@@ -68,4 +70,33 @@ public interface GinetServerEventsTCP {
      * @param server Server reference.
      */
     void lost(GinetServerClient client, GinetServerTCP server);
+
+    /**
+     * Triggered when binary event is toggled by client (binary protocol only).
+     * Payload is a slice of connection's read buffer valid only during the call (a copy when callback executor is set).
+     *
+     * @param id Event id.
+     * @param payload Event payload.
+     * @param client Client.
+     * @param server Server reference.
+     */
+    default void binaryEvent(int id, ByteBuffer payload, GinetServerClient client, GinetServerTCP server) {}
+
+    /**
+     * Triggered when reconnected client resumed its session (after connection event of the new connection).
+     * Client has taken over session identifier, attachment and area of interest position.
+     *
+     * @param client Client.
+     * @param session Resumed session.
+     * @param server Server reference.
+     */
+    default void resumed(GinetServerClient client, GinetSession session, GinetServerTCP server) {}
+
+    /**
+     * Triggered when session of disconnected client was not resumed within grace time (game state can be dropped).
+     *
+     * @param session Expired session.
+     * @param server Server reference.
+     */
+    default void expired(GinetSession session, GinetServerTCP server) {}
 }
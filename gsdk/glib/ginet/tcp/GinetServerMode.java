@@ -0,0 +1,29 @@
+package gsdk.glib.ginet.tcp;
+
+/**
+ * Ginet TCP server execution modes.
+ */
+public enum GinetServerMode {
+    /**
+     * Accept thread reads each client until it disconnects (one client at a time).
+     */
+    BLOCKING,
+
+    /**
+     * Non-blocking NIO selectors: small fixed set of I/O threads serves all clients.
+     * Event callbacks run on I/O threads and must not block.
+     */
+    NIO,
+
+    /**
+     * Blocking read loop on its own platform thread per client.
+     * Each client costs a thread stack, practical up to a few thousand clients.
+     */
+    PLATFORM_THREADS,
+
+    /**
+     * Blocking read loop on its own virtual thread per client (Java 21+, platform threads on older JVMs).
+     * Plain blocking code that scales like NIO, see <code>GinetServerTCP::isVirtualThreadsSupported</code>.
+     */
+    VIRTUAL_THREADS
+}
@@ -4,17 +4,45 @@ import java.net.ServerSocket;
 
 import java.net.Socket;
 
-import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
 
-import java.io.BufferedReader;
+import java.nio.ByteBuffer;
+
+import java.nio.channels.ServerSocketChannel;
+
+import java.io.InputStream;
 
 import java.io.IOException;
 
 import java.util.List;
 
+import java.util.ArrayList;
+
+import java.util.Collection;
+
+import java.util.Collections;
+
 import java.util.HashMap;
 
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.concurrent.CompletionException;
+
+import java.util.concurrent.CompletionStage;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.Executor;
+
+import java.util.concurrent.TimeUnit;
+
+import gsdk.glib.ginet.GinetInterestGrid;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+import static java.util.UUID.randomUUID;
 
 /**
  * GinetServerTCP -
@@ -37,6 +65,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * - Start the server and accept client connections.<br>
  * - Send data to specific clients or broadcast to all clients.<br>
  * - Emit custom events to specific clients or broadcast to all clients.<br>
+ * - Broadcast only to clients within range of a point (area of interest).<br>
+ * - Answer RPC calls of clients with handlers registered by method name.<br>
+ * - Let reconnecting clients resume their session (identifier, attached state, position) within a grace time.<br>
  * - Handle different events through the GinetServerEventsTCP interface.<br>
  * - Soft handling of critical situations.<br><br>
  *
@@ -58,26 +89,96 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public class GinetServerTCP {
     private final ServerSocket socket;
 
-    private final List<GinetServerClient> clients;
-
-    private final HashMap<String, String> visitors;
+    private final GinetClientRegistry registry = new GinetClientRegistry();
 
     private final GinetServerEventsTCP events;
 
-    private boolean active;
+    private final GinetServerMode mode;
+
+    private final GinetNioServer nio;
+
+    private final Executor callbackExecutor;
+
+    private final GinetInterestGrid<GinetServerClient> interest = new GinetInterestGrid<>();
+
+    private final ConcurrentHashMap<String, GinetRpcAsyncHandler> handlers = new ConcurrentHashMap<>();
+
+    private volatile long sessionGrace = 0;
+
+    private volatile boolean active;
+
+    private volatile int outboundMaxMessages = GinetOutboundQueue.DEFAULT_MAX_MESSAGES;
+
+    private volatile long outboundMaxBytes = GinetOutboundQueue.DEFAULT_MAX_BYTES;
+
+    private volatile GinetSlowConsumerPolicy slowConsumerPolicy = GinetSlowConsumerPolicy.DISCONNECT;
 
     /**
-     * Initialize Game Immediate mode Networking server (TCP).
+     * Initialize Game Immediate mode Networking server (TCP, blocking mode).
      *
      * @param events_ Events handler.
      * @param port Server port.
      */
     public GinetServerTCP(GinetServerEventsTCP events_, int port) throws IOException {
-        socket = new ServerSocket(port);
+        this(events_, port, GinetServerMode.BLOCKING);
+    }
 
-        clients = new CopyOnWriteArrayList<>();
+    /**
+     * Initialize Game Immediate mode Networking server (TCP).
+     *
+     * @param events_ Events handler.
+     * @param port Server port.
+     * @param mode_ Server execution mode.
+     */
+    public GinetServerTCP(GinetServerEventsTCP events_, int port, GinetServerMode mode_) throws IOException {
+        this(events_, port, mode_, GinetNioServer.DEFAULT_IO_THREADS);
+    }
 
-        visitors = new HashMap<>();
+    /**
+     * Initialize Game Immediate mode Networking server (TCP).
+     *
+     * @param events_ Events handler.
+     * @param port Server port.
+     * @param mode_ Server execution mode.
+     * @param ioThreads I/O threads count (NIO mode only).
+     */
+    public GinetServerTCP(GinetServerEventsTCP events_, int port, GinetServerMode mode_, int ioThreads) throws IOException {
+        this(events_, port, mode_, ioThreads, null);
+    }
+
+    /**
+     * Initialize Game Immediate mode Networking server (TCP).
+     * Event callbacks are dispatched to callback executor instead of running on connection/I/O threads.
+     * Single-threaded executor (or game loop queue) keeps callbacks in order, pools may reorder them.
+     *
+     * @param events_ Events handler.
+     * @param port Server port.
+     * @param mode_ Server execution mode.
+     * @param ioThreads I/O threads count (NIO mode only).
+     * @param callbackExecutor_ Event callbacks executor (null to run callbacks on connection/I/O threads).
+     */
+    public GinetServerTCP(GinetServerEventsTCP events_, int port, GinetServerMode mode_, int ioThreads, Executor callbackExecutor_) throws IOException {
+        mode = mode_;
+
+        callbackExecutor = callbackExecutor_;
+
+        if(mode == GinetServerMode.NIO) {
+            ServerSocketChannel channel = ServerSocketChannel.open();
+
+            channel.bind(new InetSocketAddress(port), GinetNioServer.ACCEPT_BACKLOG);
+
+            socket = channel.socket();
+
+            nio = new GinetNioServer(this, channel, ioThreads);
+        } else if(mode == GinetServerMode.BLOCKING) {
+            socket = new ServerSocket(port);
+
+            nio = null;
+        } else {
+            socket = new ServerSocket(port, GinetNioServer.ACCEPT_BACKLOG);
+
+            nio = null;
+        }
 
         events = events_;
 
@@ -87,67 +188,305 @@ public class GinetServerTCP {
     }
 
     private void server() {
-        events.start(this);
+        dispatch(() -> events.start(this));
+
+        if(nio != null) {
+            nio.start();
+
+            return;
+        }
 
         new Thread(() -> {
             while(active) {
                 try {
                     Socket client = socket.accept();
 
-                    GinetServerClient vinetClient = new GinetServerClient(client, getVisitorIdentifier(socket.getInetAddress().getHostAddress()));
+                    GinetServerClient vinetClient = new GinetServerClient(client, getVisitorIdentifier(client.getInetAddress().getHostAddress()), this, mode == GinetServerMode.VIRTUAL_THREADS);
 
-                    clients.add(vinetClient);
+                    registry.add(vinetClient);
 
-                    events.connection(vinetClient, this);
+                    dispatch(() -> events.connection(vinetClient, this));
 
-                    client(vinetClient);
+                    if(mode == GinetServerMode.BLOCKING) {
+                        client(vinetClient);
+                    } else {
+                        GinetThreads.start(() -> client(vinetClient), mode == GinetServerMode.VIRTUAL_THREADS, "ginet-client-" + vinetClient.getClientIdentifier());
+                    }
                 } catch(IOException ioExc) {
-                    events.exception(ioExc, this);
+                    exception(ioExc);
                 }
             }
 
-            events.end(this);
+            ended();
         }).start();
     }
 
     private void client(GinetServerClient client) {
-        try(BufferedReader in = new BufferedReader(new InputStreamReader(client.getClient().getInputStream()))) {
-            String data;
+        GinetStreamDecoder decoder = new GinetStreamDecoder();
 
-            try {
-                while(active && !socket.isClosed() && (data = in.readLine()) != null) {
-                    if(data.startsWith("EV-BGN ")) {
-                        String[] parts = data.substring(7, data.indexOf(" EV-END")).split("&&&");
+        GinetStreamDecoder.Handler reader = reader(client, decoder);
 
-                        events.event(parts[0].replace("EVENT-NAME", "").trim(), parts[1].replace("EVENT-DATA", "").trim(), client, this);
-                    } else {
-                        events.receive(data, client, this);
-                    }
-                }
+        try(InputStream in = client.getClient().getInputStream()) {
+            byte[] data = new byte[GinetStreamDecoder.READ_BUFFER_SIZE];
+
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+
+            int count;
+
+            try {
+                while(active && !socket.isClosed() && (count = in.read(data)) >= 0) decoder.feed(buffer.limit(count).position(0), reader);
             } catch(IOException ioExc) {
                 if(ioExc.getMessage().equals("Connection reset")) {
-                    events.lost(client, this);
+                    dispatch(() -> events.lost(client, this));
                 } else {
                     if(!ioExc.getMessage().equals("Socket closed") && active) {
-                        events.exception(ioExc, this);
+                        exception(ioExc);
                     }
                 }
             }
         } catch(IOException ioExc) {
-            events.exception(ioExc, this);
+            exception(ioExc);
         } finally {
-            events.disconnection(client, this);
+            dispatch(() -> events.disconnection(client, this));
+
+            removed(client);
 
-            clients.remove(client);
+            client.getOutbound().close();
 
             try {
                 client.getClient().close();
             } catch(IOException ioExc) {
-                events.exception(ioExc, this);
+                exception(ioExc);
             }
         }
     }
 
+    GinetServerClient accepted(GinetNioConnection connection) throws IOException {
+        GinetServerClient client = new GinetServerClient(connection, getVisitorIdentifier(connection.getChannel().socket().getInetAddress().getHostAddress()), this);
+
+        registry.add(client);
+
+        dispatch(() -> events.connection(client, this));
+
+        return client;
+    }
+
+    // Lines until client asks for binary protocol, frames after it.
+    GinetStreamDecoder.Handler reader(GinetServerClient client, GinetStreamDecoder decoder) {
+        return new GinetStreamDecoder.Handler() {
+            @Override
+            public void line(String line) throws IOException {
+                if(GinetProtocol.HELLO_BINARY.equals(line)) {
+                    client.acceptBinary();
+
+                    decoder.setBinary(true);
+                } else {
+                    received(line, client);
+                }
+            }
+
+            @Override
+            public void frame(int id, ByteBuffer payload) throws IOException {
+                received(id, payload, client);
+            }
+        };
+    }
+
+    void received(String data, GinetServerClient client) throws IOException {
+        if(GinetProtocol.isEvent(data)) {
+            String[] event = GinetProtocol.parseEvent(data);
+
+            event(event[0], event[1], client);
+        } else {
+            dispatch(() -> events.receive(data, client, this));
+        }
+    }
+
+    void received(int id, ByteBuffer payload, GinetServerClient client) throws IOException {
+        if(id == GinetProtocol.ID_DATA) {
+            String data = GinetProtocol.decodeString(payload);
+
+            dispatch(() -> events.receive(data, client, this));
+        } else if(id == GinetProtocol.ID_EVENT) {
+            String[] event = GinetProtocol.decodeEvent(payload);
+
+            event(event[0], event[1], client);
+        } else if(callbackExecutor == null) {
+            events.binaryEvent(id, payload, client, this);
+        } else {
+            // Read buffer is reused after this call.
+            ByteBuffer copy = ByteBuffer.allocate(payload.remaining()).put(payload).flip();
+
+            callbackExecutor.execute(() -> events.binaryEvent(id, copy, client, this));
+        }
+    }
+
+    private void event(String name, String data, GinetServerClient client) {
+        if(GinetProtocol.SESSION_EVENT.equals(name)) {
+            // Before any later message of the client is handled: they already belong to the resumed session.
+            session(data, client);
+        } else if(GinetRpc.CALL_EVENT.equals(name)) {
+            dispatch(() -> call(data, client));
+        } else {
+            dispatch(() -> events.event(name, data, client, this));
+        }
+    }
+
+    // Reply is sent when handler completes, calls are not serialized: client matches replies by correlation id.
+    private void call(String data, GinetServerClient client) {
+        String[] call = GinetRpc.parse(data);
+
+        long id = call == null ? -1 : GinetRpc.id(call[0]);
+
+        if(id < 0) return;
+
+        GinetRpcAsyncHandler handler = handlers.get(call[1]);
+
+        if(handler == null) {
+            reply(id, false, "Unknown method " + call[1], client);
+
+            return;
+        }
+
+        CompletionStage<String> response;
+
+        try {
+            response = handler.handle(call[2], client);
+        } catch(Exception exception) {
+            reply(id, false, message(exception), client);
+
+            return;
+        }
+
+        if(response == null) {
+            reply(id, true, null, client);
+
+            return;
+        }
+
+        response.whenComplete((result, failure) -> reply(id, failure == null, failure == null ? result : message(failure), client));
+    }
+
+    private void reply(long id, boolean ok, String response, GinetServerClient client) {
+        emit(GinetRpc.REPLY_EVENT, GinetRpc.reply(id, ok, response), client);
+    }
+
+    private static String message(Throwable failure) {
+        if(failure instanceof CompletionException && failure.getCause() != null) failure = failure.getCause();
+
+        return failure.getMessage() == null ? failure.getClass().getSimpleName() : failure.getMessage();
+    }
+
+    // Client asked for a session: resumes session of the token if server still keeps it, starts a new one otherwise.
+    // Always answered (empty token without sessions): unanswered request stalls Nagle's algorithm on client's first writes.
+    private void session(String token, GinetServerClient client) {
+        if(client.getSession() != null || !registry.contains(client)) return;
+
+        if(sessionGrace <= 0) {
+            emit(GinetProtocol.SESSION_EVENT, "", client);
+
+            return;
+        }
+
+        GinetSession session = token.isEmpty() ? null : registry.sessions().get(token);
+
+        if(session == null || !resume(session, client)) {
+            session = new GinetSession(randomUUID().toString(), client);
+
+            registry.sessions().put(session.getToken(), session);
+
+            client.setSession(session);
+        }
+
+        emit(GinetProtocol.SESSION_EVENT, session.getToken(), client);
+    }
+
+    private boolean resume(GinetSession session, GinetServerClient client) {
+        GinetServerClient previous;
+
+        float[] position;
+
+        synchronized(session) {
+            if(session.isExpired()) return false;
+
+            previous = session.attach(client);
+
+            position = previous == null ? session.takePosition() : interest.getPosition(previous);
+        }
+
+        // Old connection not noticed as dead yet: new connection takes the session over.
+        if(previous != null) {
+            previous.setSession(null);
+
+            disconnect(previous);
+        }
+
+        client.setSession(session);
+
+        registry.rename(client, session.getIdentifier());
+
+        if(position != null) setPosition(client, position[0], position[1]);
+
+        dispatch(() -> events.resumed(client, session, this));
+
+        return true;
+    }
+
+    void closed(GinetServerClient client, boolean lost) {
+        if(lost) dispatch(() -> events.lost(client, this));
+
+        dispatch(() -> events.disconnection(client, this));
+
+        removed(client);
+    }
+
+    // Every removal path ends here (once per client): session of the client waits grace time for resumption.
+    private void removed(GinetServerClient client) {
+        if(!registry.remove(client)) return;
+
+        float[] position = interest.getPosition(client);
+
+        interest.remove(client);
+
+        GinetSession session = client.getSession();
+
+        long generation = session == null ? -1 : session.detach(client, position, System.currentTimeMillis());
+
+        if(generation < 0) return;
+
+        long grace = sessionGrace;
+
+        if(grace <= 0) {
+            expire(session, generation);
+        } else {
+            CompletableFuture.delayedExecutor(grace, TimeUnit.MILLISECONDS).execute(() -> expire(session, generation));
+        }
+    }
+
+    private void expire(GinetSession session, long generation) {
+        if(!session.expire(generation)) return;
+
+        registry.sessions().remove(session.getToken(), session);
+
+        dispatch(() -> events.expired(session, this));
+    }
+
+    void exception(Exception exception) {
+        dispatch(() -> events.exception(exception, this));
+    }
+
+    void ended() {
+        dispatch(() -> events.end(this));
+    }
+
+    private void dispatch(Runnable callback) {
+        if(callbackExecutor == null) {
+            callback.run();
+        } else {
+            callbackExecutor.execute(callback);
+        }
+    }
+
     /**
      * Send data to specific client.
      *
@@ -168,26 +507,228 @@ public class GinetServerTCP {
      * @param client Client.
      */
     public void emit(String eventName, String data, GinetServerClient client) {
-        send("EV-BGN EVENT-NAME%s&&&EVENT-DATA%s EV-END".formatted(eventName, data), client);
+        emit(eventName, data, client, null);
+    }
+
+    /**
+     * Emit client event with merge key: unsent event with the same key is replaced (see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param client Client.
+     * @param key Merge key (null for unkeyed event).
+     */
+    public void emit(String eventName, String data, GinetServerClient client, String key) {
+        if(!hasClient(client)) return;
+
+        client.send(GinetEncodedMessage.event(eventName, data, key));
     }
 
     /**
-     * Broadcast data to all clients.
+     * Emit binary client event (client must have negotiated binary protocol, see <code>GinetServerClient::isBinary</code>).
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param client Client.
+     */
+    public void emit(int eventId, ByteBuffer payload, GinetServerClient client) {
+        emit(eventId, payload, client, null);
+    }
+
+    /**
+     * Emit binary client event with merge key (see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param client Client.
+     * @param key Merge key (null for unkeyed event).
+     */
+    public void emit(int eventId, ByteBuffer payload, GinetServerClient client, String key) {
+        if(!hasClient(client)) return;
+
+        assert_t(!client.send(GinetEncodedMessage.binary(eventId, payload, key)), "binary events need binary protocol (see GinetProtocolMode)");
+    }
+
+    /**
+     * Broadcast data to all clients (data is encoded once and shared by all clients).
      *
      * @param data Data to broadcast.
      */
     public void broadcast(String data) {
-        for(GinetServerClient client : clients) send(data, client);
+        broadcast(GinetEncodedMessage.data(data));
     }
 
     /**
-     * Emit event for all clients.
+     * Emit event for all clients (event is encoded once and shared by all clients).
      *
      * @param eventName Event name.
      * @param data Event data.
      */
     public void broadcastEvent(String eventName, String data) {
-        for(GinetServerClient client : clients) emit(eventName, data, client);
+        broadcastEvent(eventName, data, null);
+    }
+
+    /**
+     * Emit event with merge key for all clients (see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param key Merge key (null for unkeyed event).
+     */
+    public void broadcastEvent(String eventName, String data, String key) {
+        broadcast(GinetEncodedMessage.event(eventName, data, key));
+    }
+
+    /**
+     * Emit binary event for all clients that negotiated binary protocol (event is encoded once and shared by all clients).
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     */
+    public void broadcastEvent(int eventId, ByteBuffer payload) {
+        broadcastEvent(eventId, payload, null);
+    }
+
+    /**
+     * Emit binary event with merge key for all clients that negotiated binary protocol (see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param key Merge key (null for unkeyed event).
+     */
+    public void broadcastEvent(int eventId, ByteBuffer payload, String key) {
+        broadcast(GinetEncodedMessage.binary(eventId, payload, key));
+    }
+
+    private void broadcast(GinetEncodedMessage message) {
+        for(GinetServerClient client : registry.clients()) client.send(message);
+    }
+
+    /**
+     * Set client position for area of interest broadcasts (clients without position receive none of them).
+     *
+     * @param client Client.
+     * @param x Position X.
+     * @param y Position Y.
+     */
+    public void setPosition(GinetServerClient client, float x, float y) {
+        if(!hasClient(client)) return;
+
+        interest.update(client, x, y);
+
+        // Disconnected in the meantime: its removal may have run before the update.
+        if(!hasClient(client)) interest.remove(client);
+    }
+
+    /**
+     * Broadcast data to clients within range of a point (data is encoded once and shared by these clients).
+     *
+     * @param data Data to broadcast.
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     */
+    public void broadcastNear(String data, float x, float y, float range) {
+        broadcastNear(GinetEncodedMessage.data(data), x, y, range);
+    }
+
+    /**
+     * Emit event for clients within range of a point (event is encoded once and shared by these clients).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     */
+    public void broadcastEventNear(String eventName, String data, float x, float y, float range) {
+        broadcastEventNear(eventName, data, null, x, y, range);
+    }
+
+    /**
+     * Emit event with merge key for clients within range of a point (see <code>GinetSlowConsumerPolicy.MERGE_BY_KEY</code>).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param key Merge key (null for unkeyed event).
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     */
+    public void broadcastEventNear(String eventName, String data, String key, float x, float y, float range) {
+        broadcastNear(GinetEncodedMessage.event(eventName, data, key), x, y, range);
+    }
+
+    /**
+     * Emit binary event for clients within range of a point that negotiated binary protocol.
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     */
+    public void broadcastEventNear(int eventId, ByteBuffer payload, float x, float y, float range) {
+        broadcastEventNear(eventId, payload, null, x, y, range);
+    }
+
+    /**
+     * Emit binary event with merge key for clients within range of a point that negotiated binary protocol.
+     *
+     * @param eventId Event id (0 - 65533).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param key Merge key (null for unkeyed event).
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     */
+    public void broadcastEventNear(int eventId, ByteBuffer payload, String key, float x, float y, float range) {
+        broadcastNear(GinetEncodedMessage.binary(eventId, payload, key), x, y, range);
+    }
+
+    private void broadcastNear(GinetEncodedMessage message, float x, float y, float range) {
+        // Sent outside of grid lock: client send may block on its own lock.
+        for(GinetServerClient client : interest.query(x, y, range, new ArrayList<>())) client.send(message);
+    }
+
+    /**
+     * Register RPC method handler (replaces previous handler of the method).
+     *
+     * @param method Method name (no spaces).
+     * @param handler Handler.
+     */
+    public void handle(String method, GinetRpcHandler handler) {
+        handleAsync(method, (request, client) -> CompletableFuture.completedFuture(handler.handle(request, client)));
+    }
+
+    /**
+     * Register asynchronous RPC method handler (replaces previous handler of the method).
+     *
+     * @param method Method name (no spaces).
+     * @param handler Handler.
+     */
+    public void handleAsync(String method, GinetRpcAsyncHandler handler) {
+        assert_t(method.isEmpty() || method.indexOf(' ') >= 0, "RPC method name must be non-empty and without spaces");
+
+        handlers.put(method, handler);
+    }
+
+    /**
+     * Remove RPC method handler.
+     *
+     * @param method Method name.
+     */
+    public void removeHandler(String method) {
+        handlers.remove(method);
+    }
+
+    /**
+     * Is RPC method handled.
+     *
+     * @param method Method name.
+     */
+    public boolean hasHandler(String method) {
+        return handlers.containsKey(method);
     }
 
     /**
@@ -199,28 +740,98 @@ public class GinetServerTCP {
         if(!hasClient(client)) return;
 
         try {
-            client.getClient().close();
+            client.disconnect();
         } catch(IOException ioExc) {
-            events.exception(ioExc, this);
+            exception(ioExc);
         }
     }
 
     /**
-     * Get client from array.
+     * Get client by position in connected clients (O(n) walk of the live view, no copy).
+     * Positions change whenever clients connect or disconnect.
      *
      * @param index Client index.
+     *
+     * @deprecated Iterate <code>getConnectedClients</code> or look clients up with <code>getClient(String)</code>.
      */
+    @Deprecated
     public GinetServerClient getClient(int index) {
-        return clients.get(index);
+        int position = 0;
+
+        for(GinetServerClient client : getConnectedClients()) {
+            if(position++ == index) return client;
+        }
+
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + position);
     }
 
     /**
-     * Is client in list.
+     * Get connected client by identifier, null if there is none (latest one if visitors from one IP share identifier).
+     *
+     * @param identifier Client identifier.
+     */
+    public GinetServerClient getClient(String identifier) {
+        return registry.byIdentifier(identifier);
+    }
+
+    /**
+     * Get connected clients from IP (read-only live view).
+     *
+     * @param ip Client IP.
+     */
+    public Collection<GinetServerClient> getClientsByIP(String ip) {
+        return registry.byIP(ip);
+    }
+
+    /**
+     * Get connected clients count.
+     */
+    public int getClientCount() {
+        return registry.size();
+    }
+
+    /**
+     * Is client connected.
      *
      * @param client Client.
      */
     public boolean hasClient(GinetServerClient client) {
-        return clients.contains(client);
+        return registry.contains(client);
+    }
+
+    /**
+     * Keep sessions of disconnected clients for grace time: GinetClientTCP reconnecting with session token within it
+     * resumes the session (see <code>GinetClientTCP::reconnect</code>), expired event is triggered otherwise.
+     *
+     * @param sessionGrace_ Grace time (ms), 0 disables sessions (default).
+     */
+    public void setSessionGrace(long sessionGrace_) {
+        assert_t(sessionGrace_ < 0, "session grace time can not be negative");
+
+        sessionGrace = sessionGrace_;
+    }
+
+    /**
+     * Get time (ms) sessions of disconnected clients are kept for.
+     */
+    public long getSessionGrace() {
+        return sessionGrace;
+    }
+
+    /**
+     * Get session by token (attached or waiting for resumption), null if there is none.
+     *
+     * @param token Session token.
+     */
+    public GinetSession getSession(String token) {
+        return token == null ? null : registry.sessions().get(token);
+    }
+
+    /**
+     * Get kept sessions count (attached or waiting for resumption).
+     */
+    public int getSessionCount() {
+        return registry.sessions().size();
     }
 
     /**
@@ -232,13 +843,19 @@ public class GinetServerTCP {
         try {
             socket.close();
 
-            for(GinetServerClient client : clients) {
+            if(nio != null) {
+                nio.stop();
+
+                return;
+            }
+
+            for(GinetServerClient client : registry.clients()) {
                 client.getClient().close();
 
                 client.getClientOut().close();
             }
         } catch(IOException ioExc) {
-            events.exception(ioExc, this);
+            exception(ioExc);
         }
     }
 
@@ -248,7 +865,7 @@ public class GinetServerTCP {
      * @param client Client.
      */
     public void registerVisitor(GinetServerClient client) {
-        visitors.put(client.getIP(), client.getClientIdentifier());
+        registry.visitors().put(client.getIP(), client.getClientIdentifier());
     }
 
     /**
@@ -257,13 +874,7 @@ public class GinetServerTCP {
      * @param ip Visitor IP.
      */
     public GinetServerClient getVisitor(String ip) {
-        for(GinetServerClient client : clients) {
-            if(client.getClientIdentifier().equals(getVisitorIdentifier(ip))) {
-                return client;
-            }
-        }
-
-        return null;
+        return registry.byIdentifier(getVisitorIdentifier(ip));
     }
 
     /**
@@ -272,7 +883,7 @@ public class GinetServerTCP {
      * @param ip Visitor IP.
      */
     public boolean hadVisitor(String ip) {
-        return visitors.containsKey(ip);
+        return registry.visitors().containsKey(ip);
     }
 
     /**
@@ -281,7 +892,7 @@ public class GinetServerTCP {
      * @param ip Visitor IP.
      */
     public String getVisitorIdentifier(String ip) {
-        return visitors.getOrDefault(ip, null);
+        return registry.visitors().get(ip);
     }
 
     /**
@@ -292,17 +903,104 @@ public class GinetServerTCP {
     }
 
     /**
-     * Get clients list.
+     * Get connected clients.
+     * Since clients are indexed by identifier and IP, this is a snapshot copy (O(n)), not the live list it used to be.
+     *
+     * @deprecated Use <code>getConnectedClients</code> (live view, no copy) or <code>getClientCount</code>.
      */
+    @Deprecated
     public List<GinetServerClient> getClients() {
-        return clients;
+        return new ArrayList<>(registry.clients());
+    }
+
+    /**
+     * Get connected clients (live unmodifiable view, safe to iterate while clients connect and disconnect).
+     */
+    public Collection<GinetServerClient> getConnectedClients() {
+        return Collections.unmodifiableCollection(registry.clients());
+    }
+
+    /**
+     * Get area of interest index of client positions.
+     */
+    public GinetInterestGrid<GinetServerClient> getInterest() {
+        return interest;
     }
 
     /**
      * Get visitors map (IP:Identifier).
+     * Since visitors are kept in a concurrent map, this is a snapshot copy (changes to it are not applied to the server).
+     *
+     * @deprecated Use <code>getVisitorMap</code> (live concurrent map).
      */
+    @Deprecated
     public HashMap<String, String> getVisitors() {
-        return visitors;
+        return new HashMap<>(registry.visitors());
+    }
+
+    /**
+     * Get visitors map (IP:Identifier, live and concurrent).
+     */
+    public Map<String, String> getVisitorMap() {
+        return registry.visitors();
+    }
+
+    /**
+     * Get server execution mode.
+     */
+    public GinetServerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Change per-client outbound queue limits and what happens when client is over them.
+     *
+     * @param maxMessages Max queued messages per client.
+     * @param maxBytes Max queued bytes per client.
+     * @param policy Slow consumer policy.
+     */
+    public void setOutboundLimits(int maxMessages, long maxBytes, GinetSlowConsumerPolicy policy) {
+        assert_t(maxMessages < 1 || maxBytes < 1, "outbound limits must be positive");
+
+        outboundMaxMessages = maxMessages;
+        outboundMaxBytes = maxBytes;
+
+        slowConsumerPolicy = policy;
+    }
+
+    /**
+     * Get max queued messages per client.
+     */
+    public int getOutboundMaxMessages() {
+        return outboundMaxMessages;
+    }
+
+    /**
+     * Get max queued bytes per client.
+     */
+    public long getOutboundMaxBytes() {
+        return outboundMaxBytes;
+    }
+
+    /**
+     * Get slow consumer policy.
+     */
+    public GinetSlowConsumerPolicy getSlowConsumerPolicy() {
+        return slowConsumerPolicy;
+    }
+
+    /**
+     * Get event callbacks executor (null if callbacks run on connection/I/O threads).
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * Are virtual threads supported by running JVM (<code>GinetServerMode.VIRTUAL_THREADS</code> falls back to platform threads otherwise)?
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return GinetThreads.hasVirtualThreads();
     }
 
     /**
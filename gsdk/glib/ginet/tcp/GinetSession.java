@@ -0,0 +1,134 @@
+package gsdk.glib.ginet.tcp;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Client session kept by GinetServerTCP across reconnects (see <code>GinetServerTCP::setSessionGrace</code>).
+ * A client that reconnects with the session token within grace time takes over the session identifier,
+ * attachment and area of interest position instead of starting over.
+ */
+public class GinetSession {
+    private final String token;
+
+    private final String identifier;
+
+    private volatile Object attachment;
+
+    private GinetServerClient client;
+
+    private long detachedTime;
+
+    // Increased on every detach: delayed expiry of an earlier detach is ignored.
+    private long generation = 0;
+
+    private float[] position;
+
+    private boolean expired = false;
+
+    GinetSession(String token_, GinetServerClient client_) {
+        token = token_;
+
+        identifier = client_.getClientIdentifier();
+
+        client = client_;
+    }
+
+    // Returns client that held the session (null if detached), caller disconnects it. Expired session can not be attached.
+    synchronized GinetServerClient attach(GinetServerClient client_) {
+        assert_t(expired, "session expired");
+
+        GinetServerClient previous = client;
+
+        client = client_;
+
+        return previous;
+    }
+
+    // Returns detach generation, -1 if session is held by another client.
+    synchronized long detach(GinetServerClient client_, float[] position_, long now) {
+        if(client != client_) return -1;
+
+        client = null;
+
+        position = position_;
+
+        detachedTime = now;
+
+        return ++generation;
+    }
+
+    // Expires session if it is still detached since given detach, true if it did.
+    synchronized boolean expire(long generation_) {
+        if(client != null || generation != generation_) return false;
+
+        expired = true;
+
+        return true;
+    }
+
+    synchronized float[] takePosition() {
+        float[] taken = position;
+
+        position = null;
+
+        return taken;
+    }
+
+    /**
+     * Is session expired (not resumable anymore).
+     */
+    public synchronized boolean isExpired() {
+        return expired;
+    }
+
+    /**
+     * Get session token (secret of the client, sent by it to resume session).
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Get client identifier kept by the session.
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Get client holding the session (null while detached).
+     */
+    public synchronized GinetServerClient getClient() {
+        return client;
+    }
+
+    /**
+     * Is session held by a connected client.
+     */
+    public synchronized boolean isAttached() {
+        return client != null;
+    }
+
+    /**
+     * Get time (System.currentTimeMillis) session was detached at (0 if never).
+     */
+    public synchronized long getDetachedTime() {
+        return detachedTime;
+    }
+
+    /**
+     * Get game state attached to the session.
+     */
+    public Object getAttachment() {
+        return attachment;
+    }
+
+    /**
+     * Attach game state to the session (kept while client reconnects).
+     *
+     * @param attachment_ Game state.
+     */
+    public void setAttachment(Object attachment_) {
+        attachment = attachment_;
+    }
+}
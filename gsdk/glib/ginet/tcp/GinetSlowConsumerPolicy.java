@@ -0,0 +1,21 @@
+package gsdk.glib.ginet.tcp;
+
+/**
+ * What server does when client's outbound queue is over its limits (client reads slower than server sends).
+ */
+public enum GinetSlowConsumerPolicy {
+    /**
+     * Drop oldest unsent messages until queue fits its limits.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Keyed message replaces unsent message with the same key (latest state wins), then drop oldest if still over limits.
+     */
+    MERGE_BY_KEY,
+
+    /**
+     * Disconnect client.
+     */
+    DISCONNECT
+}
@@ -0,0 +1,153 @@
+package gsdk.glib.ginet.tcp;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.io.IOException;
+
+// Splits received bytes into UTF-8 lines ('\n' or "\r\n" terminated) or, after switching to binary, into length-prefixed frames.
+// Partial line/frame is kept between reads; frames that arrived whole are passed as slices of the read buffer.
+class GinetStreamDecoder {
+    protected static final int MAX_LINE_LENGTH = 1 << 20;
+
+    protected static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private byte[] pending = new byte[256];
+
+    private int pendingLength = 0;
+
+    private boolean binary = false;
+
+    /**
+     * Feed received bytes (buffer is fully consumed). Handler may switch decoder to binary, remaining bytes are decoded as frames.
+     *
+     * @param buffer Received bytes (big-endian).
+     * @param handler Lines and frames handler.
+     */
+    protected void feed(ByteBuffer buffer, Handler handler) throws IOException {
+        while(buffer.hasRemaining()) {
+            if(binary) {
+                feedFrame(buffer, handler);
+
+                continue;
+            }
+
+            byte value = buffer.get();
+
+            if(value == '\n') {
+                int length = pendingLength > 0 && pending[pendingLength - 1] == '\r' ? pendingLength - 1 : pendingLength;
+
+                pendingLength = 0;
+
+                handler.line(new String(pending, 0, length, StandardCharsets.UTF_8));
+
+                continue;
+            }
+
+            if(pendingLength == pending.length) {
+                if(pending.length >= MAX_LINE_LENGTH) throw new IOException("Line is longer than %d bytes".formatted(MAX_LINE_LENGTH));
+
+                grow(pending.length * 2);
+            }
+
+            pending[pendingLength++] = value;
+        }
+    }
+
+    private void feedFrame(ByteBuffer buffer, Handler handler) throws IOException {
+        int position = buffer.position();
+
+        // Whole frame in buffer: no copy.
+        if(pendingLength == 0 && buffer.remaining() >= GinetProtocol.FRAME_HEADER) {
+            int frameLength = frameLength(buffer.getInt(position));
+
+            if(buffer.remaining() >= frameLength) {
+                int id = buffer.getShort(position + 4) & 0xFFFF;
+
+                ByteBuffer payload = buffer.slice(position + GinetProtocol.FRAME_HEADER, frameLength - GinetProtocol.FRAME_HEADER);
+
+                buffer.position(position + frameLength);
+
+                handler.frame(id, payload);
+
+                return;
+            }
+        }
+
+        // Frame split between reads: collect header first, then the rest.
+        if(pendingLength < GinetProtocol.FRAME_HEADER) {
+            int count = Math.min(GinetProtocol.FRAME_HEADER - pendingLength, buffer.remaining());
+
+            buffer.get(pending, pendingLength, count);
+
+            pendingLength += count;
+
+            if(pendingLength < GinetProtocol.FRAME_HEADER) return;
+        }
+
+        int frameLength = frameLength(ByteBuffer.wrap(pending).getInt(0));
+
+        if(frameLength > pending.length) grow(frameLength);
+
+        int count = Math.min(frameLength - pendingLength, buffer.remaining());
+
+        buffer.get(pending, pendingLength, count);
+
+        pendingLength += count;
+
+        if(pendingLength < frameLength) return;
+
+        pendingLength = 0;
+
+        handler.frame(((pending[4] & 0xFF) << 8) | (pending[5] & 0xFF), ByteBuffer.wrap(pending, GinetProtocol.FRAME_HEADER, frameLength - GinetProtocol.FRAME_HEADER).slice());
+    }
+
+    // Length prefix counts id and payload: whole frame = prefix + length.
+    private static int frameLength(int length) throws IOException {
+        if(length < 2 || length > GinetProtocol.MAX_FRAME_LENGTH) throw new IOException("Invalid frame length %d".formatted(length));
+
+        return 4 + length;
+    }
+
+    private void grow(int capacity) {
+        byte[] grown = new byte[capacity];
+
+        System.arraycopy(pending, 0, grown, 0, pendingLength);
+
+        pending = grown;
+    }
+
+    /**
+     * Switch to binary frames (lines until then).
+     *
+     * @param binary_ Binary?
+     */
+    protected void setBinary(boolean binary_) {
+        binary = binary_;
+    }
+
+    /**
+     * Is decoding binary frames.
+     */
+    protected boolean isBinary() {
+        return binary;
+    }
+
+    interface Handler {
+        /**
+         * Text line received.
+         *
+         * @param line Line without terminator.
+         */
+        void line(String line) throws IOException;
+
+        /**
+         * Binary frame received.
+         *
+         * @param id Frame event id.
+         * @param payload Payload slice, valid only during call.
+         */
+        void frame(int id, ByteBuffer payload) throws IOException;
+    }
+}
@@ -0,0 +1,66 @@
+package gsdk.glib.ginet.tcp;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+// Connection threads: virtual thread per connection when running on Java 21+, platform threads otherwise.
+// Writes of blocking modes share one pool: platform writer threads exist only while a write is in progress (idle ones exit after 60 s).
+class GinetThreads {
+    private static final Executor VIRTUAL_EXECUTOR = newVirtualExecutor();
+
+    private static final Executor WRITER_EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "ginet-writer");
+
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    /**
+     * Are virtual threads supported by running JVM?
+     */
+    protected static boolean hasVirtualThreads() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Run task on its own thread.
+     *
+     * @param task Task.
+     * @param virtual Use virtual thread (falls back to platform thread if not supported).
+     * @param name Platform thread name.
+     */
+    protected static void start(Runnable task, boolean virtual, String name) {
+        if(virtual && VIRTUAL_EXECUTOR != null) {
+            VIRTUAL_EXECUTOR.execute(task);
+
+            return;
+        }
+
+        new Thread(task, name).start();
+    }
+
+    /**
+     * Run write task on shared writer threads.
+     *
+     * @param task Task.
+     * @param virtual Use virtual thread (falls back to shared platform threads if not supported).
+     */
+    protected static void write(Runnable task, boolean virtual) {
+        if(virtual && VIRTUAL_EXECUTOR != null) {
+            VIRTUAL_EXECUTOR.execute(task);
+
+            return;
+        }
+
+        WRITER_EXECUTOR.execute(task);
+    }
+
+    private static Executor newVirtualExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch(ReflectiveOperationException | UnsupportedOperationException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package gsdk.glib.ginet.udp;
+
+/**
+ * Ginet UDP delivery channels.
+ */
+public enum GinetChannelUDP {
+    /**
+     * Sequenced: may be lost, never duplicated, messages older than the newest delivered one are dropped.
+     * Use for state that is resent every tick (positions, inputs).
+     */
+    UNRELIABLE,
+
+    /**
+     * Reliable and ordered: resent until acknowledged, delivered exactly once in send order.
+     */
+    RELIABLE_ORDERED
+}
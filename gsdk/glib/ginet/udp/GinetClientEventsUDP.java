@@ -0,0 +1,72 @@
+package gsdk.glib.ginet.udp;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Networking client events (UDP).
+ * Callbacks run on client's receive thread (lost server is reported by its tick thread) and should not block.
+ */
+public interface GinetClientEventsUDP {
+    /**
+     * Triggered when client connected to the server.
+     *
+     * @param client Client reference.
+     */
+    void connection(GinetClientUDP client);
+
+    /**
+     * Triggered when client disconnected from the server.
+     *
+     * @param client Client reference.
+     */
+    void disconnection(GinetClientUDP client);
+
+    /**
+     * Triggered when data is received from server.
+     *
+     * @param data Data.
+     * @param client Client reference.
+     */
+    void receive(String data, GinetClientUDP client);
+
+    /**
+     * Triggered when event is toggled by server.
+     *
+     * @param name Event name.
+     * @param data Event data.
+     * @param client Client reference.
+     */
+    void event(String name, String data, GinetClientUDP client);
+
+    /**
+     * Triggered when exception raised on client side.
+     *
+     * @param exception Exception raised.
+     * @param client Client reference.
+     */
+    void exception(Exception exception, GinetClientUDP client);
+
+    /**
+     * Triggered when server stopped answering for client timeout (followed by disconnection).
+     *
+     * @param client Client reference.
+     */
+    void lost(GinetClientUDP client);
+
+    /**
+     * Triggered when server did not accept connection in connection time.
+     *
+     * @param client Client reference.
+     */
+    void timeout(GinetClientUDP client);
+
+    /**
+     * Triggered when binary event is toggled by server.
+     * Payload is valid only during the call.
+     *
+     * @param id Event id.
+     * @param payload Event payload.
+     * @param client Client reference.
+     */
+    default void binaryEvent(int id, ByteBuffer payload, GinetClientUDP client) {}
+}
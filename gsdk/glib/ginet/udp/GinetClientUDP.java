@@ -0,0 +1,379 @@
+package gsdk.glib.ginet.udp;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GinetClientUDP -
+ *
+ * Event-driven UDP client for Game Immediate mode Networking (Ginet), counterpart of GinetServerUDP.
+ * The client connects with a handshake (retried until accepted or connection time passes), keeps the
+ * connection alive and sends messages over sequenced unreliable or reliable-ordered channels.<br>
+ *
+ * @see GinetServerUDP
+ */
+public class GinetClientUDP {
+    protected static final long CONNECT_RETRY = 250;
+
+    private DatagramSocket socket;
+
+    private final String host;
+
+    private final int port;
+
+    private final int connectionTime;
+
+    private final int timeout;
+
+    private final InetSocketAddress inetAddress;
+
+    private final GinetClientEventsUDP events;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private volatile GinetConnectionUDP connection;
+
+    private volatile boolean connected = false;
+
+    private volatile boolean active;
+
+    /**
+     * Initialize Game Immediate mode Networking client (UDP).
+     *
+     * @param events_ Events handler.
+     * @param host_ Server host.
+     * @param port_ Server port.
+     * @param connectionTime_ Time (ms) server has to accept connection (0 to retry forever).
+     */
+    public GinetClientUDP(GinetClientEventsUDP events_, String host_, int port_, int connectionTime_) {
+        this(events_, host_, port_, connectionTime_, GinetServerUDP.DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Initialize Game Immediate mode Networking client (UDP).
+     *
+     * @param events_ Events handler.
+     * @param host_ Server host.
+     * @param port_ Server port.
+     * @param connectionTime_ Time (ms) server has to accept connection (0 to retry forever).
+     * @param timeout_ Time (ms) after which silent server is lost.
+     */
+    public GinetClientUDP(GinetClientEventsUDP events_, String host_, int port_, int connectionTime_, int timeout_) {
+        host = host_;
+        port = port_;
+
+        connectionTime = connectionTime_;
+
+        timeout = timeout_;
+
+        inetAddress = new InetSocketAddress(host, port);
+
+        events = events_;
+
+        active = true;
+
+        connect();
+    }
+
+    private void connect() {
+        new Thread(() -> {
+            try {
+                socket = new DatagramSocket();
+
+                socket.connect(inetAddress);
+
+                socket.setSoTimeout((int) CONNECT_RETRY);
+
+                connection = new GinetConnectionUDP(inetAddress, this::transmit, timeout, now());
+
+                long deadline = now() + connectionTime;
+
+                transmit(GinetProtocolUDP.handshake(GinetProtocolUDP.CONNECT), inetAddress);
+
+                byte[] data = new byte[GinetProtocolUDP.MAX_PACKET_SIZE];
+
+                DatagramPacket datagram = new DatagramPacket(data, data.length);
+
+                List<ByteBuffer> deliveries = new ArrayList<>();
+
+                while(active) {
+                    try {
+                        datagram.setLength(data.length);
+
+                        socket.receive(datagram);
+                    } catch(SocketTimeoutException timeoutExc) {
+                        if(connectionTime > 0 && now() >= deadline) {
+                            events.timeout(this);
+
+                            close(false);
+
+                            return;
+                        }
+
+                        transmit(GinetProtocolUDP.handshake(GinetProtocolUDP.CONNECT), inetAddress);
+
+                        continue;
+                    } catch(PortUnreachableException unreachableExc) {
+                        // ICMP for an earlier packet: server not started yet or restarting, handshake retry or timeout decides.
+                        continue;
+                    }
+
+                    try {
+                        received(ByteBuffer.wrap(data, 0, datagram.getLength()), deliveries);
+                    } catch(BufferUnderflowException malformed) {
+                        // Truncated packet or message body: ignored like any other lost datagram.
+                    } catch(RuntimeException exception) {
+                        // Bad peer or failing callback: reported, client keeps receiving.
+                        if(active) events.exception(exception, this);
+                    } finally {
+                        deliveries.clear();
+                    }
+                }
+            } catch(IOException ioExc) {
+                if(active) {
+                    events.exception(ioExc, this);
+
+                    close(false);
+                }
+            }
+        }, "ginet-udp-client").start();
+    }
+
+    private void received(ByteBuffer packet, List<ByteBuffer> deliveries) throws IOException {
+        if(!packet.hasRemaining()) return;
+
+        byte type = packet.get(packet.position());
+
+        if(!connected) {
+            // Data before ACCEPT means ACCEPT was lost or reordered.
+            boolean accepted = type == GinetProtocolUDP.ACCEPT ? GinetProtocolUDP.isHandshake(packet) : type == GinetProtocolUDP.DATA || type == GinetProtocolUDP.PING;
+
+            if(!accepted) return;
+
+            connected = true;
+
+            socket.setSoTimeout(0);
+
+            Thread ticker = new Thread(this::ticker, "ginet-udp-client-tick");
+
+            ticker.setDaemon(true);
+
+            ticker.start();
+
+            events.connection(this);
+        }
+
+        if(type == GinetProtocolUDP.ACCEPT) return;
+
+        if(type == GinetProtocolUDP.DISCONNECT) {
+            close(false);
+
+            return;
+        }
+
+        connection.receive(packet, now(), deliveries);
+
+        for(ByteBuffer body : deliveries) {
+            try {
+                deliver(body);
+            } catch(BufferUnderflowException malformed) {
+                // Truncated message body: dropped, the rest of the packet is still delivered.
+            } catch(RuntimeException exception) {
+                // Failing callback must not stop the receive thread or lose the rest of the packet.
+                events.exception(exception, this);
+            }
+        }
+    }
+
+    private void deliver(ByteBuffer body) {
+        byte kind = body.get();
+
+        if(kind == GinetProtocolUDP.KIND_DATA) {
+            events.receive(GinetProtocolUDP.decodeString(body), this);
+        } else if(kind == GinetProtocolUDP.KIND_EVENT) {
+            int nameLength = body.getShort() & 0xFFFF;
+
+            // Name length beyond the body: malformed message is dropped.
+            if(nameLength > body.remaining()) return;
+
+            String name = GinetProtocolUDP.decodeString(body.slice(body.position(), nameLength));
+
+            body.position(body.position() + nameLength);
+
+            events.event(name, GinetProtocolUDP.decodeString(body), this);
+        } else if(kind == GinetProtocolUDP.KIND_BINARY) {
+            int id = body.getShort() & 0xFFFF;
+
+            events.binaryEvent(id, body.slice(), this);
+        }
+    }
+
+    private void ticker() {
+        while(active) {
+            if(!connection.tick(now())) {
+                events.lost(this);
+
+                close(false);
+
+                return;
+            }
+
+            try {
+                Thread.sleep(GinetServerUDP.TICK_INTERVAL);
+            } catch(InterruptedException interruptedExc) {
+                return;
+            }
+        }
+    }
+
+    private void transmit(ByteBuffer packet, SocketAddress address) {
+        try {
+            socket.send(new DatagramPacket(packet.array(), packet.arrayOffset() + packet.position(), packet.remaining(), address));
+        } catch(IOException ioExc) {
+            if(active) events.exception(ioExc, this);
+        }
+    }
+
+    private void close(boolean notifyServer) {
+        if(!closed.compareAndSet(false, true)) return;
+
+        if(notifyServer && connected) {
+            for(int i = 0; i < GinetServerUDP.DISCONNECT_REPEAT; i++) transmit(ByteBuffer.wrap(new byte[] {GinetProtocolUDP.DISCONNECT}), inetAddress);
+        }
+
+        active = false;
+
+        if(connected) events.disconnection(this);
+
+        connected = false;
+
+        if(socket != null) socket.close();
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    /**
+     * Send data to server.
+     *
+     * @param data Data.
+     * @param channel Delivery channel.
+     */
+    public void send(String data, GinetChannelUDP channel) {
+        if(connected) connection.send(GinetProtocolUDP.encodeData(data), channel, now());
+    }
+
+    /**
+     * Emit server event.
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param channel Delivery channel.
+     */
+    public void emit(String eventName, String data, GinetChannelUDP channel) {
+        if(connected) connection.send(GinetProtocolUDP.encodeEvent(eventName, data), channel, now());
+    }
+
+    /**
+     * Emit binary server event.
+     *
+     * @param eventId Event id (0 - 65535).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param channel Delivery channel.
+     */
+    public void emit(int eventId, ByteBuffer payload, GinetChannelUDP channel) {
+        if(connected) connection.send(GinetProtocolUDP.encodeBinary(eventId, payload), channel, now());
+    }
+
+    /**
+     * Disconnect from the server.
+     */
+    public void disconnect() {
+        close(true);
+    }
+
+    /**
+     * Is connection accepted by the server.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Get smoothed round trip time (ms).
+     */
+    public double getRoundTripTime() {
+        return connection == null ? 0.0 : connection.getRoundTripTime();
+    }
+
+    /**
+     * Get reliable fragments not acknowledged yet.
+     */
+    public int getPendingReliable() {
+        return connection == null ? 0 : connection.getPendingReliable();
+    }
+
+    /**
+     * Get connection host.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Get connection port.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Get time (ms) server has to accept connection.
+     */
+    public int getConnectionTime() {
+        return connectionTime;
+    }
+
+    /**
+     * Get time (ms) after which silent server is lost.
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Get inet socket address.
+     */
+    public InetSocketAddress getSocketAddress() {
+        return inetAddress;
+    }
+
+    /**
+     * Get client socket.
+     */
+    public DatagramSocket getSocket() {
+        return socket;
+    }
+
+    /**
+     * Is client active.
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,462 @@
+package gsdk.glib.ginet.udp;
+
+import java.net.SocketAddress;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+// Per-peer UDP reliability state shared by server and client.
+// Every DATA packet gets a sequence number and carries selective acks (newest received seq + 32 bit history) of the other side.
+// Reliable fragments are resent in new packets until a packet carrying them is acked; receiver reorders them by message id.
+class GinetConnectionUDP {
+    protected static final int RELIABLE_WINDOW = 256;
+
+    protected static final int RECEIVE_WINDOW = 4096;
+
+    protected static final long KEEPALIVE_INTERVAL = 250;
+
+    protected static final long MIN_RESEND_TIME = 20, MAX_RESEND_TIME = 1000;
+
+    private static final int SENT_PACKETS = 1024;
+
+    private final SocketAddress address;
+
+    private final Transport transport;
+
+    private final long timeout;
+
+    private final ByteBuffer packet = ByteBuffer.allocate(GinetProtocolUDP.MAX_PACKET_SIZE);
+
+    // Sending.
+    private int nextSeq = 0, nextReliableId = 0, nextUnreliableId = 0;
+
+    private final ArrayDeque<Fragment> pending = new ArrayDeque<>();
+
+    private final LinkedHashMap<Integer, Fragment> inFlight = new LinkedHashMap<>();
+
+    private final SentPacket[] sentPackets = new SentPacket[SENT_PACKETS];
+
+    private long lastSendTime;
+
+    private double roundTripTime = 100.0;
+
+    private long sentPacketsCount = 0, resentPacketsCount = 0, receivedPacketsCount = 0;
+
+    // Receiving.
+    private int remoteSeq = -1;
+
+    private long remoteBits = 0;
+
+    private boolean ackPending = false;
+
+    private int nextDeliverId = 0;
+
+    private final HashMap<Integer, Fragment> received = new HashMap<>();
+
+    private byte[] reliableAssembly;
+
+    private int reliableAssembled, reliableCount, reliableNextIndex;
+
+    private int newestUnreliableId = -1, assemblingId = -1, assemblingLeft;
+
+    private byte[][] assemblingParts;
+
+    private long lastReceiveTime;
+
+    protected GinetConnectionUDP(SocketAddress address_, Transport transport_, long timeout_, long now) {
+        address = address_;
+
+        transport = transport_;
+
+        timeout = timeout_;
+
+        lastSendTime = now;
+        lastReceiveTime = now;
+    }
+
+    /**
+     * Send message (body is shared, never modified).
+     *
+     * @param body Encoded message body.
+     * @param channel Delivery channel.
+     * @param now Current time (ms).
+     */
+    protected synchronized void send(byte[] body, GinetChannelUDP channel, long now) {
+        int count = Math.max(1, (body.length + GinetProtocolUDP.FRAGMENT_SIZE - 1) / GinetProtocolUDP.FRAGMENT_SIZE);
+
+        boolean reliable = channel == GinetChannelUDP.RELIABLE_ORDERED;
+
+        int unreliableId = reliable ? 0 : nextUnreliableId++;
+
+        for(int i = 0; i < count; i++) {
+            int offset = i * GinetProtocolUDP.FRAGMENT_SIZE;
+
+            Fragment fragment = new Fragment(reliable ? nextReliableId++ : unreliableId, i, count, body, offset, Math.min(GinetProtocolUDP.FRAGMENT_SIZE, body.length - offset));
+
+            if(reliable) {
+                pending.add(fragment);
+            } else {
+                transmit(fragment, false, now);
+            }
+        }
+
+        pump(now);
+    }
+
+    // Move pending reliable fragments into flight while window allows.
+    private void pump(long now) {
+        while(!pending.isEmpty() && inFlight.size() < RELIABLE_WINDOW) {
+            Fragment fragment = pending.poll();
+
+            inFlight.put(fragment.id, fragment);
+
+            transmit(fragment, true, now);
+        }
+    }
+
+    private void transmit(Fragment fragment, boolean reliable, long now) {
+        int seq = nextSeq++;
+
+        packet.clear();
+
+        packet.put(GinetProtocolUDP.DATA).putInt(seq).putInt(remoteSeq).putInt((int) remoteBits);
+
+        packet.put((byte) (reliable ? GinetChannelUDP.RELIABLE_ORDERED : GinetChannelUDP.UNRELIABLE).ordinal());
+
+        packet.putInt(fragment.id).putShort((short) fragment.index).putShort((short) fragment.count);
+
+        packet.put(fragment.body, fragment.offset, fragment.length).flip();
+
+        sentPackets[seq & (SENT_PACKETS - 1)] = new SentPacket(seq, now, reliable ? fragment : null);
+
+        fragment.lastSent = now;
+
+        ackPending = false;
+
+        lastSendTime = now;
+
+        sentPacketsCount++;
+
+        transport.transmit(packet, address);
+    }
+
+    private void ping(long now) {
+        packet.clear();
+
+        packet.put(GinetProtocolUDP.PING).putInt(remoteSeq).putInt((int) remoteBits).flip();
+
+        ackPending = false;
+
+        lastSendTime = now;
+
+        transport.transmit(packet, address);
+    }
+
+    /**
+     * Process received PING or DATA packet, complete messages are added to deliveries
+     * (bodies are valid until received buffer is reused).
+     *
+     * @param buffer Received packet.
+     * @param now Current time (ms).
+     * @param deliveries Complete message bodies.
+     */
+    protected synchronized void receive(ByteBuffer buffer, long now, List<ByteBuffer> deliveries) {
+        lastReceiveTime = now;
+
+        byte type = buffer.get();
+
+        if(type == GinetProtocolUDP.PING) {
+            if(buffer.remaining() >= 8) acks(buffer.getInt(), buffer.getInt(), now);
+
+            return;
+        }
+
+        if(type != GinetProtocolUDP.DATA || buffer.remaining() < GinetProtocolUDP.DATA_HEADER - 1) return;
+
+        int seq = buffer.getInt();
+
+        acks(buffer.getInt(), buffer.getInt(), now);
+
+        if(!record(seq)) return;
+
+        receivedPacketsCount++;
+
+        ackPending = true;
+
+        int channel = buffer.get();
+        int id = buffer.getInt();
+
+        int index = buffer.getShort() & 0xFFFF, count = buffer.getShort() & 0xFFFF;
+
+        if(count == 0 || count > GinetProtocolUDP.MAX_FRAGMENTS || index >= count) return;
+
+        if(channel == GinetChannelUDP.RELIABLE_ORDERED.ordinal()) {
+            receiveReliable(id, index, count, buffer, deliveries);
+        } else {
+            receiveUnreliable(id, index, count, buffer, deliveries);
+        }
+    }
+
+    private void receiveReliable(int id, int index, int count, ByteBuffer buffer, List<ByteBuffer> deliveries) {
+        int distance = id - nextDeliverId;
+
+        // Already delivered (resent because ack was lost) or too far ahead (will be resent).
+        if(distance < 0 || distance >= RECEIVE_WINDOW || received.containsKey(id)) return;
+
+        byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        received.put(id, new Fragment(id, index, count, bytes, 0, bytes.length));
+
+        Fragment fragment;
+
+        // Reliable fragments of a message have consecutive ids, so in-order delivery also reassembles them in order.
+        while((fragment = received.remove(nextDeliverId)) != null) {
+            nextDeliverId++;
+
+            if(fragment.count == 1) {
+                // Message being assembled can not continue after another message.
+                reliableAssembly = null;
+
+                deliveries.add(ByteBuffer.wrap(fragment.body));
+
+                continue;
+            }
+
+            if(fragment.index == 0) {
+                reliableAssembly = new byte[fragment.count * GinetProtocolUDP.FRAGMENT_SIZE];
+
+                reliableAssembled = 0;
+
+                reliableCount = fragment.count;
+
+                reliableNextIndex = 0;
+            }
+
+            if(reliableAssembly == null) continue;
+
+            // Index and count come from the peer: fragment out of sequence or over assembly size drops the message.
+            if(fragment.count != reliableCount || fragment.index != reliableNextIndex || reliableAssembled + fragment.length > reliableAssembly.length) {
+                reliableAssembly = null;
+
+                continue;
+            }
+
+            reliableNextIndex++;
+
+            System.arraycopy(fragment.body, 0, reliableAssembly, reliableAssembled, fragment.length);
+
+            reliableAssembled += fragment.length;
+
+            if(fragment.index == fragment.count - 1) {
+                deliveries.add(ByteBuffer.wrap(reliableAssembly, 0, reliableAssembled));
+
+                reliableAssembly = null;
+            }
+        }
+    }
+
+    private void receiveUnreliable(int id, int index, int count, ByteBuffer buffer, List<ByteBuffer> deliveries) {
+        // Sequenced: anything not newer than the newest delivered message is stale.
+        if(newestUnreliableId != -1 && id - newestUnreliableId <= 0) return;
+
+        if(count == 1) {
+            newestUnreliableId = id;
+
+            deliveries.add(buffer.slice());
+
+            return;
+        }
+
+        if(id != assemblingId) {
+            // Partial older message is abandoned when a newer one starts.
+            if(assemblingId != -1 && id - assemblingId < 0) return;
+
+            assemblingId = id;
+            assemblingLeft = count;
+            assemblingParts = new byte[count][];
+        }
+
+        if(count != assemblingParts.length || assemblingParts[index] != null) return;
+
+        assemblingParts[index] = new byte[buffer.remaining()];
+
+        buffer.get(assemblingParts[index]);
+
+        if(--assemblingLeft > 0) return;
+
+        int length = 0;
+
+        for(byte[] part : assemblingParts) length += part.length;
+
+        ByteBuffer body = ByteBuffer.allocate(length);
+
+        for(byte[] part : assemblingParts) body.put(part);
+
+        newestUnreliableId = id;
+
+        assemblingId = -1;
+        assemblingParts = null;
+
+        deliveries.add(body.flip());
+    }
+
+    // Remember received seq, returns false for duplicate packets.
+    private boolean record(int seq) {
+        if(remoteSeq == -1 && remoteBits == 0) {
+            remoteSeq = seq;
+
+            return true;
+        }
+
+        int distance = seq - remoteSeq;
+
+        if(distance > 0) {
+            remoteBits = distance > 32 ? 0 : ((remoteBits << distance) | (1L << (distance - 1))) & 0xFFFFFFFFL;
+
+            remoteSeq = seq;
+
+            return true;
+        }
+
+        if(distance == 0) return false;
+
+        int bit = -distance - 1;
+
+        // Older than ack history: can not be acked again, message ids filter duplicates.
+        if(bit >= 32) return true;
+
+        if((remoteBits & (1L << bit)) != 0) return false;
+
+        remoteBits |= 1L << bit;
+
+        return true;
+    }
+
+    private void acks(int ack, int bits, long now) {
+        if(ack < 0) return;
+
+        acked(ack, now);
+
+        for(int i = 0; i < 32; i++) {
+            if((bits & (1 << i)) != 0) acked(ack - 1 - i, now);
+        }
+    }
+
+    private void acked(int seq, long now) {
+        SentPacket sent = sentPackets[seq & (SENT_PACKETS - 1)];
+
+        if(sent == null || sent.seq != seq || sent.acked) return;
+
+        sent.acked = true;
+
+        roundTripTime += ((now - sent.time) - roundTripTime) * 0.1;
+
+        if(sent.fragment != null) inFlight.remove(sent.fragment.id);
+    }
+
+    /**
+     * Resend unacked reliable fragments, send pending acks and keepalive.
+     * Returns false if peer timed out.
+     *
+     * @param now Current time (ms).
+     */
+    protected synchronized boolean tick(long now) {
+        if(now - lastReceiveTime > timeout) return false;
+
+        long resendTime = Math.max(MIN_RESEND_TIME, Math.min(MAX_RESEND_TIME, (long) (roundTripTime * 2.0) + 5));
+
+        for(Fragment fragment : inFlight.values()) {
+            if(now - fragment.lastSent < resendTime) continue;
+
+            transmit(fragment, true, now);
+
+            resentPacketsCount++;
+        }
+
+        pump(now);
+
+        if(ackPending || now - lastSendTime >= KEEPALIVE_INTERVAL) ping(now);
+
+        return true;
+    }
+
+    protected SocketAddress getAddress() {
+        return address;
+    }
+
+    protected synchronized double getRoundTripTime() {
+        return roundTripTime;
+    }
+
+    protected synchronized long getSentPackets() {
+        return sentPacketsCount;
+    }
+
+    protected synchronized long getResentPackets() {
+        return resentPacketsCount;
+    }
+
+    protected synchronized long getReceivedPackets() {
+        return receivedPacketsCount;
+    }
+
+    protected synchronized int getPendingReliable() {
+        return pending.size() + inFlight.size();
+    }
+
+    interface Transport {
+        /**
+         * Send datagram (packet is reused after call).
+         *
+         * @param packet Packet.
+         * @param address Peer address.
+         */
+        void transmit(ByteBuffer packet, SocketAddress address);
+    }
+
+    private static class Fragment {
+        private final int id, index, count;
+
+        private final byte[] body;
+
+        private final int offset, length;
+
+        private long lastSent;
+
+        private Fragment(int id_, int index_, int count_, byte[] body_, int offset_, int length_) {
+            id = id_;
+
+            index = index_;
+            count = count_;
+
+            body = body_;
+
+            offset = offset_;
+            length = length_;
+        }
+    }
+
+    private static class SentPacket {
+        private final int seq;
+
+        private final long time;
+
+        private final Fragment fragment;
+
+        private boolean acked = false;
+
+        private SentPacket(int seq_, long time_, Fragment fragment_) {
+            seq = seq_;
+
+            time = time_;
+
+            fragment = fragment_;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package gsdk.glib.ginet.udp;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+// Ginet UDP wire format (big-endian):
+// CONNECT    [type][int magic][byte version]          client -> server, repeated until ACCEPT
+// ACCEPT     [type][int magic][byte version]          server -> client (also answers repeated CONNECT)
+// DISCONNECT [type]
+// PING       [type][int ack][int ackBits]             keepalive / ack-only packet
+// DATA       [type][int seq][int ack][int ackBits][byte channel][int message id][short fragment][short fragments][body fragment]
+// ack is the newest received DATA seq, bit i of ackBits acks seq ack - 1 - i.
+// Message body: [byte kind][data] - KIND_DATA: UTF-8 data, KIND_EVENT: [short name length][name][data], KIND_BINARY: [short id][payload].
+class GinetProtocolUDP {
+    protected static final int MAGIC = 0x474E5544;
+
+    protected static final byte VERSION = 1;
+
+    protected static final byte CONNECT = 1, ACCEPT = 2, DISCONNECT = 3, PING = 4, DATA = 5;
+
+    protected static final byte KIND_DATA = 0, KIND_EVENT = 1, KIND_BINARY = 2;
+
+    protected static final int DATA_HEADER = 1 + 4 + 4 + 4 + 1 + 4 + 2 + 2;
+
+    // Fits into 1280 bytes IPv6 minimum MTU with IP/UDP headers.
+    protected static final int FRAGMENT_SIZE = 1200;
+
+    protected static final int MAX_PACKET_SIZE = DATA_HEADER + FRAGMENT_SIZE;
+
+    protected static final int MAX_FRAGMENTS = 1024;
+
+    protected static final int MAX_EVENT_ID = 0xFFFF;
+
+    /**
+     * Encode handshake packet (CONNECT or ACCEPT).
+     *
+     * @param type Packet type.
+     */
+    protected static ByteBuffer handshake(byte type) {
+        return ByteBuffer.allocate(6).put(type).putInt(MAGIC).put(VERSION).flip();
+    }
+
+    /**
+     * Is handshake packet valid (magic and version match).
+     *
+     * @param packet Packet.
+     */
+    protected static boolean isHandshake(ByteBuffer packet) {
+        return packet.remaining() >= 6 && packet.getInt(packet.position() + 1) == MAGIC && packet.get(packet.position() + 5) == VERSION;
+    }
+
+    /**
+     * Encode data message body.
+     *
+     * @param data Data.
+     */
+    protected static byte[] encodeData(String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+
+        return body(KIND_DATA, bytes.length).put(bytes).array();
+    }
+
+    /**
+     * Encode text event message body.
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     */
+    protected static byte[] encodeEvent(String eventName, String data) {
+        byte[] name = eventName.getBytes(StandardCharsets.UTF_8), bytes = data.getBytes(StandardCharsets.UTF_8);
+
+        assert_t(name.length > 0xFFFF, "event name is longer than 65535 bytes");
+
+        return body(KIND_EVENT, 2 + name.length + bytes.length).putShort((short) name.length).put(name).put(bytes).array();
+    }
+
+    /**
+     * Encode binary event message body (payload position is not changed).
+     *
+     * @param id Event id (0 - 65535).
+     * @param payload Event payload.
+     */
+    protected static byte[] encodeBinary(int id, ByteBuffer payload) {
+        assert_t(id < 0 || id > MAX_EVENT_ID, "binary event id must be in range 0 - 65535");
+
+        return body(KIND_BINARY, 2 + payload.remaining()).putShort((short) id).put(payload.duplicate()).array();
+    }
+
+    private static ByteBuffer body(byte kind, int length) {
+        assert_t(1 + length > FRAGMENT_SIZE * MAX_FRAGMENTS, "message is longer than 1200 KB");
+
+        return ByteBuffer.allocate(1 + length).put(kind);
+    }
+
+    /**
+     * Decode UTF-8 string from buffer's remaining bytes (position is not changed).
+     *
+     * @param buffer Buffer (heap).
+     */
+    protected static String decodeString(ByteBuffer buffer) {
+        return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package gsdk.glib.ginet.udp;
+
+import java.net.InetSocketAddress;
+
+import static java.util.UUID.randomUUID;
+
+/**
+ * Server representation of a UDP client.
+ */
+public class GinetServerClientUDP {
+    private final InetSocketAddress address;
+
+    private final String clientIdentifier;
+
+    private final GinetConnectionUDP connection;
+
+    GinetServerClientUDP(InetSocketAddress address_, GinetConnectionUDP connection_) {
+        address = address_;
+
+        connection = connection_;
+
+        clientIdentifier = randomUUID().toString();
+    }
+
+    GinetConnectionUDP getConnection() {
+        return connection;
+    }
+
+    /**
+     * Get client IP.
+     */
+    public String getIP() {
+        return address.getAddress().getHostAddress();
+    }
+
+    /**
+     * Get client port.
+     */
+    public int getPort() {
+        return address.getPort();
+    }
+
+    /**
+     * Get client address.
+     */
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Get client identifier.
+     */
+    public String getClientIdentifier() {
+        return clientIdentifier;
+    }
+
+    /**
+     * Get smoothed round trip time (ms).
+     */
+    public double getRoundTripTime() {
+        return connection.getRoundTripTime();
+    }
+
+    /**
+     * Get sent data packets count (resends included).
+     */
+    public long getSentPackets() {
+        return connection.getSentPackets();
+    }
+
+    /**
+     * Get resent reliable packets count.
+     */
+    public long getResentPackets() {
+        return connection.getResentPackets();
+    }
+
+    /**
+     * Get received data packets count.
+     */
+    public long getReceivedPackets() {
+        return connection.getReceivedPackets();
+    }
+
+    /**
+     * Get reliable fragments not acknowledged yet.
+     */
+    public int getPendingReliable() {
+        return connection.getPendingReliable();
+    }
+}
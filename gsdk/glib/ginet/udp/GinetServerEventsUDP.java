@@ -0,0 +1,85 @@
+package gsdk.glib.ginet.udp;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Networking server events (UDP).
+ * Callbacks run on server's receive thread (lost peers are reported by its tick thread) and should not block.
+ */
+public interface GinetServerEventsUDP {
+    /**
+     * Triggered when server is booted.
+     *
+     * @param server Server reference.
+     */
+    void start(GinetServerUDP server);
+
+    /**
+     * Triggered when server is stopped.
+     *
+     * @param server Server reference.
+     */
+    void end(GinetServerUDP server);
+
+    /**
+     * Triggered when new client connected.
+     *
+     * @param client Client.
+     * @param server Server reference.
+     */
+    void connection(GinetServerClientUDP client, GinetServerUDP server);
+
+    /**
+     * Triggered when client disconnected.
+     *
+     * @param client Client.
+     * @param server Server reference.
+     */
+    void disconnection(GinetServerClientUDP client, GinetServerUDP server);
+
+    /**
+     * Triggered when data is received from client.
+     *
+     * @param data Data.
+     * @param client Client.
+     * @param server Server reference.
+     */
+    void receive(String data, GinetServerClientUDP client, GinetServerUDP server);
+
+    /**
+     * Triggered when event is toggled by client.
+     *
+     * @param name Event name.
+     * @param data Event data.
+     * @param client Client.
+     * @param server Server reference.
+     */
+    void event(String name, String data, GinetServerClientUDP client, GinetServerUDP server);
+
+    /**
+     * Triggered when exception raised on server side.
+     *
+     * @param exception Raised exception.
+     * @param server Server reference.
+     */
+    void exception(Exception exception, GinetServerUDP server);
+
+    /**
+     * Triggered when client stopped answering for server timeout (followed by disconnection).
+     *
+     * @param client Client that left.
+     * @param server Server reference.
+     */
+    void lost(GinetServerClientUDP client, GinetServerUDP server);
+
+    /**
+     * Triggered when binary event is toggled by client.
+     * Payload is valid only during the call.
+     *
+     * @param id Event id.
+     * @param payload Event payload.
+     * @param client Client.
+     * @param server Server reference.
+     */
+    default void binaryEvent(int id, ByteBuffer payload, GinetServerClientUDP client, GinetServerUDP server) {}
+}
@@ -0,0 +1,456 @@
+package gsdk.glib.ginet.udp;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import gsdk.glib.ginet.GinetInterestGrid;
+
+/**
+ * GinetServerUDP -
+ *
+ * Event-driven UDP server for Game Immediate mode Networking (Ginet), for latency-sensitive traffic
+ * such as position updates, where TCP's retransmission and ordering of every byte lengthens latency.<br>
+ *
+ * Key Features:<br>
+ * - Connections: clients connect with a handshake, are kept alive by keepalive packets and time out when silent.<br>
+ * - Sequence numbers: every packet is numbered and acknowledged selectively (newest seq + 32 packet history).<br>
+ * - Channels: sequenced unreliable messages, or reliable-ordered messages resent until acknowledged.<br>
+ * - Fragmentation: messages larger than one packet (1200 bytes) are split and reassembled.<br>
+ * - Same events as GinetServerTCP: data, text events and binary events.<br>
+ * - Broadcast only to clients within range of a point (area of interest).<br><br>
+ *
+ * The User Datagram Protocol (UDP) is one of the core communication protocols of the Internet protocol suite.
+ * UDP uses a simple connectionless communication model: it provides checksums for data integrity, but no handshaking,
+ * delivery, ordering or duplicate protection; those are added here only for messages that need them.
+ * <br>
+ * @see <a href="https://en.wikipedia.org/wiki/User_Datagram_Protocol">User Datagram Protocol (Wikipedia).</a>
+ */
+public class GinetServerUDP {
+    public static final int DEFAULT_TIMEOUT = 5000;
+
+    protected static final long TICK_INTERVAL = 10;
+
+    protected static final int DISCONNECT_REPEAT = 3;
+
+    private final DatagramSocket socket;
+
+    private final ConcurrentHashMap<SocketAddress, GinetServerClientUDP> clients;
+
+    private final GinetServerEventsUDP events;
+
+    private final GinetInterestGrid<GinetServerClientUDP> interest = new GinetInterestGrid<>();
+
+    private final int timeout;
+
+    private volatile boolean active;
+
+    /**
+     * Initialize Game Immediate mode Networking server (UDP).
+     *
+     * @param events_ Events handler.
+     * @param port Server port.
+     */
+    public GinetServerUDP(GinetServerEventsUDP events_, int port) throws IOException {
+        this(events_, port, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Initialize Game Immediate mode Networking server (UDP).
+     *
+     * @param events_ Events handler.
+     * @param port Server port.
+     * @param timeout_ Time (ms) after which silent client is lost.
+     */
+    public GinetServerUDP(GinetServerEventsUDP events_, int port, int timeout_) throws IOException {
+        socket = new DatagramSocket(port);
+
+        clients = new ConcurrentHashMap<>();
+
+        events = events_;
+
+        timeout = timeout_;
+
+        active = true;
+
+        server();
+    }
+
+    private void server() {
+        events.start(this);
+
+        Thread ticker = new Thread(this::ticker, "ginet-udp-tick");
+
+        ticker.setDaemon(true);
+
+        ticker.start();
+
+        new Thread(() -> {
+            byte[] data = new byte[GinetProtocolUDP.MAX_PACKET_SIZE];
+
+            DatagramPacket datagram = new DatagramPacket(data, data.length);
+
+            List<ByteBuffer> deliveries = new ArrayList<>();
+
+            while(active) {
+                try {
+                    datagram.setLength(data.length);
+
+                    socket.receive(datagram);
+
+                    received((InetSocketAddress) datagram.getSocketAddress(), ByteBuffer.wrap(data, 0, datagram.getLength()), deliveries);
+                } catch(IOException ioExc) {
+                    if(active) events.exception(ioExc, this);
+                } catch(BufferUnderflowException malformed) {
+                    // Truncated packet or message body: ignored like any other lost datagram.
+                } catch(RuntimeException exception) {
+                    // Bad peer or failing callback: reported, server keeps receiving.
+                    if(active) events.exception(exception, this);
+                } finally {
+                    deliveries.clear();
+                }
+            }
+
+            events.end(this);
+        }, "ginet-udp-receive").start();
+    }
+
+    private void received(InetSocketAddress address, ByteBuffer packet, List<ByteBuffer> deliveries) {
+        if(!packet.hasRemaining()) return;
+
+        byte type = packet.get(packet.position());
+
+        GinetServerClientUDP client = clients.get(address);
+
+        if(type == GinetProtocolUDP.CONNECT) {
+            if(!GinetProtocolUDP.isHandshake(packet)) return;
+
+            // Repeated CONNECT means ACCEPT was lost.
+            transmit(GinetProtocolUDP.handshake(GinetProtocolUDP.ACCEPT), address);
+
+            if(client == null) {
+                client = new GinetServerClientUDP(address, new GinetConnectionUDP(address, this::transmit, timeout, now()));
+
+                clients.put(address, client);
+
+                events.connection(client, this);
+            }
+
+            return;
+        }
+
+        if(client == null) return;
+
+        if(type == GinetProtocolUDP.DISCONNECT) {
+            if(clients.remove(address, client)) {
+                interest.remove(client);
+
+                events.disconnection(client, this);
+            }
+
+            return;
+        }
+
+        client.getConnection().receive(packet, now(), deliveries);
+
+        for(ByteBuffer body : deliveries) {
+            try {
+                deliver(body, client);
+            } catch(BufferUnderflowException malformed) {
+                // Truncated message body: dropped, the rest of the packet is still delivered.
+            } catch(RuntimeException exception) {
+                // Failing callback must not stop the receive thread or lose the rest of the packet.
+                events.exception(exception, this);
+            }
+        }
+    }
+
+    private void deliver(ByteBuffer body, GinetServerClientUDP client) {
+        byte kind = body.get();
+
+        if(kind == GinetProtocolUDP.KIND_DATA) {
+            events.receive(GinetProtocolUDP.decodeString(body), client, this);
+        } else if(kind == GinetProtocolUDP.KIND_EVENT) {
+            int nameLength = body.getShort() & 0xFFFF;
+
+            // Name length beyond the body: malformed message is dropped.
+            if(nameLength > body.remaining()) return;
+
+            String name = GinetProtocolUDP.decodeString(body.slice(body.position(), nameLength));
+
+            body.position(body.position() + nameLength);
+
+            events.event(name, GinetProtocolUDP.decodeString(body), client, this);
+        } else if(kind == GinetProtocolUDP.KIND_BINARY) {
+            int id = body.getShort() & 0xFFFF;
+
+            events.binaryEvent(id, body.slice(), client, this);
+        }
+    }
+
+    private void ticker() {
+        while(active) {
+            long now = now();
+
+            for(GinetServerClientUDP client : clients.values()) {
+                if(!client.getConnection().tick(now) && clients.remove(client.getAddress(), client)) {
+                    interest.remove(client);
+
+                    events.lost(client, this);
+
+                    events.disconnection(client, this);
+                }
+            }
+
+            try {
+                Thread.sleep(TICK_INTERVAL);
+            } catch(InterruptedException interruptedExc) {
+                return;
+            }
+        }
+    }
+
+    private void transmit(ByteBuffer packet, SocketAddress address) {
+        try {
+            socket.send(new DatagramPacket(packet.array(), packet.arrayOffset() + packet.position(), packet.remaining(), address));
+        } catch(IOException ioExc) {
+            if(active) events.exception(ioExc, this);
+        }
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    /**
+     * Send data to specific client.
+     *
+     * @param data Data to send.
+     * @param client Client.
+     * @param channel Delivery channel.
+     */
+    public void send(String data, GinetServerClientUDP client, GinetChannelUDP channel) {
+        if(!hasClient(client)) return;
+
+        client.getConnection().send(GinetProtocolUDP.encodeData(data), channel, now());
+    }
+
+    /**
+     * Emit client event.
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param client Client.
+     * @param channel Delivery channel.
+     */
+    public void emit(String eventName, String data, GinetServerClientUDP client, GinetChannelUDP channel) {
+        if(!hasClient(client)) return;
+
+        client.getConnection().send(GinetProtocolUDP.encodeEvent(eventName, data), channel, now());
+    }
+
+    /**
+     * Emit binary client event.
+     *
+     * @param eventId Event id (0 - 65535).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param client Client.
+     * @param channel Delivery channel.
+     */
+    public void emit(int eventId, ByteBuffer payload, GinetServerClientUDP client, GinetChannelUDP channel) {
+        if(!hasClient(client)) return;
+
+        client.getConnection().send(GinetProtocolUDP.encodeBinary(eventId, payload), channel, now());
+    }
+
+    /**
+     * Broadcast data to all clients (encoded once).
+     *
+     * @param data Data to broadcast.
+     * @param channel Delivery channel.
+     */
+    public void broadcast(String data, GinetChannelUDP channel) {
+        broadcast(GinetProtocolUDP.encodeData(data), channel);
+    }
+
+    /**
+     * Emit event for all clients (encoded once).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param channel Delivery channel.
+     */
+    public void broadcastEvent(String eventName, String data, GinetChannelUDP channel) {
+        broadcast(GinetProtocolUDP.encodeEvent(eventName, data), channel);
+    }
+
+    /**
+     * Emit binary event for all clients (encoded once).
+     *
+     * @param eventId Event id (0 - 65535).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param channel Delivery channel.
+     */
+    public void broadcastEvent(int eventId, ByteBuffer payload, GinetChannelUDP channel) {
+        broadcast(GinetProtocolUDP.encodeBinary(eventId, payload), channel);
+    }
+
+    private void broadcast(byte[] body, GinetChannelUDP channel) {
+        long now = now();
+
+        for(GinetServerClientUDP client : clients.values()) client.getConnection().send(body, channel, now);
+    }
+
+    /**
+     * Set client position for area of interest broadcasts (clients without position receive none of them).
+     *
+     * @param client Client.
+     * @param x Position X.
+     * @param y Position Y.
+     */
+    public void setPosition(GinetServerClientUDP client, float x, float y) {
+        if(!hasClient(client)) return;
+
+        interest.update(client, x, y);
+
+        // Disconnected in the meantime: its removal may have run before the update.
+        if(!hasClient(client)) interest.remove(client);
+    }
+
+    /**
+     * Broadcast data to clients within range of a point (encoded once).
+     *
+     * @param data Data to broadcast.
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     * @param channel Delivery channel.
+     */
+    public void broadcastNear(String data, float x, float y, float range, GinetChannelUDP channel) {
+        broadcastNear(GinetProtocolUDP.encodeData(data), x, y, range, channel);
+    }
+
+    /**
+     * Emit event for clients within range of a point (encoded once).
+     *
+     * @param eventName Event name.
+     * @param data Event data.
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     * @param channel Delivery channel.
+     */
+    public void broadcastEventNear(String eventName, String data, float x, float y, float range, GinetChannelUDP channel) {
+        broadcastNear(GinetProtocolUDP.encodeEvent(eventName, data), x, y, range, channel);
+    }
+
+    /**
+     * Emit binary event for clients within range of a point (encoded once).
+     *
+     * @param eventId Event id (0 - 65535).
+     * @param payload Event payload (remaining bytes, position is not changed).
+     * @param x Source X.
+     * @param y Source Y.
+     * @param range Range.
+     * @param channel Delivery channel.
+     */
+    public void broadcastEventNear(int eventId, ByteBuffer payload, float x, float y, float range, GinetChannelUDP channel) {
+        broadcastNear(GinetProtocolUDP.encodeBinary(eventId, payload), x, y, range, channel);
+    }
+
+    private void broadcastNear(byte[] body, float x, float y, float range, GinetChannelUDP channel) {
+        long now = now();
+
+        for(GinetServerClientUDP client : interest.query(x, y, range, new ArrayList<>())) client.getConnection().send(body, channel, now);
+    }
+
+    /**
+     * Disconnect client.
+     *
+     * @param client Client to disconnect.
+     */
+    public void disconnect(GinetServerClientUDP client) {
+        if(!clients.remove(client.getAddress(), client)) return;
+
+        interest.remove(client);
+
+        for(int i = 0; i < DISCONNECT_REPEAT; i++) transmit(ByteBuffer.wrap(new byte[] {GinetProtocolUDP.DISCONNECT}), client.getAddress());
+
+        events.disconnection(client, this);
+    }
+
+    /**
+     * Is client connected.
+     *
+     * @param client Client.
+     */
+    public boolean hasClient(GinetServerClientUDP client) {
+        return client != null && clients.get(client.getAddress()) == client;
+    }
+
+    /**
+     * Stop server and disconnect all clients.
+     */
+    public void stop() {
+        for(GinetServerClientUDP client : clients.values()) disconnect(client);
+
+        active = false;
+
+        socket.close();
+    }
+
+    /**
+     * Get server socket.
+     */
+    public DatagramSocket getSocket() {
+        return socket;
+    }
+
+    /**
+     * Get server port.
+     */
+    public int getPort() {
+        return socket.getLocalPort();
+    }
+
+    /**
+     * Get connected clients.
+     */
+    public Collection<GinetServerClientUDP> getClients() {
+        return Collections.unmodifiableCollection(clients.values());
+    }
+
+    /**
+     * Get area of interest index of client positions.
+     */
+    public GinetInterestGrid<GinetServerClientUDP> getInterest() {
+        return interest;
+    }
+
+    /**
+     * Get time (ms) after which silent client is lost.
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Is server active?
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,184 @@
+package gsdk.r_utilities.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+
+import java.net.InetSocketAddress;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.SocketChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import gsdk.glib.ginet.tcp.GinetServerTCP;
+import gsdk.glib.ginet.tcp.GinetServerMode;
+import gsdk.glib.ginet.tcp.GinetServerClient;
+import gsdk.glib.ginet.tcp.GinetServerEventsTCP;
+
+/**
+ * Loopback Ginet TCP server benchmark: concurrent connections per execution mode.
+ * Opens N idle clients, round-trips one event per client and measures connect time, round-trip time,
+ * heap and resident memory growth and live platform threads (virtual threads are not counted).
+ * Clients are plain blocking channels on the benchmark thread, so client side costs are equal for all modes.
+ *
+ * Usage: GinetConnectionBenchmark [connections...]
+ */
+public class GinetConnectionBenchmark {
+    public static final int[] CONNECTION_COUNTS = new int[] {1_000, 4_000};
+
+    public static final GinetServerMode[] MODES = new GinetServerMode[] {GinetServerMode.PLATFORM_THREADS, GinetServerMode.VIRTUAL_THREADS, GinetServerMode.NIO};
+
+    public static final String PING = "EV-BGN EVENT-NAMEping&&&EVENT-DATA0 EV-END\n";
+
+    public static final long TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws Exception {
+        int[] counts = CONNECTION_COUNTS;
+
+        if(args.length > 0) {
+            counts = new int[args.length];
+
+            for(int i = 0; i < args.length; i++) counts[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("virtual threads supported: %b%n", GinetServerTCP.isVirtualThreadsSupported());
+        System.out.printf("%-17s %8s %12s %12s %14s %14s %10s%n", "mode", "clients", "connect ms", "round ms", "heap KB/conn", "rss KB/conn", "threads");
+
+        for(int count : counts) {
+            for(GinetServerMode mode : MODES) run(mode, count);
+        }
+    }
+
+    private static void run(GinetServerMode mode, int count) throws Exception {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        CountDownLatch connected = new CountDownLatch(count), disconnected = new CountDownLatch(count);
+
+        long heapStart = usedHeap(memoryBean), rssStart = residentBytes();
+        int threadsStart = threadBean.getThreadCount();
+
+        GinetServerTCP server = new GinetServerTCP(new Events(connected, disconnected), 0, mode);
+
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", server.getServerSocket().getLocalPort());
+
+        List<SocketChannel> channels = new ArrayList<>(count);
+
+        long start = System.nanoTime();
+
+        try {
+            for(int i = 0; i < count; i++) channels.add(SocketChannel.open(address));
+
+            if(!connected.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) throw new IllegalStateException(mode + ": only " + (count - connected.getCount()) + " clients connected");
+
+            double connectMs = (System.nanoTime() - start) / 1e6;
+
+            // Every client is connected and idle: this is the steady state cost of the mode.
+            long heap = usedHeap(memoryBean) - heapStart, rss = residentBytes() - rssStart;
+            int threads = threadBean.getThreadCount() - threadsStart;
+
+            start = System.nanoTime();
+
+            ByteBuffer ping = ByteBuffer.wrap(PING.getBytes(StandardCharsets.UTF_8));
+
+            for(SocketChannel channel : channels) {
+                ping.rewind();
+
+                while(ping.hasRemaining()) channel.write(ping);
+            }
+
+            ByteBuffer pong = ByteBuffer.allocate(PING.length());
+
+            for(SocketChannel channel : channels) {
+                pong.clear();
+
+                while(pong.hasRemaining()) {
+                    if(channel.read(pong) < 0) throw new IllegalStateException(mode + ": connection closed before echo");
+                }
+            }
+
+            double roundMs = (System.nanoTime() - start) / 1e6;
+
+            System.out.printf("%-17s %8d %12.1f %12.1f %14.2f %14s %10d%n", mode, count, connectMs, roundMs, heap / 1024.0 / count, rssStart < 0 ? "n/a" : String.format("%.2f", rss / 1024.0 / count), threads);
+        } finally {
+            for(SocketChannel channel : channels) channel.close();
+
+            disconnected.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            server.stop();
+        }
+    }
+
+    private static long usedHeap(MemoryMXBean memoryBean) throws InterruptedException {
+        System.gc();
+
+        Thread.sleep(100);
+
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    // Resident set size (Linux only, -1 elsewhere): includes thread stacks, unlike heap usage.
+    private static long residentBytes() {
+        try {
+            for(String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if(line.startsWith("VmRSS:")) return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+            }
+        } catch(IOException | RuntimeException exception) {
+            return -1;
+        }
+
+        return -1;
+    }
+
+    private static class Events implements GinetServerEventsTCP {
+        private final CountDownLatch connected, disconnected;
+
+        private Events(CountDownLatch connected_, CountDownLatch disconnected_) {
+            connected = connected_;
+            disconnected = disconnected_;
+        }
+
+        @Override
+        public void start(GinetServerTCP server) {}
+
+        @Override
+        public void end(GinetServerTCP server) {}
+
+        @Override
+        public void connection(GinetServerClient client, GinetServerTCP server) {
+            connected.countDown();
+        }
+
+        @Override
+        public void disconnection(GinetServerClient client, GinetServerTCP server) {
+            disconnected.countDown();
+        }
+
+        @Override
+        public void receive(String data, GinetServerClient client, GinetServerTCP server) {}
+
+        @Override
+        public void event(String name, String data, GinetServerClient client, GinetServerTCP server) {
+            server.emit(name, data, client);
+        }
+
+        @Override
+        public void exception(Exception exception, GinetServerTCP server) {}
+
+        @Override
+        public void lost(GinetServerClient client, GinetServerTCP server) {}
+    }
+}
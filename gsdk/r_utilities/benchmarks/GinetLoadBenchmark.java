@@ -0,0 +1,47 @@
+package gsdk.r_utilities.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import gsdk.glib.ginet.GinetLoadConfig;
+import gsdk.glib.ginet.GinetLoadGenerator;
+import gsdk.glib.ginet.GinetLoadReport;
+import gsdk.glib.ginet.tcp.GinetProtocolMode;
+import gsdk.glib.ginet.tcp.GinetServerMode;
+import gsdk.glib.ginet.udp.GinetChannelUDP;
+
+/**
+ * Loopback Ginet load benchmark: same client count, message rate, size and mix (data, text events, binary events)
+ * against every TCP server mode with both wire protocols and both UDP channels, one report table.
+ * BLOCKING mode serves one client at a time and is left out. Everything runs locally, see GinetLoadGenerator.
+ *
+ * Usage: GinetLoadBenchmark [clients] [rate per client] [message size] [seconds]
+ */
+public class GinetLoadBenchmark {
+    public static final GinetServerMode[] MODES = new GinetServerMode[] {GinetServerMode.NIO, GinetServerMode.PLATFORM_THREADS, GinetServerMode.VIRTUAL_THREADS};
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int rate = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+
+        long duration = args.length > 3 ? (long) (Double.parseDouble(args[3]) * 1000) : 5000;
+
+        List<GinetLoadConfig> configs = new ArrayList<>();
+
+        for(GinetServerMode mode : MODES) {
+            for(GinetProtocolMode protocol : GinetProtocolMode.values()) configs.add(GinetLoadConfig.tcp(mode, protocol));
+        }
+
+        for(GinetChannelUDP channel : GinetChannelUDP.values()) configs.add(GinetLoadConfig.udp(channel));
+
+        System.out.printf("clients: %d, rate: %d msg/s per client, size: %d B, measured: %d ms, mix: data/event/binary 1:1:1%n", clients, rate, size, duration);
+        System.out.println(GinetLoadReport.header());
+
+        for(GinetLoadConfig config : configs) {
+            GinetLoadReport report = GinetLoadGenerator.run(config.withClients(clients).withRate(rate).withMessageSize(size).withDuration(GinetLoadConfig.DEFAULT_WARMUP, duration));
+
+            System.out.println(report);
+        }
+    }
+}
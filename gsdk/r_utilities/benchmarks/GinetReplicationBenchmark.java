@@ -0,0 +1,120 @@
+package gsdk.r_utilities.benchmarks;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import gsdk.glib.ginet.GinetReplicationClient;
+import gsdk.glib.ginet.GinetReplicationServer;
+import gsdk.glib.ginet.GinetTransferableObjectUtility;
+
+/**
+ * Ginet replication bandwidth benchmark (no sockets): full GinetTransferableObjectUtility state per tick
+ * against GinetReplicationServer deltas, for worlds where a given share of entities moves every tick.
+ * Deltas and acknowledgements are dropped with a given probability; client state is checked against
+ * the server after every delivered snapshot.
+ *
+ * Usage: GinetReplicationBenchmark [entities] [ticks] [loss]
+ */
+public class GinetReplicationBenchmark {
+    public static final double[] MOVING = new double[] {0.0, 0.01, 0.05, 0.25, 1.0};
+
+    public static final int CLIENTS = 8;
+
+    public static final int FIELDS = 4;
+
+    public static void main(String[] args) {
+        int entities = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+
+        double loss = args.length > 2 ? Double.parseDouble(args[2]) : 0.05;
+
+        System.out.printf("entities: %d, ticks: %d, clients: %d, loss: %.2f%n", entities, ticks, CLIENTS, loss);
+        System.out.printf("%-8s %16s %16s %8s %10s %10s %12s%n", "moving", "full B/tick", "delta B/tick", "ratio", "full sent", "deltas", "encode us");
+
+        for(double moving : MOVING) run(entities, ticks, moving, loss);
+    }
+
+    private static void run(int entities, int ticks, double moving, double loss) {
+        Random random = new Random(42);
+
+        GinetReplicationServer<Integer> server = new GinetReplicationServer<>();
+
+        List<GinetReplicationClient> clients = new ArrayList<>();
+
+        for(int i = 0; i < CLIENTS; i++) clients.add(new GinetReplicationClient());
+
+        // x, y (float bits), angle, health.
+        for(int id = 0; id < entities; id++) server.put(id * 3, Float.floatToIntBits(random.nextFloat() * 1000.0f), Float.floatToIntBits(random.nextFloat() * 1000.0f), random.nextInt(360), 100);
+
+        long fullBytes = 0, deltaBytes = 0, encodeNanos = 0;
+
+        for(int tick = 0; tick < ticks; tick++) {
+            int moved = (int) Math.round(entities * moving);
+
+            for(int i = 0; i < moved; i++) {
+                int id = random.nextInt(entities) * 3;
+
+                server.setFloat(id, 0, Float.intBitsToFloat(server.get(id, 0)) + random.nextFloat() - 0.5f);
+                server.setFloat(id, 1, Float.intBitsToFloat(server.get(id, 1)) + random.nextFloat() - 0.5f);
+
+                if(random.nextInt(10) == 0) server.set(id, 2, random.nextInt(360));
+            }
+
+            int sequence = server.snapshot();
+
+            fullBytes += (long) fullState(server, entities).length * CLIENTS;
+
+            for(int client = 0; client < CLIENTS; client++) {
+                long start = System.nanoTime();
+
+                ByteBuffer delta = server.encode(client);
+
+                encodeNanos += System.nanoTime() - start;
+
+                if(delta == null) continue;
+
+                deltaBytes += delta.remaining();
+
+                if(random.nextDouble() < loss) continue;
+
+                int acknowledged = clients.get(client).receive(delta);
+
+                if(acknowledged == sequence) verify(server, clients.get(client), entities);
+
+                if(acknowledged >= 0 && random.nextDouble() >= loss) server.acknowledge(client, acknowledged);
+            }
+        }
+
+        double perTick = ticks * (double) CLIENTS;
+
+        System.out.printf("%-8.2f %16.0f %16.1f %7.1fx %10d %10d %12.2f%n", moving, fullBytes / perTick, deltaBytes / perTick, (double) fullBytes / Math.max(1, deltaBytes), server.getFullStates(), server.getDeltas(), encodeNanos / 1e3 / perTick);
+    }
+
+    private static byte[] fullState(GinetReplicationServer<Integer> server, int entities) {
+        Object[] objects = new Object[entities];
+
+        for(int id = 0; id < entities; id++) {
+            objects[id] = (id * 3) + ":" + Float.intBitsToFloat(server.get(id * 3, 0)) + ":" + Float.intBitsToFloat(server.get(id * 3, 1)) + ":" + server.get(id * 3, 2) + ":" + server.get(id * 3, 3);
+        }
+
+        return GinetTransferableObjectUtility.assemble(objects).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void verify(GinetReplicationServer<Integer> server, GinetReplicationClient client, int entities) {
+        if(client.getEntityCount() != entities) throw new IllegalStateException("Client has " + client.getEntityCount() + " entities");
+
+        for(int id = 0; id < entities; id++) {
+            int[] expected = new int[FIELDS];
+
+            for(int field = 0; field < FIELDS; field++) expected[field] = server.get(id * 3, field);
+
+            if(!Arrays.equals(expected, client.getFields(id * 3))) throw new IllegalStateException("Client state differs for entity " + id * 3);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package gsdk.r_utilities.benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+
+import gsdk.glib.ginet.GinetReader;
+import gsdk.glib.ginet.GinetRecordSchema;
+import gsdk.glib.ginet.GinetSchema;
+import gsdk.glib.ginet.GinetTransferableObjectUtility;
+import gsdk.glib.ginet.GinetWriter;
+
+/**
+ * Ginet message codec benchmark (no sockets): GinetTransferableObjectUtility assemble/disassemble against
+ * GinetRecordSchema and a hand-written GinetSchema, for a typical player state message.
+ * Measures encode + decode round trips per second, encoded bytes and allocated bytes per round trip.
+ * Every codec is checked to decode the message it encoded before measuring.
+ *
+ * Usage: GinetSchemaBenchmark [measureSeconds]
+ */
+public class GinetSchemaBenchmark {
+    public static final String[] CODECS = new String[] {"assemble", "record schema", "hand schema"};
+
+    public static final int WARMUP_ROUNDS = 200_000;
+
+    public record Vector(float x, float y) {}
+
+    public record Player(int id, String name, Vector position, Vector velocity, int health, boolean alive, int[] inventory) {}
+
+    public static final Player PLAYER = new Player(1042, "Player'One", new Vector(1520.25f, -348.5f), new Vector(0.75f, -1.5f), 87, true, new int[] {3, 17, 17, 240, 1001});
+
+    // Hand-written equivalent of GinetRecordSchema.of(Player.class) (vectors are never null, so no presence bytes).
+    public static final GinetSchema<Player> HAND_SCHEMA = new GinetSchema<>() {
+        @Override
+        public void write(Player value, GinetWriter writer) {
+            writer.writeVarInt(value.id());
+            writer.writeString(value.name());
+
+            writer.writeFloat(value.position().x());
+            writer.writeFloat(value.position().y());
+            writer.writeFloat(value.velocity().x());
+            writer.writeFloat(value.velocity().y());
+
+            writer.writeVarInt(value.health());
+            writer.writeBoolean(value.alive());
+
+            writer.writeUnsignedVarInt(value.inventory().length + 1);
+
+            for(int item : value.inventory()) writer.writeVarInt(item);
+        }
+
+        @Override
+        public Player read(GinetReader reader) {
+            int id = reader.readVarInt();
+
+            String name = reader.readString();
+
+            Vector position = new Vector(reader.readFloat(), reader.readFloat());
+            Vector velocity = new Vector(reader.readFloat(), reader.readFloat());
+
+            int health = reader.readVarInt();
+
+            boolean alive = reader.readBoolean();
+
+            int[] inventory = new int[reader.readLength()];
+
+            for(int i = 0; i < inventory.length; i++) inventory[i] = reader.readVarInt();
+
+            return new Player(id, name, position, velocity, health, alive, inventory);
+        }
+    };
+
+    public static void main(String[] args) {
+        double measureSeconds = args.length > 0 ? Double.parseDouble(args[0]) : 2.0;
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long threadId = Thread.currentThread().getId();
+
+        System.out.printf("%-14s %14s %10s %16s%n", "codec", "round trips/s", "bytes", "alloc bytes/op");
+
+        for(String codec : CODECS) {
+            Codec round = codec(codec);
+
+            if(!same(round.run(), PLAYER)) throw new IllegalStateException(codec + " does not round trip");
+
+            for(int i = 0; i < WARMUP_ROUNDS; i++) round.run();
+
+            long allocatedStart = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime(), end = start + (long) (measureSeconds * 1e9);
+
+            long rounds = 0;
+
+            while(System.nanoTime() < end) {
+                for(int i = 0; i < 1_000; i++) round.run();
+
+                rounds += 1_000;
+            }
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedStart;
+
+            System.out.printf("%-14s %14.0f %10d %16.1f%n", codec, rounds / seconds, round.bytes(), (double) allocated / rounds);
+        }
+    }
+
+    private static Codec codec(String name) {
+        if(name.equals("assemble")) return new AssembleCodec();
+
+        return new SchemaCodec(name.equals("hand schema") ? HAND_SCHEMA : GinetRecordSchema.of(Player.class));
+    }
+
+    private static boolean same(Player a, Player b) {
+        return a.id() == b.id() && a.name().equals(b.name()) && a.position().equals(b.position()) && a.velocity().equals(b.velocity())
+            && a.health() == b.health() && a.alive() == b.alive() && Arrays.equals(a.inventory(), b.inventory());
+    }
+
+    private interface Codec {
+        Player run();
+
+        int bytes();
+    }
+
+    // What applications do today: every field through toString, assemble, then parse after disassemble.
+    private static class AssembleCodec implements Codec {
+        private int bytes;
+
+        @Override
+        public Player run() {
+            StringBuilder inventory = new StringBuilder();
+
+            for(int item : PLAYER.inventory()) inventory.append(inventory.length() == 0 ? "" : ",").append(item);
+
+            String assembled = GinetTransferableObjectUtility.assemble(PLAYER.id(), PLAYER.name(), PLAYER.position().x(), PLAYER.position().y(),
+                PLAYER.velocity().x(), PLAYER.velocity().y(), PLAYER.health(), PLAYER.alive(), inventory);
+
+            bytes = assembled.getBytes(StandardCharsets.UTF_8).length;
+
+            // Objects come back in reverse order (assembled text is reversed as a whole).
+            String[] fields = GinetTransferableObjectUtility.disassemble(assembled);
+
+            return new Player(Integer.parseInt(fields[8]), fields[7], new Vector(Float.parseFloat(fields[6]), Float.parseFloat(fields[5])),
+                new Vector(Float.parseFloat(fields[4]), Float.parseFloat(fields[3])), Integer.parseInt(fields[2]), Boolean.parseBoolean(fields[1]),
+                Arrays.stream(fields[0].split(",")).mapToInt(Integer::parseInt).toArray());
+        }
+
+        @Override
+        public int bytes() {
+            return bytes;
+        }
+    }
+
+    private static class SchemaCodec implements Codec {
+        private final GinetSchema<Player> schema;
+
+        private final GinetWriter writer = new GinetWriter();
+
+        private final GinetReader reader = new GinetReader(null);
+
+        private SchemaCodec(GinetSchema<Player> schema_) {
+            schema = schema_;
+        }
+
+        @Override
+        public Player run() {
+            writer.reset();
+
+            schema.write(PLAYER, writer);
+
+            ByteBuffer encoded = writer.toByteBuffer();
+
+            return schema.read(reader.reset(encoded));
+        }
+
+        @Override
+        public int bytes() {
+            return writer.length();
+        }
+    }
+}
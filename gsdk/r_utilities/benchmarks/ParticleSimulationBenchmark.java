@@ -0,0 +1,98 @@
+package gsdk.r_utilities.benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+import gsdk.source.particles.ParticleSimulation;
+import gsdk.source.particles.ParticleEmitterConfig;
+import gsdk.source.particles.EmissionVelocity;
+import gsdk.source.particles.ParticleBlending;
+import gsdk.source.particles.ParticleType;
+import gsdk.source.particles.GravityAffector;
+import gsdk.source.particles.DragAffector;
+import gsdk.source.particles.VortexAffector;
+
+import gsdk.source.vectors.Vector3Di;
+import gsdk.source.vectors.Vector3Df;
+
+/**
+ * Headless particle simulation benchmark (no window/GPU required).
+ * Measures ParticleSimulation throughput (particles/second) and allocation rate (bytes/step).
+ *
+ * Usage: ParticleSimulationBenchmark [measureSeconds]
+ */
+public class ParticleSimulationBenchmark {
+    public static final int[] PARTICLE_COUNTS = new int[] {1_000, 10_000, 100_000, 1_000_000};
+
+    public static final String[] CONFIGS = new String[] {"default", "inversed", "affectors"};
+
+    public static final float DELTA = 1.0f / 60.0f;
+
+    public static final int WARMUP_STEPS = 200;
+
+    public static void main(String[] args) {
+        double measureSeconds = args.length > 0 ? Double.parseDouble(args[0]) : 2.0;
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long threadId = Thread.currentThread().getId();
+
+        System.out.printf("%-10s %10s %12s %18s %14s%n", "config", "particles", "steps", "particles/s", "bytes/step");
+
+        for(String config : CONFIGS) {
+            for(int count : PARTICLE_COUNTS) {
+                ParticleSimulation simulation = newSimulation(config, count);
+
+                for(int i=0; i < Math.max(10, WARMUP_STEPS * 1_000 / count); i++) simulation.simulate();
+
+                long allocatedStart = threadBean.getThreadAllocatedBytes(threadId);
+                long start = System.nanoTime(), end = start + (long) (measureSeconds * 1e9);
+
+                long steps = 0;
+
+                while(System.nanoTime() < end) {
+                    simulation.simulate();
+
+                    steps++;
+                }
+
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedStart;
+
+                System.out.printf("%-10s %10d %12d %18.0f %14d%n", config, count, steps, steps * (double) count / seconds, allocated / Math.max(1, steps));
+            }
+        }
+    }
+
+    private static ParticleSimulation newSimulation(String config, int count) {
+        ParticleEmitterConfig emitterConfig = new ParticleEmitterConfig(
+            count,
+            0.01f,
+            24.0f,
+            new EmissionVelocity(0.1f, 0.1f, 0.1f, EmissionVelocity.X_ADD_EXPL, EmissionVelocity.Z_ADD_EXPL),
+            config.equals("inversed"),
+            ParticleBlending.ALPHA,
+            32.0f,
+            3.5f,
+            0,
+            1.0f,
+            0.2f,
+            new Vector3Di(255, 255, 255),
+            ParticleType.TEXTURE
+        );
+
+        emitterConfig.setDelta(DELTA);
+
+        ParticleSimulation simulation = new ParticleSimulation(emitterConfig);
+
+        if(config.equals("affectors")) {
+            simulation.addAffector(new GravityAffector(new Vector3Df(0, -0.01f, 0)));
+            simulation.addAffector(new DragAffector(0.5f));
+            simulation.addAffector(new VortexAffector(new Vector3Df(0, 0, 0), new Vector3Df(0, 1, 0), 0.2f));
+        }
+
+        simulation.loadParticles();
+
+        return simulation;
+    }
+}
@@ -0,0 +1,33 @@
+package gsdk.source.generic;
+
+// Float kernels: lattice cell and skew are found in double, offsets inside the cell are float.
+// Same permutation tables as reference kernels, so outputs differ only by float rounding (see NoiseType).
+class FastPerlin extends Perlin {
+    private static final float[] GX = new float[16], GY = new float[16], GZ = new float[16];
+    static {
+        for(int h = 0; h < 16; h++) {
+            float u = h < 8 ? 1 : 0;float v = h < 4 ? 0 : h == 12 || h == 14 ? 1 : 0;GX[h] = ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);
+            u = h < 8 ? 0 : 1;v = h < 4 ? 1 : 0;GY[h] = ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);
+            v = h < 4 || h == 12 || h == 14 ? 0 : 1;GZ[h] = (h & 2) == 0 ? v : -v;}}
+    protected FastPerlin(int seed) {super(seed);}
+    @Override
+    public double noise(double x, double y) {
+        int xi = floor(x);int yi = floor(y);float xf = (float) (x - xi);float yf = (float) (y - yi);int X = xi & 255;int Y = yi & 255;float u = fade(xf);float v = fade(yf);
+        int A = dPerm[X] + Y;int B = dPerm[X + 1] + Y;
+        return lerp(v, lerp(u, grad(dPerm[dPerm[A]], xf, yf), grad(dPerm[dPerm[B]], xf - 1, yf)), lerp(u, grad(dPerm[dPerm[A + 1]], xf, yf - 1), grad(dPerm[dPerm[B + 1]], xf - 1, yf - 1)));}
+    @Override
+    public double noise(double x, double y, double z) {
+        if(z == 0) return noise(x, y);
+        int xi = floor(x);int yi = floor(y);int zi = floor(z);float xf = (float) (x - xi);float yf = (float) (y - yi);float zf = (float) (z - zi);
+        int X = xi & 255;int Y = yi & 255;int Z = zi & 255;float u = fade(xf);float v = fade(yf);float w = fade(zf);
+        int A = dPerm[X] + Y;int AA = dPerm[A] + Z;int AB = dPerm[A + 1] + Z;
+        int B = dPerm[X + 1] + Y;int BA = dPerm[B] + Z;int BB = dPerm[B + 1] + Z;
+        return lerp(w, lerp(v, lerp(u, grad(dPerm[AA], xf, yf, zf), grad(dPerm[BA], xf - 1, yf, zf)),
+                        lerp(u, grad(dPerm[AB], xf, yf - 1, zf), grad(dPerm[BB], xf - 1, yf - 1, zf))),
+                lerp(v, lerp(u, grad(dPerm[AA + 1], xf, yf, zf - 1), grad(dPerm[BA + 1], xf - 1, yf, zf - 1)),
+                        lerp(u, grad(dPerm[AB + 1], xf, yf - 1, zf - 1), grad(dPerm[BB + 1], xf - 1, yf - 1, zf - 1))));}
+    private static float fade(float t) {return t * t * t * (t * (t * 6 - 15) + 10);}
+    private static float lerp(float t, float a, float b) {return a + t * (b - a);}
+    private static float grad(int hash, float x, float y) {int h = hash & 15;return GX[h] * x + GY[h] * y;}
+    private static float grad(int hash, float x, float y, float z) {int h = hash & 15;return GX[h] * x + GY[h] * y + GZ[h] * z;}
+    static int floor(double x) {int i = (int) x;return x < i ? i - 1 : i;}}
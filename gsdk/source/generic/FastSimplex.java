@@ -0,0 +1,28 @@
+package gsdk.source.generic;
+
+class FastSimplex extends Simplex {
+    private static final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);private static final double G2 = (3.0 - Math.sqrt(3.0)) / 6.0;
+    private static final double F3 = 1.0 / 3.0;private static final double G3 = 1.0 / 6.0;
+    private static final float G2F = (float) G2;private static final float G3F = (float) G3;
+    private static final float[] GX = new float[12], GY = new float[12], GZ = new float[12];
+    static {for(int g = 0; g < 12; g++) {GX[g] = GRAD3[g][0];GY[g] = GRAD3[g][1];GZ[g] = GRAD3[g][2];}}
+    private final int[] permMod12 = new int[512];
+    protected FastSimplex(int seed) {super(seed);for(int i = 0; i < 512; i++) {permMod12[i] = perm[i] % 12;}}
+    @Override
+    public double noise(double xin, double yin) {
+        double s = (xin + yin) * F2;int i = FastPerlin.floor(xin + s);int j = FastPerlin.floor(yin + s);double t = (i + j) * G2;
+        float x0 = (float) (xin - (i - t));float y0 = (float) (yin - (j - t));int i1 = x0 > y0 ? 1 : 0;int j1 = 1 - i1;
+        float x1 = x0 - i1 + G2F;float y1 = y0 - j1 + G2F;float x2 = x0 - 1 + 2 * G2F;float y2 = y0 - 1 + 2 * G2F;int ii = i & 255;int jj = j & 255;
+        return 70.0f * (corner(permMod12[ii + perm[jj]], x0, y0) + corner(permMod12[ii + i1 + perm[jj + j1]], x1, y1) + corner(permMod12[ii + 1 + perm[jj + 1]], x2, y2));}
+    @Override
+    public double noise(double xin, double yin, double zin) {
+        double s = (xin + yin + zin) * F3;int i = FastPerlin.floor(xin + s);int j = FastPerlin.floor(yin + s);int k = FastPerlin.floor(zin + s);double t = (i + j + k) * G3;
+        float x0 = (float) (xin - (i - t));float y0 = (float) (yin - (j - t));float z0 = (float) (zin - (k - t));
+        int xy = x0 >= y0 ? 1 : 0;int yz = y0 >= z0 ? 1 : 0;int xz = x0 >= z0 ? 1 : 0;
+        int i1 = xy & xz;int j1 = (1 - xy) & yz;int k1 = (1 - xz) & (1 - yz);int i2 = xy | xz;int j2 = (1 - xy) | yz;int k2 = (1 - xz) | (1 - yz);
+        float x1 = x0 - i1 + G3F;float y1 = y0 - j1 + G3F;float z1 = z0 - k1 + G3F;float x2 = x0 - i2 + 2 * G3F;float y2 = y0 - j2 + 2 * G3F;float z2 = z0 - k2 + 2 * G3F;
+        float x3 = x0 - 1 + 3 * G3F;float y3 = y0 - 1 + 3 * G3F;float z3 = z0 - 1 + 3 * G3F;int ii = i & 255;int jj = j & 255;int kk = k & 255;
+        return 32.0f * (corner(permMod12[ii + perm[jj + perm[kk]]], x0, y0, z0) + corner(permMod12[ii + i1 + perm[jj + j1 + perm[kk + k1]]], x1, y1, z1)
+            + corner(permMod12[ii + i2 + perm[jj + j2 + perm[kk + k2]]], x2, y2, z2) + corner(permMod12[ii + 1 + perm[jj + 1 + perm[kk + 1]]], x3, y3, z3));}
+    private static float corner(int g, float x, float y) {float t = 0.5f - x * x - y * y;if(t < 0) return 0.0f;t *= t;return t * t * (GX[g] * x + GY[g] * y);}
+    private static float corner(int g, float x, float y, float z) {float t = 0.6f - x * x - y * y - z * z;if(t < 0) return 0.0f;t *= t;return t * t * (GX[g] * x + GY[g] * y + GZ[g] * z);}}
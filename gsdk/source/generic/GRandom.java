@@ -1,22 +1,76 @@
 package gsdk.source.generic;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import java.util.List;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Utility class that makes work with random easier.
+ * Static helpers share one <code>java.util.Random</code>; hot paths should use per-thread or per-subsystem streams
+ * (<code>current</code>, <code>stream</code>) and <code>WeightedSampler</code> instead.
  */
 public class GRandom {
     private static final Random random = new Random();
 
+    private static final AtomicLong streamSeed = new AtomicLong(System.nanoTime());
+
+    private static volatile long baseSeed = System.nanoTime();
+
+    private static final ThreadLocal<GRandomStream> streams = ThreadLocal.withInitial(() -> new GRandomStream(streamSeed.getAndIncrement()));
+
     /**
-     * Set random class seed.
+     * Set random class seed (also reseeds calling thread's stream and seeds subsystem streams).
      *
      * @param seed Long seed.
      */
     public static void setSeed(long seed) {
         random.setSeed(seed);
+
+        baseSeed = seed;
+
+        streams.set(new GRandomStream(seed));
+    }
+
+    /**
+     * Get calling thread's random stream (fast, no synchronization between threads).
+     */
+    public static GRandomStream current() {
+        return streams.get();
+    }
+
+    /**
+     * Create new random stream for subsystem (e.g. "loot", "particles").
+     * Stream is derived from seed and subsystem name only, so it is reproducible after <code>setSeed</code>.
+     *
+     * @param subsystem Subsystem name.
+     */
+    public static GRandomStream stream(String subsystem) {
+        return new GRandomStream(baseSeed ^ (subsystem.hashCode() * 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * Fills the array with random integers using calling thread's stream.
+     *
+     * @param array The array to be filled.
+     * @param min The minimum value (inclusive).
+     * @param max The maximum value (inclusive).
+     */
+    public static void fill(int[] array, int min, int max) {
+        current().fill(array, min, max);
+    }
+
+    /**
+     * Fills the array with random floats using calling thread's stream.
+     *
+     * @param array The array to be filled.
+     * @param min The minimum value (inclusive).
+     * @param max The maximum value (exclusive).
+     */
+    public static void fill(float[] array, float min, float max) {
+        current().fill(array, min, max);
     }
 
     /**
@@ -58,7 +112,7 @@ public class GRandom {
     }
 
     /**
-     * Selects a random element from an array based on weights.
+     * Selects a random element from an array based on weights (O(n) per draw, use <code>WeightedSampler</code> for repeated draws).
      * Returns null in case array length is not equal to weights length.
      *
      * @param array The array to select a random element from.
@@ -130,7 +184,6 @@ public class GRandom {
     public static <T> T[] sample(T[] array, int count) {
         if(count > array.length) return null;
 
-        T[] result = (T[]) new Object[count];
         T[] copy = array.clone();
 
         for(int i = 0; i < count; i++) {
@@ -140,11 +193,10 @@ public class GRandom {
 
             copy[i] = copy[index];
             copy[index] = temp;
-
-            result[i] = copy[i];
         }
 
-        return result;
+        // Keeps runtime component type of source array.
+        return Arrays.copyOf(copy, count);
     }
 
     /**
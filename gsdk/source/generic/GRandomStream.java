@@ -0,0 +1,190 @@
+package gsdk.source.generic;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Fast splittable pseudo-random stream (xoshiro256**, seeded with SplitMix64).
+ * Stream is not thread-safe: use one stream per thread or per subsystem (see <code>GRandom::current</code>, <code>GRandom::stream</code>).
+ */
+public class GRandomStream {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long s0, s1, s2, s3;
+
+    /**
+     * Initialize random stream.
+     *
+     * @param seed Seed.
+     */
+    public GRandomStream(long seed) {
+        s0 = splitMix(seed += GOLDEN_GAMMA);
+        s1 = splitMix(seed += GOLDEN_GAMMA);
+        s2 = splitMix(seed += GOLDEN_GAMMA);
+        s3 = splitMix(seed + GOLDEN_GAMMA);
+    }
+
+    /**
+     * Create new independent stream seeded from this stream.
+     */
+    public GRandomStream split() {
+        return new GRandomStream(nextLong());
+    }
+
+    /**
+     * Generates a random long.
+     */
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+
+        s2 ^= t;
+
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+
+    /**
+     * Generates a random integer.
+     */
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Generates a random integer between 0 (inclusive) and bound (exclusive), without modulo bias.
+     *
+     * @param bound The upper bound (exclusive).
+     */
+    public int nextInt(int bound) {
+        assert_t(bound <= 0, "bound must be positive");
+
+        // Lemire's multiply-shift with rejection of the biased low range.
+        long product = (nextLong() >>> 32) * bound;
+
+        if((product & 0xFFFFFFFFL) < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+
+            while((product & 0xFFFFFFFFL) < threshold) product = (nextLong() >>> 32) * bound;
+        }
+
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Generates a random float between 0 (inclusive) and 1 (exclusive).
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * Generates a random double between 0 (inclusive) and 1 (exclusive).
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Generates a random boolean value.
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Generates a random integer between min (inclusive) and max (inclusive).
+     *
+     * @param min The minimum value.
+     * @param max The maximum value.
+     */
+    public int randI(int min, int max) {
+        return nextInt((max - min) + 1) + min;
+    }
+
+    /**
+     * Generates a random float between min (inclusive) and max (exclusive).
+     *
+     * @param min The minimum value.
+     * @param max The maximum value.
+     */
+    public float randf(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    /**
+     * Fills the array with random integers.
+     *
+     * @param array The array to be filled.
+     */
+    public void fill(int[] array) {
+        int i = 0;
+
+        for(; i + 1 < array.length; i += 2) {
+            long value = nextLong();
+
+            array[i] = (int) value;
+            array[i + 1] = (int) (value >>> 32);
+        }
+
+        if(i < array.length) array[i] = nextInt();
+    }
+
+    /**
+     * Fills the array with random integers between min (inclusive) and max (inclusive).
+     *
+     * @param array The array to be filled.
+     * @param min The minimum value.
+     * @param max The maximum value.
+     */
+    public void fill(int[] array, int min, int max) {
+        int bound = (max - min) + 1;
+
+        for(int i = 0; i < array.length; i++) array[i] = nextInt(bound) + min;
+    }
+
+    /**
+     * Fills the array with random floats between 0 (inclusive) and 1 (exclusive).
+     *
+     * @param array The array to be filled.
+     */
+    public void fill(float[] array) {
+        fill(array, 0.0f, 1.0f);
+    }
+
+    /**
+     * Fills the array with random floats between min (inclusive) and max (exclusive).
+     *
+     * @param array The array to be filled.
+     * @param min The minimum value.
+     * @param max The maximum value.
+     */
+    public void fill(float[] array, float min, float max) {
+        float range = max - min;
+
+        int i = 0;
+
+        // Two 24-bit floats per generated long.
+        for(; i + 1 < array.length; i += 2) {
+            long value = nextLong();
+
+            array[i] = min + (value >>> 40) * 0x1.0p-24f * range;
+            array[i + 1] = min + ((value >>> 8) & 0xFFFFFF) * 0x1.0p-24f * range;
+        }
+
+        if(i < array.length) array[i] = min + nextFloat() * range;
+    }
+
+    private static long splitMix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,11 @@
+package gsdk.source.generic;
+
+interface NoiseAlgorithm {
+    double noise(double x, double y);
+    double noise(double x, double y, double z);
+    double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult);
+    double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult);
+    double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult);
+    double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult);
+    // Row of samples at (originX + x * step, y, z): one call per row, kernel calls inside are resolved on the concrete class.
+    void fillRow(NoiseFractal fractal, float[] out, int offset, int width, double originX, double step, double y, double z, int octaves, double persistence, double frequencyMult, boolean flat);}
@@ -0,0 +1,68 @@
+package gsdk.source.generic;
+
+/**
+ * Square noise chunk (tile) of <code>size * size</code> cells, row-major.
+ */
+public class NoiseChunk {
+    private final int chunkX, chunkY, size;
+
+    private final float[] values;
+
+    private final boolean placeholder;
+
+    protected NoiseChunk(int chunkX_, int chunkY_, int size_, float[] values_, boolean placeholder_) {
+        chunkX = chunkX_;
+        chunkY = chunkY_;
+
+        size = size_;
+
+        values = values_;
+
+        placeholder = placeholder_;
+    }
+
+    /**
+     * Get value at local cell.
+     *
+     * @param x Local X (0 .. size - 1).
+     * @param y Local Y (0 .. size - 1).
+     */
+    public float get(int x, int y) {
+        return values[y * size + x];
+    }
+
+    /**
+     * Get chunk values (row-major, must not be modified).
+     */
+    public float[] getValues() {
+        return values;
+    }
+
+    /**
+     * Is chunk a coarse placeholder (full chunk is still generating).
+     */
+    public boolean isPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * Get chunk X.
+     */
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    /**
+     * Get chunk Y.
+     */
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    /**
+     * Get chunk size (cells per side).
+     */
+    public int getSize() {
+        return size;
+    }
+}
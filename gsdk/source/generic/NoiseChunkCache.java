@@ -0,0 +1,353 @@
+package gsdk.source.generic;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static gsdk.source.generic.GLogger.error;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+class ChunkKey {
+    final int chunkX, chunkY;
+
+    final NoiseChunkConfig config;
+
+    ChunkKey(int chunkX, int chunkY, NoiseChunkConfig config) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+
+        this.config = config;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) return true;
+
+        if(object == null || getClass() != object.getClass()) return false;
+
+        ChunkKey key = (ChunkKey) object;
+
+        return chunkX == key.chunkX && chunkY == key.chunkY && config.equals(key.config);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * chunkX + chunkY) + config.hashCode();
+    }
+}
+
+class ChunkEntry {
+    final AtomicReference<NoiseChunk> chunk = new AtomicReference<>();
+
+    Future<?> generation = null;
+}
+
+/**
+ * Chunk cache for infinite noise terrain: fixed-size chunks keyed by (chunkX, chunkY, config) are generated in background
+ * (virtual threads when available) and evicted in least-recently-used order when cache memory exceeds memory cap.
+ * <code>get</code> never waits for background generation: until the full chunk is ready it returns a coarse placeholder
+ * (<code>PLACEHOLDER_OCTAVES</code> octaves sampled every <code>PLACEHOLDER_STRIDE</code> cells and bilinearly interpolated).
+ * Chunk (chunkX, chunkY) covers cells [chunkX * size, (chunkX + 1) * size), cell (x, y) is sampled at (x * step, y * step).
+ */
+public class NoiseChunkCache implements AutoCloseable {
+    public static final int PLACEHOLDER_OCTAVES = 1;
+
+    public static final int PLACEHOLDER_STRIDE = 8;
+
+    private final int chunkSize;
+
+    private final long chunkBytes, memoryCap;
+
+    private final LinkedHashMap<ChunkKey, ChunkEntry> chunks = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final ExecutorService generator;
+
+    /**
+     * Initialize noise chunk cache.
+     *
+     * @param chunkSize_ Chunk size (cells per side).
+     * @param memoryCap_ Memory cap in bytes (chunk takes <code>chunkSize * chunkSize * 4</code> bytes).
+     */
+    public NoiseChunkCache(int chunkSize_, long memoryCap_) {
+        assert_t(chunkSize_ <= 0, "chunk size must be positive");
+
+        chunkSize = chunkSize_;
+
+        chunkBytes = (long) chunkSize * chunkSize * Float.BYTES;
+
+        memoryCap = memoryCap_;
+
+        assert_t(memoryCap < chunkBytes, "memory cap is lower than one chunk");
+
+        generator = newGeneratorExecutor();
+    }
+
+    /**
+     * Get chunk without waiting: returns the full chunk if it is ready, otherwise a coarse placeholder
+     * (full chunk generation is started in background if it is not running yet; placeholder is built on caller thread
+     * from about <code>(chunkSize / PLACEHOLDER_STRIDE)^2</code> samples).
+     *
+     * @param config Noise chunk config.
+     * @param chunkX Chunk X.
+     * @param chunkY Chunk Y.
+     */
+    public NoiseChunk get(NoiseChunkConfig config, int chunkX, int chunkY) {
+        ChunkEntry entry = request(new ChunkKey(chunkX, chunkY, config));
+
+        NoiseChunk chunk = entry.chunk.get();
+
+        if(chunk != null) return chunk;
+
+        // Placeholder is kept only until the full chunk replaces it.
+        entry.chunk.compareAndSet(null, generatePlaceholder(config, chunkX, chunkY));
+
+        return entry.chunk.get();
+    }
+
+    /**
+     * Get cell value without waiting (see <code>get</code>).
+     *
+     * @param config Noise chunk config.
+     * @param cellX Cell X.
+     * @param cellY Cell Y.
+     */
+    public float sample(NoiseChunkConfig config, int cellX, int cellY) {
+        return get(config, chunkOf(cellX), chunkOf(cellY)).get(Math.floorMod(cellX, chunkSize), Math.floorMod(cellY, chunkSize));
+    }
+
+    /**
+     * Start background generation of chunks around center chunk (nearest chunks first).
+     * Call it ahead of camera movement; chunks that are already cached are only marked as recently used.
+     * Radius is clamped to the largest square that fits memory cap, so prefetched rings never evict the center.
+     *
+     * @param config Noise chunk config.
+     * @param centerChunkX Center chunk X.
+     * @param centerChunkY Center chunk Y.
+     * @param radius Radius in chunks.
+     */
+    public void prefetch(NoiseChunkConfig config, int centerChunkX, int centerChunkY, int radius) {
+        int side = (int) Math.sqrt((double) (memoryCap / chunkBytes));
+
+        int maxRadius = Math.min(radius, (side - 1) / 2);
+
+        for (int ring = 0; ring <= maxRadius; ring++) {
+            for (int y = -ring; y <= ring; y++) {
+                for (int x = -ring; x <= ring; x++) {
+                    if(Math.max(Math.abs(x), Math.abs(y)) == ring) request(new ChunkKey(centerChunkX + x, centerChunkY + y, config));
+                }
+            }
+        }
+    }
+
+    /**
+     * Is full chunk generated and cached.
+     *
+     * @param config Noise chunk config.
+     * @param chunkX Chunk X.
+     * @param chunkY Chunk Y.
+     */
+    public boolean isReady(NoiseChunkConfig config, int chunkX, int chunkY) {
+        ChunkEntry entry;
+
+        synchronized(chunks) {
+            entry = chunks.get(new ChunkKey(chunkX, chunkY, config));
+        }
+
+        NoiseChunk chunk = entry == null ? null : entry.chunk.get();
+
+        return chunk != null && !chunk.isPlaceholder();
+    }
+
+    /**
+     * Get chunk coordinate of cell coordinate.
+     *
+     * @param cell Cell coordinate.
+     */
+    public int chunkOf(int cell) {
+        return Math.floorDiv(cell, chunkSize);
+    }
+
+    /**
+     * Get chunk coordinate of cell coordinate.
+     *
+     * @param cell Cell coordinate.
+     */
+    public int chunkOf(double cell) {
+        return Math.floorDiv((int) Math.floor(cell), chunkSize);
+    }
+
+    /**
+     * Remove all chunks (running generations are cancelled).
+     */
+    public void clear() {
+        synchronized(chunks) {
+            for (ChunkEntry entry : chunks.values()) cancel(entry);
+
+            chunks.clear();
+        }
+    }
+
+    /**
+     * Clear cache and stop background generation.
+     */
+    @Override
+    public void close() {
+        clear();
+
+        generator.shutdownNow();
+    }
+
+    /**
+     * Get cached chunks count.
+     */
+    public int getChunkCount() {
+        synchronized(chunks) {
+            return chunks.size();
+        }
+    }
+
+    /**
+     * Get memory used by cached chunks (bytes).
+     */
+    public long getMemoryUsage() {
+        return getChunkCount() * chunkBytes;
+    }
+
+    /**
+     * Get memory cap (bytes).
+     */
+    public long getMemoryCap() {
+        return memoryCap;
+    }
+
+    /**
+     * Get chunk size (cells per side).
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // Get cache entry (marks it as recently used), creating it and starting its generation when missing.
+    private ChunkEntry request(ChunkKey key) {
+        synchronized(chunks) {
+            ChunkEntry entry = chunks.get(key);
+
+            if(entry != null) return entry;
+
+            entry = new ChunkEntry();
+
+            chunks.put(key, entry);
+
+            evict();
+
+            ChunkEntry target = entry;
+
+            entry.generation = generator.submit(() -> {
+                try {
+                    target.chunk.set(generateChunk(key.config, key.chunkX, key.chunkY));
+                } catch(RuntimeException exception) {
+                    error("noise chunk generation failed: " + exception.getMessage());
+
+                    // Next get or prefetch retries generation (entry may already be evicted or replaced).
+                    synchronized(chunks) {
+                        chunks.remove(key, target);
+                    }
+                }
+            });
+
+            return entry;
+        }
+    }
+
+    // Evict least recently used chunks while cache is over memory cap.
+    private void evict() {
+        Iterator<Map.Entry<ChunkKey, ChunkEntry>> iterator = chunks.entrySet().iterator();
+
+        while(chunks.size() * chunkBytes > memoryCap && iterator.hasNext()) {
+            cancel(iterator.next().getValue());
+
+            iterator.remove();
+        }
+    }
+
+    private void cancel(ChunkEntry entry) {
+        if(entry.generation != null) entry.generation.cancel(false);
+    }
+
+    private NoiseChunk generateChunk(NoiseChunkConfig config, int chunkX, int chunkY) {
+        float[] values = new float[chunkSize * chunkSize];
+
+        NoiseGenerator.genNoiseField(
+            config.getSource(), config.getFractal(), values, 0, chunkSize, chunkSize,
+            (double) chunkX * chunkSize * config.getStep(), (double) chunkY * chunkSize * config.getStep(), config.getStep(),
+            config.getOctaves(), config.getPersistence(), config.getFrequencyMult());
+
+        return new NoiseChunk(chunkX, chunkY, chunkSize, values, false);
+    }
+
+    // Coarse grid of lower-octave samples (every PLACEHOLDER_STRIDE cells, grid is aligned across chunks), bilinearly interpolated.
+    private NoiseChunk generatePlaceholder(NoiseChunkConfig config, int chunkX, int chunkY) {
+        NoiseSource source = config.getSource();
+
+        int octaves = Math.min(config.getOctaves(), PLACEHOLDER_OCTAVES);
+
+        int points = (chunkSize + PLACEHOLDER_STRIDE - 1) / PLACEHOLDER_STRIDE + 1;
+
+        float[] grid = new float[points * points];
+
+        for (int gy = 0; gy < points; gy++) {
+            double y = ((double) chunkY * chunkSize + gy * PLACEHOLDER_STRIDE) * config.getStep();
+
+            for (int gx = 0; gx < points; gx++) {
+                double x = ((double) chunkX * chunkSize + gx * PLACEHOLDER_STRIDE) * config.getStep();
+
+                grid[gy * points + gx] = (float) (config.getFractal() == NoiseFractal.NONE
+                    ? source.noise(x, y)
+                    : source.sample(config.getFractal(), x, y, 0, octaves, config.getPersistence(), config.getFrequencyMult()));
+            }
+        }
+
+        float[] values = new float[chunkSize * chunkSize];
+
+        for (int y = 0; y < chunkSize; y++) {
+            int gy = y / PLACEHOLDER_STRIDE;
+
+            float ty = (float) (y % PLACEHOLDER_STRIDE) / PLACEHOLDER_STRIDE;
+
+            for (int x = 0; x < chunkSize; x++) {
+                int g = gy * points + x / PLACEHOLDER_STRIDE;
+
+                float tx = (float) (x % PLACEHOLDER_STRIDE) / PLACEHOLDER_STRIDE;
+
+                float top = grid[g] + (grid[g + 1] - grid[g]) * tx;
+                float bottom = grid[g + points] + (grid[g + points + 1] - grid[g + points]) * tx;
+
+                values[y * chunkSize + x] = top + (bottom - top) * ty;
+            }
+        }
+
+        return new NoiseChunk(chunkX, chunkY, chunkSize, values, true);
+    }
+
+    // Virtual thread per task when running on Java 21+, daemon platform threads otherwise.
+    private static ExecutorService newGeneratorExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch(ReflectiveOperationException | UnsupportedOperationException exception) {
+            return Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                Thread thread = new Thread(runnable, "noise-chunk-generator");
+
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package gsdk.source.generic;
+
+import java.util.Objects;
+
+/**
+ * Noise chunk parameters (immutable, used as part of chunk cache key).
+ */
+public class NoiseChunkConfig {
+    private final NoiseSource source;
+
+    private final NoiseFractal fractal;
+
+    private final double step;
+
+    private final int octaves;
+
+    private final float persistence, frequencyMult;
+
+    private final int hash;
+
+    /**
+     * Initialize noise chunk config.
+     *
+     * @param source_ Noise source.
+     * @param fractal_ Fractal mode.
+     * @param step_ Distance between samples (noise units per cell).
+     * @param octaves_ Octaves.
+     * @param persistence_ Persistence.
+     * @param frequencyMult_ Multiply frequency.
+     */
+    public NoiseChunkConfig(NoiseSource source_, NoiseFractal fractal_, double step_, int octaves_, float persistence_, float frequencyMult_) {
+        source = source_;
+        fractal = fractal_;
+
+        step = step_;
+
+        octaves = octaves_;
+
+        persistence = persistence_;
+        frequencyMult = frequencyMult_;
+
+        hash = Objects.hash(source.getType(), source.getSeed(), fractal, step, octaves, persistence, frequencyMult);
+    }
+
+    /**
+     * Get same config with another octaves count.
+     *
+     * @param octaves_ Octaves.
+     */
+    public NoiseChunkConfig withOctaves(int octaves_) {
+        return octaves_ == octaves ? this : new NoiseChunkConfig(source, fractal, step, octaves_, persistence, frequencyMult);
+    }
+
+    /**
+     * Get noise source.
+     */
+    public NoiseSource getSource() {
+        return source;
+    }
+
+    /**
+     * Get fractal mode.
+     */
+    public NoiseFractal getFractal() {
+        return fractal;
+    }
+
+    /**
+     * Get distance between samples.
+     */
+    public double getStep() {
+        return step;
+    }
+
+    /**
+     * Get octaves.
+     */
+    public int getOctaves() {
+        return octaves;
+    }
+
+    /**
+     * Get persistence.
+     */
+    public float getPersistence() {
+        return persistence;
+    }
+
+    /**
+     * Get frequency multiplier.
+     */
+    public float getFrequencyMult() {
+        return frequencyMult;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) return true;
+
+        if(object == null || getClass() != object.getClass()) return false;
+
+        NoiseChunkConfig config = (NoiseChunkConfig) object;
+
+        return source.getType() == config.source.getType() && source.getSeed() == config.source.getSeed() && fractal == config.fractal &&
+            step == config.step && octaves == config.octaves && persistence == config.persistence && frequencyMult == config.frequencyMult;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,16 @@
+package gsdk.source.generic;
+
+/**
+ * Noise export file formats.
+ */
+public enum NoiseExportFormat {
+    /**
+     * Raw 8-bit pixels, rows top to bottom, no header.
+     */
+    RAW,
+
+    /**
+     * Uncompressed PNG (stored deflate blocks).
+     */
+    PNG
+}
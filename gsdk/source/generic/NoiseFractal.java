@@ -0,0 +1,31 @@
+package gsdk.source.generic;
+
+/**
+ * Noise fractal (octave combining) modes.
+ */
+public enum NoiseFractal {
+    /**
+     * Single octave noise.
+     */
+    NONE,
+
+    /**
+     * Fractal (fBm) noise.
+     */
+    FRACTAL,
+
+    /**
+     * Turbulence noise.
+     */
+    TURBULENCE,
+
+    /**
+     * Ridge noise.
+     */
+    RIDGE,
+
+    /**
+     * Billow noise.
+     */
+    BILLOW
+}
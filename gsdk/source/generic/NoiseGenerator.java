@@ -4,97 +4,38 @@ import com.raylib.Raylib;
 
 import org.bytedeco.javacpp.BytePointer;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.nio.ByteBuffer;
 
+import java.nio.FloatBuffer;
+
 import static java.nio.ByteOrder.nativeOrder;
 
-import java.util.Random;
-
-class WhiteN {
-    private final Random random;
-    protected WhiteN(int seed) {random = new Random(seed);}
-    protected double noise() {return random.nextDouble();}}
-
-class Perlin {
-    private final int[] perm;
-    private final int[] dPerm;
-    protected Perlin(int seed) {
-        perm = new int[256];dPerm = new int[512];
-        Random random = new Random(seed);
-        for(int i = 0; i < 256; i++) {perm[i] = i;}
-        for(int i = 0; i < 256; i++) {int swapIndex = random.nextInt(256);int temp = perm[i];perm[i] = perm[swapIndex];perm[swapIndex] = temp;}
-        for(int i = 0; i < 512; i++) {dPerm[i] = perm[i % 256];}}
-    protected double noise(double x, double y, double z) {
-        int X = (int) Math.floor(x) & 255;int Y = (int) Math.floor(y) & 255;int Z = (int) Math.floor(z) & 255;
-        x -= Math.floor(x);y -= Math.floor(y);z -= Math.floor(z);
-        double u = fade(x);double v = fade(y);double w = fade(z);
-        int A = dPerm[X] + Y;int AA = dPerm[A] + Z;int AB = dPerm[A + 1] + Z;
-        int B = dPerm[X + 1] + Y;int BA = dPerm[B] + Z;int BB = dPerm[B + 1] + Z;
-        return lerp(w, lerp(v, lerp(u, grad(dPerm[AA], x, y, z), grad(dPerm[BA], x - 1, y, z)),
-                        lerp(u, grad(dPerm[AB], x, y - 1, z), grad(dPerm[BB], x - 1, y - 1, z))),
-                lerp(v, lerp(u, grad(dPerm[AA + 1], x, y, z - 1), grad(dPerm[BA + 1], x - 1, y, z - 1)),
-                        lerp(u, grad(dPerm[AB + 1], x, y - 1, z - 1), grad(dPerm[BB + 1], x - 1, y - 1, z - 1))));}
-    private double fade(double t) {return t * t * t * (t * (t * 6 - 15) + 10);}
-    private double lerp(double t, double a, double b) {return a + t * (b - a);}
-    private double grad(int hash, double x, double y, double z) {int h = hash & 15;double u = h < 8 ? x : y;double v = h < 4 ? y : h == 12 || h == 14 ? x : z;
-        return ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);}
-    protected double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for(int i = 0; i < octaves; i++) {total += noise(x * frequency, y * frequency, z * frequency) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}
-    protected double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {total += Math.abs(noise(x * frequency, y * frequency, z * frequency) * amplitude);maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}
-    protected double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (1 - Math.abs(n)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}
-    protected double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (2 * Math.abs(n) - 1) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}}
-
-class Simplex {
-    private static final int[][] GRAD3 = {{1,1,0}, {-1,1,0}, {1,-1,0}, {-1,-1,0}, {1,0,1}, {-1,0,1}, {1,0,-1}, {-1,0,-1}, {0,1,1}, {0,-1,1}, {0,1,-1}, {0,-1,-1}};
-    private static final int[] p = new int[512];
-    private static final int[] perm = new int[512];
-    protected Simplex(int seed) {
-        Random random = new Random(seed);
-        for(int i = 0; i < 256; i++) {p[i] = i;}
-        for(int i = 255; i > 0; i--) {int n = random.nextInt(i + 1);int swap = p[i];p[i] = p[n];p[n] = swap;}
-        for(int i = 0; i < 512; i++) {perm[i] = p[i & 255];}}
-    protected double noise(double xin, double yin) {
-        double n0, n1, n2;final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);double s = (xin + yin) * F2;int i = fastfloor(xin + s);
-        int j = fastfloor(yin + s);final double G2 = (3.0 - Math.sqrt(3.0)) / 6.0;double t = (i + j) * G2;double X0 = i - t;double Y0 = j - t;
-        double x0 = xin - X0;double y0 = yin - Y0;int i1, j1;if (x0 > y0) {i1 = 1; j1 = 0;} else {i1 = 0; j1 = 1;}double x1 = x0 - i1 + G2;double y1 = y0 - j1 + G2;
-        double x2 = x0 - 1.0 + 2.0 * G2;double y2 = y0 - 1.0 + 2.0 * G2;int ii = i & 255;int jj = j & 255;int gi0 = perm[ii + perm[jj]] % 12;
-        int gi1 = perm[ii + i1 + perm[jj + j1]] % 12;int gi2 = perm[ii + 1 + perm[jj + 1]] % 12;double t0 = 0.5 - x0 * x0 - y0 * y0;if (t0 < 0) n0 = 0.0;
-        else {t0 *= t0;n0 = t0 * t0 * dot(GRAD3[gi0], x0, y0);}double t1 = 0.5 - x1 * x1 - y1 * y1;if (t1 < 0) n1 = 0.0;else {t1 *= t1;n1 = t1 * t1 * dot(GRAD3[gi1], x1, y1);}double t2 = 0.5 - x2 * x2 - y2 * y2;
-        if (t2 < 0) n2 = 0.0;else {t2 *= t2;n2 = t2 * t2 * dot(GRAD3[gi2], x2, y2);}return 70.0 * (n0 + n1 + n2);}
-    private static int fastfloor(double x) {return x > 0 ? (int) x : (int) x - 1;}
-    private static double dot(int[] g, double x, double y) {return g[0] * x + g[1] * y;}
-    protected double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {total += noise(x * frequency, y * frequency) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}
-    protected double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {total += Math.abs(noise(x * frequency, y * frequency)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}
-    protected double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency);total += (1 - Math.abs(n)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}
-    protected double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
-        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
-        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency);total += (2 * Math.abs(n) - 1) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
-        return total / maxValue;}}
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.concurrent.RecursiveAction;
+
+import java.util.function.DoubleBinaryOperator;
+
+import java.util.function.IntConsumer;
+
+import static gsdk.source.generic.Assert.assert_t;
 
 /**
  * GSDK Noise generator.
+ * Noise sources hold their own permutation tables, so noise can be generated on many threads at once.
  */
 public class NoiseGenerator {
+    public static final int NOISE_TILE_PIXELS = 16384;
+
+    public static final int NOISE_EXPORT_BAND_ROWS = 64;
+
     /**
      * Generate white noise.
      *
@@ -113,7 +54,7 @@ public class NoiseGenerator {
      * @param z Z.
      */
     public static double genPerlinNoise(int seed, double x, double y, double z) {
-        return new Perlin(seed).noise(x, y, z);
+        return NoiseSource.of(NoiseType.PERLIN, seed).noise(x, y, z);
     }
 
     /**
@@ -128,7 +69,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genPerlinFractalNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Perlin(seed).fractalNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.PERLIN, seed).fractalNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -143,7 +84,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genPerlinTurbulenceNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Perlin(seed).fractalNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.PERLIN, seed).fractalNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -158,7 +99,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genPerlinRidgeNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Perlin(seed).ridgeNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.PERLIN, seed).ridgeNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -173,7 +114,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genPerlinBillowNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Perlin(seed).billowNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.PERLIN, seed).billowNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -184,7 +125,32 @@ public class NoiseGenerator {
      * @param yIn Y.
      */
     public static double genSimplexNoise(int seed, double xIn, double yIn) {
-        return new Simplex(seed).noise(xIn, yIn);
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).noise(xIn, yIn);
+    }
+
+    /**
+     * Generate 3D simplex noise.
+     *
+     * @param seed Seed.
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     */
+    public static double genSimplexNoise(int seed, double x, double y, double z) {
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).noise(x, y, z);
+    }
+
+    /**
+     * Generate 4D simplex noise.
+     *
+     * @param seed Seed.
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param w W.
+     */
+    public static double genSimplexNoise(int seed, double x, double y, double z, double w) {
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).noise(x, y, z, w);
     }
 
     /**
@@ -199,7 +165,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genSimplexFractalNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Simplex(seed).fractalNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).fractalNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -214,7 +180,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genSimplexTurbulenceNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Simplex(seed).turbulenceNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).turbulenceNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -229,7 +195,7 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genSimplexRidgeNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Simplex(seed).ridgeNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).ridgeNoise(x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -244,7 +210,49 @@ public class NoiseGenerator {
      * @param frequencyMult Multiply frequency.
      */
     public static double genSimplexBillowNoise(int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
-        return new Simplex(seed).billowNoise(x, y, z, octaves, persistence, frequencyMult);
+        return NoiseSource.of(NoiseType.SIMPLEX, seed).billowNoise(x, y, z, octaves, persistence, frequencyMult);
+    }
+
+    /**
+     * Generate worley (cellular) noise.
+     *
+     * @param seed Seed.
+     * @param output Worley output.
+     * @param x X.
+     * @param y Y.
+     */
+    public static double genWorleyNoise(int seed, WorleyOutput output, double x, double y) {
+        return NoiseSource.of(NoiseType.WORLEY, seed).cellular(output, x, y);
+    }
+
+    /**
+     * Generate 3D worley (cellular) noise.
+     *
+     * @param seed Seed.
+     * @param output Worley output.
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     */
+    public static double genWorleyNoise(int seed, WorleyOutput output, double x, double y, double z) {
+        return NoiseSource.of(NoiseType.WORLEY, seed).cellular(output, x, y, z);
+    }
+
+    /**
+     * Generate noise of any type (reference or fast kernels, see <code>NoiseType</code>).
+     *
+     * @param type Noise type.
+     * @param fractal Fractal mode.
+     * @param seed Seed.
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
+     */
+    public static double genNoise(NoiseType type, NoiseFractal fractal, int seed, double x, double y, double z, int octaves, float persistence, float frequencyMult) {
+        return NoiseSource.of(type, seed).sample(fractal, x, y, z, octaves, persistence, frequencyMult);
     }
 
     /**
@@ -276,7 +284,7 @@ public class NoiseGenerator {
 
         buffer.flip();
 
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        return toImg(buffer, width, height);
     }
 
     /**
@@ -288,27 +296,9 @@ public class NoiseGenerator {
      * @param height Height.
      */
     public static Raylib.Image genPerlinNoiseImg(int seed, int scale, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
-
-        Perlin perlin = new Perlin(seed);
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = perlin.noise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0);
-
-                int pixelVal = (int) ((value + 1) * 127.5);
-
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+        NoiseSource perlin = NoiseSource.of(NoiseType.PERLIN, seed);
 
-                buffer.put((byte) 255);
-            }
-        }
-
-        buffer.flip();
-
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        return toImg(genNoiseBuffer((x, y) -> perlin.noise(x, y, 0), scale, 1, width, height), width, height);
     }
 
     /**
@@ -324,27 +314,9 @@ public class NoiseGenerator {
      * @param height Height.
      */
     public static Raylib.Image genPerlinFractalNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
-
-        Perlin perlin = new Perlin(seed);
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = perlin.fractalNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
-
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
-
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-
-                buffer.put((byte) 255);
-            }
-        }
+        NoiseSource perlin = NoiseSource.of(NoiseType.PERLIN, seed);
 
-        buffer.flip();
-
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        return toImg(genNoiseBuffer((x, y) -> perlin.fractalNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
     }
 
     /**
@@ -360,27 +332,9 @@ public class NoiseGenerator {
      * @param height Height.
      */
     public static Raylib.Image genPerlinTurbulenceNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
-
-        Perlin perlin = new Perlin(seed);
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = perlin.turbulenceNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
-
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
-
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-
-                buffer.put((byte) 255);
-            }
-        }
+        NoiseSource perlin = NoiseSource.of(NoiseType.PERLIN, seed);
 
-        buffer.flip();
-
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        return toImg(genNoiseBuffer((x, y) -> perlin.turbulenceNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
     }
 
     /**
@@ -396,31 +350,64 @@ public class NoiseGenerator {
      * @param height Height.
      */
     public static Raylib.Image genPerlinRidgeNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
+        NoiseSource perlin = NoiseSource.of(NoiseType.PERLIN, seed);
 
-        Perlin perlin = new Perlin(seed);
+        return toImg(genNoiseBuffer((x, y) -> perlin.ridgeNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
+    }
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = perlin.ridgeNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
+    /**
+     * Generate perlin billow noise image.
+     *
+     * @param seed Seed.
+     * @param scale Scale.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     * @param pixAdd Append number to pixel (default is 1).
+     * @param width Width.
+     * @param height Height.
+     */
+    public static Raylib.Image genPerlinBillowNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+        NoiseSource perlin = NoiseSource.of(NoiseType.PERLIN, seed);
 
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
+        return toImg(genNoiseBuffer((x, y) -> perlin.billowNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
+    }
 
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+    /**
+     * Generate simplex noise image.
+     *
+     * @param seed Seed.
+     * @param scale Scale.
+     * @param pixAdd Append number to pixel (default is 1).
+     * @param width Width.
+     * @param height Height.
+     */
+    public static Raylib.Image genSimplexNoiseImg(int seed, int scale, int pixAdd, int width, int height) {
+        NoiseSource simplex = NoiseSource.of(NoiseType.SIMPLEX, seed);
 
-                buffer.put((byte) 255);
-            }
-        }
+        return toImg(genNoiseBuffer((x, y) -> simplex.noise(x, y), scale, pixAdd, width, height), width, height);
+    }
 
-        buffer.flip();
+    /**
+     * Generate simplex fractal noise image.
+     *
+     * @param seed Seed.
+     * @param scale Scale.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     * @param pixAdd Append number to pixel (default is 1).
+     * @param width Width.
+     * @param height Height.
+     */
+    public static Raylib.Image genSimplexFractalNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+        NoiseSource simplex = NoiseSource.of(NoiseType.SIMPLEX, seed);
 
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        return toImg(genNoiseBuffer((x, y) -> simplex.fractalNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
     }
 
     /**
-     * Generate perlin billow noise image.
+     * Generate simplex turbulence noise image.
      *
      * @param seed Seed.
      * @param scale Scale.
@@ -431,168 +418,403 @@ public class NoiseGenerator {
      * @param width Width.
      * @param height Height.
      */
-    public static Raylib.Image genPerlinBillowNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
+    public static Raylib.Image genSimplexTurbulenceNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+        NoiseSource simplex = NoiseSource.of(NoiseType.SIMPLEX, seed);
 
-        Perlin perlin = new Perlin(seed);
+        return toImg(genNoiseBuffer((x, y) -> simplex.turbulenceNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
+    }
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = perlin.billowNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
+    /**
+     * Generate simplex ridge noise image.
+     *
+     * @param seed Seed.
+     * @param scale Scale.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     * @param pixAdd Append number to pixel (default is 1).
+     * @param width Width.
+     * @param height Height.
+     */
+    public static Raylib.Image genSimplexRidgeNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+        NoiseSource simplex = NoiseSource.of(NoiseType.SIMPLEX, seed);
 
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
+        return toImg(genNoiseBuffer((x, y) -> simplex.ridgeNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
+    }
 
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+    /**
+     * Generate simplex billow noise image.
+     *
+     * @param seed Seed.
+     * @param scale Scale.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     * @param pixAdd Append number to pixel (default is 1).
+     * @param width Width.
+     * @param height Height.
+     */
+    public static Raylib.Image genSimplexBillowNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+        NoiseSource simplex = NoiseSource.of(NoiseType.SIMPLEX, seed);
 
-                buffer.put((byte) 255);
-            }
-        }
+        return toImg(genNoiseBuffer((x, y) -> simplex.billowNoise(x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
+    }
 
-        buffer.flip();
+    /**
+     * Generate worley (cellular) noise image (distances are clamped to 0 .. 1).
+     *
+     * @param seed Seed.
+     * @param scale Scale (cells per image side).
+     * @param output Worley output.
+     * @param width Width.
+     * @param height Height.
+     */
+    public static Raylib.Image genWorleyNoiseImg(int seed, int scale, WorleyOutput output, int width, int height) {
+        NoiseSource worley = NoiseSource.of(NoiseType.WORLEY, seed);
 
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        return toImg(genNoiseBuffer((x, y) -> Math.min(worley.cellular(output, x, y), 1.0) * 2 - 1, scale, 1, width, height), width, height);
     }
 
     /**
-     * Generate simplex noise image.
+     * Generate noise image of any type (reference or fast kernels, see <code>NoiseType</code>).
      *
+     * @param type Noise type.
+     * @param fractal Fractal mode.
      * @param seed Seed.
      * @param scale Scale.
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
      * @param pixAdd Append number to pixel (default is 1).
      * @param width Width.
      * @param height Height.
      */
-    public static Raylib.Image genSimplexNoiseImg(int seed, int scale, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
+    public static Raylib.Image genNoiseImg(NoiseType type, NoiseFractal fractal, int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+        NoiseSource source = NoiseSource.of(type, seed);
 
-        Simplex simplex = new Simplex(seed);
+        return toImg(genNoiseBuffer((x, y) -> source.sample(fractal, x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height), width, height);
+    }
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = simplex.noise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale));
+    /**
+     * Fill 2D noise field (row-major, <code>out[offset + y * width + x]</code>).
+     * Sample (x, y) is taken at (originX + x * step, originY + y * step). Rows are filled in parallel.
+     * Every row is one noise source call; samples inside the row are evaluated by scalar kernel (no SIMD).
+     *
+     * @param source Noise source.
+     * @param fractal Fractal mode.
+     * @param out Output array.
+     * @param offset Output array offset.
+     * @param width Field width.
+     * @param height Field height.
+     * @param originX Origin X.
+     * @param originY Origin Y.
+     * @param step Distance between samples.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public static void genNoiseField(NoiseSource source, NoiseFractal fractal, float[] out, int offset, int width, int height, double originX, double originY, double step, int octaves, float persistence, float frequencyMult) {
+        assert_t(offset < 0 || offset + (long) width * height > out.length, "noise field doesn't fit into output array");
+
+        forEachRow(width, height, y -> source.fillRow(fractal, out, offset + y * width, width, originX, step, originY + y * step, 0, octaves, persistence, frequencyMult, true));
+    }
+
+    /**
+     * Fill 3D noise field (<code>out[offset + (z * height + y) * width + x]</code>).
+     * Sample (x, y, z) is taken at (originX + x * step, originY + y * step, originZ + z * step). Rows are filled in parallel.
+     *
+     * @param source Noise source.
+     * @param fractal Fractal mode.
+     * @param out Output array.
+     * @param offset Output array offset.
+     * @param width Field width.
+     * @param height Field height.
+     * @param depth Field depth.
+     * @param originX Origin X.
+     * @param originY Origin Y.
+     * @param originZ Origin Z.
+     * @param step Distance between samples.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public static void genNoiseField(NoiseSource source, NoiseFractal fractal, float[] out, int offset, int width, int height, int depth, double originX, double originY, double originZ, double step, int octaves, float persistence, float frequencyMult) {
+        assert_t(offset < 0 || offset + (long) width * height * depth > out.length, "noise field doesn't fit into output array");
 
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
+        forEachRow(width, height * depth, row -> source.fillRow(fractal, out, offset + row * width, width, originX, step, originY + (row % height) * step, originZ + (row / height) * step, octaves, persistence, frequencyMult, false));
+    }
 
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+    /**
+     * Fill 2D noise field into float buffer, starting at buffer position (position is not changed).
+     * See <code>genNoiseField(source, fractal, float[], ...)</code>.
+     *
+     * @param source Noise source.
+     * @param fractal Fractal mode.
+     * @param out Output buffer.
+     * @param width Field width.
+     * @param height Field height.
+     * @param originX Origin X.
+     * @param originY Origin Y.
+     * @param step Distance between samples.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public static void genNoiseField(NoiseSource source, NoiseFractal fractal, FloatBuffer out, int width, int height, double originX, double originY, double step, int octaves, float persistence, float frequencyMult) {
+        assert_t(out.remaining() < (long) width * height, "noise field doesn't fit into output buffer");
 
-                buffer.put((byte) 255);
-            }
-        }
+        int position = out.position();
 
-        buffer.flip();
+        forEachRow(width, height, (y, row) -> {
+            source.fillRow(fractal, row, 0, width, originX, step, originY + y * step, 0, octaves, persistence, frequencyMult, true);
 
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+            out.put(position + y * width, row);
+        });
     }
 
     /**
-     * Generate simplex turbulence noise image.
+     * Fill 3D noise field into float buffer, starting at buffer position (position is not changed).
+     * See <code>genNoiseField(source, fractal, float[], ...)</code>.
      *
-     * @param seed Seed.
-     * @param scale Scale.
+     * @param source Noise source.
+     * @param fractal Fractal mode.
+     * @param out Output buffer.
+     * @param width Field width.
+     * @param height Field height.
+     * @param depth Field depth.
+     * @param originX Origin X.
+     * @param originY Origin Y.
+     * @param originZ Origin Z.
+     * @param step Distance between samples.
      * @param octaves Octaves.
      * @param persistence Persistence.
      * @param frequencyMult Multiply frequency.
-     * @param pixAdd Append number to pixel (default is 1).
-     * @param width Width.
-     * @param height Height.
      */
-    public static Raylib.Image genSimplexTurbulenceNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
+    public static void genNoiseField(NoiseSource source, NoiseFractal fractal, FloatBuffer out, int width, int height, int depth, double originX, double originY, double originZ, double step, int octaves, float persistence, float frequencyMult) {
+        assert_t(out.remaining() < (long) width * height * depth, "noise field doesn't fit into output buffer");
 
-        Simplex simplex = new Simplex(seed);
+        int position = out.position();
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = simplex.turbulenceNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
+        forEachRow(width, height * depth, (r, row) -> {
+            source.fillRow(fractal, row, 0, width, originX, step, originY + (r % height) * step, originZ + (r / height) * step, octaves, persistence, frequencyMult, false);
 
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
+            out.put(position + r * width, row);
+        });
+    }
 
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+    /**
+     * Fill 2D worley (cellular) noise field (row-major, <code>out[offset + y * width + x]</code>).
+     * Sample (x, y) is taken at (originX + x * step, originY + y * step). Rows are filled in parallel.
+     *
+     * @param seed Seed.
+     * @param output Worley output.
+     * @param out Output array.
+     * @param offset Output array offset.
+     * @param width Field width.
+     * @param height Field height.
+     * @param originX Origin X.
+     * @param originY Origin Y.
+     * @param step Distance between samples.
+     */
+    public static void genWorleyNoiseField(int seed, WorleyOutput output, float[] out, int offset, int width, int height, double originX, double originY, double step) {
+        assert_t(offset < 0 || offset + (long) width * height > out.length, "noise field doesn't fit into output array");
 
-                buffer.put((byte) 255);
-            }
-        }
+        NoiseSource worley = NoiseSource.of(NoiseType.WORLEY, seed);
 
-        buffer.flip();
+        forEachRow(width, height, y -> {
+            int rowOffset = offset + y * width;
 
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+            for (int x = 0; x < width; x++) out[rowOffset + x] = (float) worley.cellular(output, originX + x * step, originY + y * step);
+        });
     }
 
     /**
-     * Generate simplex ridge noise image.
+     * Fill 3D worley (cellular) noise field (<code>out[offset + (z * height + y) * width + x]</code>).
+     * Sample (x, y, z) is taken at (originX + x * step, originY + y * step, originZ + z * step). Rows are filled in parallel.
      *
      * @param seed Seed.
+     * @param output Worley output.
+     * @param out Output array.
+     * @param offset Output array offset.
+     * @param width Field width.
+     * @param height Field height.
+     * @param depth Field depth.
+     * @param originX Origin X.
+     * @param originY Origin Y.
+     * @param originZ Origin Z.
+     * @param step Distance between samples.
+     */
+    public static void genWorleyNoiseField(int seed, WorleyOutput output, float[] out, int offset, int width, int height, int depth, double originX, double originY, double originZ, double step) {
+        assert_t(offset < 0 || offset + (long) width * height * depth > out.length, "noise field doesn't fit into output array");
+
+        NoiseSource worley = NoiseSource.of(NoiseType.WORLEY, seed);
+
+        forEachRow(width, height * depth, row -> {
+            int rowOffset = offset + row * width;
+
+            double y = originY + (row % height) * step, z = originZ + (row / height) * step;
+
+            for (int x = 0; x < width; x++) out[rowOffset + x] = (float) worley.cellular(output, originX + x * step, y, z);
+        });
+    }
+
+    /**
+     * Generate noise pixels into buffer (heap, direct or mapped), starting at buffer position (position is not changed).
+     * Pixels are the same as in noise images: 4 channels gives R8G8B8A8, 1 channel gives 8-bit grayscale.
+     *
+     * @param source Noise source.
+     * @param fractal Fractal mode.
      * @param scale Scale.
-     * @param octaves Octaves.
-     * @param persistence Persistence.
-     * @param frequencyMult Multiply frequency.
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
      * @param pixAdd Append number to pixel (default is 1).
      * @param width Width.
      * @param height Height.
+     * @param channels Channels: 1 (grayscale) or 4 (RGBA).
+     * @param out Output buffer.
      */
-    public static Raylib.Image genSimplexRidgeNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
+    public static void genNoisePixels(NoiseSource source, NoiseFractal fractal, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height, int channels, ByteBuffer out) {
+        assert_t(channels != 1 && channels != 4, "noise pixels support 1 (grayscale) or 4 (RGBA) channels");
 
-        Simplex simplex = new Simplex(seed);
+        assert_t(out.remaining() < (long) width * height * channels, "noise pixels don't fit into output buffer");
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double value = simplex.ridgeNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
+        fillNoisePixels((x, y) -> source.sample(fractal, x, y, 0, octaves, persistence, frequencyMult), scale, pixAdd, width, height, channels, out, out.position(), 0, height);
+    }
 
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
+    /**
+     * Export noise image to stream without Raylib (headless).
+     * Image is generated and written in bands of <code>NOISE_EXPORT_BAND_ROWS</code> rows, so very large images are never held in memory.
+     *
+     * @param source Noise source.
+     * @param fractal Fractal mode.
+     * @param scale Scale.
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
+     * @param pixAdd Append number to pixel (default is 1).
+     * @param width Width.
+     * @param height Height.
+     * @param channels Channels: 1 (grayscale) or 4 (RGBA).
+     * @param format Export format.
+     * @param out Output stream (closed after export).
+     */
+    public static void exportNoise(NoiseSource source, NoiseFractal fractal, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height, int channels, NoiseExportFormat format, OutputStream out) throws IOException {
+        assert_t(channels != 1 && channels != 4, "noise export supports 1 (grayscale) or 4 (RGBA) channels");
 
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+        int rowBytes = width * channels;
 
-                buffer.put((byte) 255);
-            }
-        }
+        byte[] band = new byte[NOISE_EXPORT_BAND_ROWS * rowBytes];
 
-        buffer.flip();
+        ByteBuffer bandBuffer = ByteBuffer.wrap(band);
 
-        return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        DoubleBinaryOperator noise = (x, y) -> source.sample(fractal, x, y, 0, octaves, persistence, frequencyMult);
+
+        try(PngStreamWriter png = format == NoiseExportFormat.PNG ? new PngStreamWriter(out, width, height, channels) : null; OutputStream raw = format == NoiseExportFormat.RAW ? out : null) {
+            for (int fromRow = 0; fromRow < height; fromRow += NOISE_EXPORT_BAND_ROWS) {
+                int rows = Math.min(NOISE_EXPORT_BAND_ROWS, height - fromRow);
+
+                fillNoisePixels(noise, scale, pixAdd, width, height, channels, bandBuffer, 0, fromRow, rows);
+
+                if(png != null) {
+                    for (int row = 0; row < rows; row++) png.writeRow(band, row * rowBytes);
+                } else {
+                    raw.write(band, 0, rows * rowBytes);
+                }
+            }
+        }
     }
 
     /**
-     * Generate simplex billow noise image.
+     * Export noise image to file without Raylib (headless), see <code>exportNoise(..., OutputStream)</code>.
      *
-     * @param seed Seed.
+     * @param source Noise source.
+     * @param fractal Fractal mode.
      * @param scale Scale.
-     * @param octaves Octaves.
-     * @param persistence Persistence.
-     * @param frequencyMult Multiply frequency.
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
      * @param pixAdd Append number to pixel (default is 1).
      * @param width Width.
      * @param height Height.
+     * @param channels Channels: 1 (grayscale) or 4 (RGBA).
+     * @param format Export format.
+     * @param file Output file.
      */
-    public static Raylib.Image genSimplexBillowNoiseImg(int seed, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height) {
+    public static void exportNoise(NoiseSource source, NoiseFractal fractal, int scale, int octaves, float persistence, float frequencyMult, int pixAdd, int width, int height, int channels, NoiseExportFormat format, Path file) throws IOException {
+        exportNoise(source, fractal, scale, octaves, persistence, frequencyMult, pixAdd, width, height, channels, format, new BufferedOutputStream(Files.newOutputStream(file), 1 << 20));
+    }
+
+    /**
+     * Generate grayscale RGBA noise pixels into new direct buffer.
+     * Rows are generated in parallel as fork/join tiles and every pixel is written to its absolute offset,
+     * so output is identical to sequential generation.
+     *
+     * @param noise Noise function of scaled coordinates.
+     * @param scale Scale.
+     * @param pixAdd Append number to pixel.
+     * @param width Width.
+     * @param height Height.
+     */
+    private static ByteBuffer genNoiseBuffer(DoubleBinaryOperator noise, int scale, int pixAdd, int width, int height) {
         ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
 
-        Simplex simplex = new Simplex(seed);
+        fillNoisePixels(noise, scale, pixAdd, width, height, 4, buffer, 0, 0, height);
+
+        return buffer;
+    }
+
+    // Fill image rows [fromRow, fromRow + rows) into buffer at base (absolute puts), gray value repeated in RGB, alpha 255.
+    private static void fillNoisePixels(DoubleBinaryOperator noise, int scale, int pixAdd, int width, int height, int channels, ByteBuffer buffer, int base, int fromRow, int rows) {
+        forEachRow(width, rows, row -> {
+            int y = fromRow + row;
+
+            int offset = base + row * width * channels;
 
-        for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                double value = simplex.billowNoise(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale), 0, octaves, persistence, frequencyMult);
+                double value = noise.applyAsDouble(scaleNoiseCoord((double) x / width, scale), scaleNoiseCoord((double) y / height, scale));
 
-                int pixelVal = (int) ((value + pixAdd) * 127.5);
+                byte pixelVal = (byte) (int) ((value + pixAdd) * 127.5);
 
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
-                buffer.put((byte) pixelVal);
+                if(channels == 1) {
+                    buffer.put(offset, pixelVal);
+                } else {
+                    buffer.put(offset, pixelVal);
+                    buffer.put(offset + 1, pixelVal);
+                    buffer.put(offset + 2, pixelVal);
 
-                buffer.put((byte) 255);
+                    buffer.put(offset + 3, (byte) 255);
+                }
+
+                offset += channels;
             }
-        }
+        });
+    }
 
-        buffer.flip();
+    /**
+     * Run row filler for every row in parallel (fork/join tiles of about <code>NOISE_TILE_PIXELS</code> pixels).
+     *
+     * @param width Row width.
+     * @param rows Rows count.
+     * @param rowFiller Row filler (receives row index).
+     */
+    static void forEachRow(int width, int rows, IntConsumer rowFiller) {
+        ForkJoinPool.commonPool().invoke(new NoiseRowsTask((row, scratch) -> rowFiller.accept(row), false, width, 0, rows));
+    }
+
+    /**
+     * Run row filler for every row in parallel, passing a <code>width</code> floats scratch row.
+     * Scratch row is allocated once per fork/join tile and reused for all its rows.
+     *
+     * @param width Row width.
+     * @param rows Rows count.
+     * @param rowFiller Row filler (receives row index and scratch row).
+     */
+    static void forEachRow(int width, int rows, ScratchRowFiller rowFiller) {
+        ForkJoinPool.commonPool().invoke(new NoiseRowsTask(rowFiller, true, width, 0, rows));
+    }
 
+    private static Raylib.Image toImg(ByteBuffer buffer, int width, int height) {
         return new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
     }
 
@@ -618,4 +840,46 @@ public class NoiseGenerator {
 
         return nTex;
     }
+
+    // Row filler that receives scratch row of the fork/join tile filling it.
+    interface ScratchRowFiller {
+        void fill(int row, float[] scratch);
+    }
+
+    // Fork/join task that fills rows [fromRow, toRow) using row filler.
+    private static class NoiseRowsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ScratchRowFiller rowFiller;
+
+        private final boolean scratch;
+
+        private final int width, fromRow, toRow;
+
+        private NoiseRowsTask(ScratchRowFiller rowFiller_, boolean scratch_, int width_, int fromRow_, int toRow_) {
+            rowFiller = rowFiller_;
+
+            scratch = scratch_;
+
+            width = width_;
+
+            fromRow = fromRow_;
+            toRow = toRow_;
+        }
+
+        @Override
+        protected void compute() {
+            if((toRow - fromRow) * (long) width > NOISE_TILE_PIXELS && toRow - fromRow > 1) {
+                int middle = (fromRow + toRow) >>> 1;
+
+                invokeAll(new NoiseRowsTask(rowFiller, scratch, width, fromRow, middle), new NoiseRowsTask(rowFiller, scratch, width, middle, toRow));
+
+                return;
+            }
+
+            float[] scratchRow = scratch ? new float[width] : null;
+
+            for (int row = fromRow; row < toRow; row++) rowFiller.fill(row, scratchRow);
+        }
+    }
 }
@@ -0,0 +1,239 @@
+package gsdk.source.generic;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Seeded noise source: permutation tables are built once per seed and algorithm.
+ * Noise source is immutable, so one instance can be sampled from many threads at once.
+ */
+public class NoiseSource {
+    private static final ConcurrentHashMap<Long, NoiseSource> cache = new ConcurrentHashMap<>();
+
+    public static final int MAX_CACHED_SOURCES = 256;
+
+    private final NoiseType type;
+
+    private final int seed;
+
+    private final NoiseAlgorithm algorithm;
+
+    /**
+     * Initialize noise source (not cached, see <code>NoiseSource::of</code>).
+     *
+     * @param type_ Noise type.
+     * @param seed_ Seed.
+     */
+    public NoiseSource(NoiseType type_, int seed_) {
+        type = type_;
+        seed = seed_;
+
+        algorithm = switch(type) {
+            case PERLIN -> new Perlin(seed);
+            case PERLIN_FAST -> new FastPerlin(seed);
+            case SIMPLEX -> new Simplex(seed);
+            case SIMPLEX_FAST -> new FastSimplex(seed);
+            case WORLEY -> new Worley(seed);
+        };
+    }
+
+    /**
+     * Get cached noise source for type and seed (created on first use).
+     * Cache is cleared when it holds more than <code>MAX_CACHED_SOURCES</code> sources.
+     *
+     * @param type Noise type.
+     * @param seed Seed.
+     */
+    public static NoiseSource of(NoiseType type, int seed) {
+        long key = ((long) type.ordinal() << 32) | (seed & 0xFFFFFFFFL);
+
+        NoiseSource source = cache.get(key);
+
+        if(source != null) return source;
+
+        if(cache.size() >= MAX_CACHED_SOURCES) cache.clear();
+
+        return cache.computeIfAbsent(key, k -> new NoiseSource(type, seed));
+    }
+
+    /**
+     * Clear noise sources cache.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Sample 2D noise.
+     *
+     * @param x X.
+     * @param y Y.
+     */
+    public double noise(double x, double y) {
+        return algorithm.noise(x, y);
+    }
+
+    /**
+     * Sample 3D noise.
+     *
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     */
+    public double noise(double x, double y, double z) {
+        return algorithm.noise(x, y, z);
+    }
+
+    /**
+     * Sample 4D noise (simplex only).
+     *
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param w W.
+     */
+    public double noise(double x, double y, double z, double w) {
+        assert_t(type != NoiseType.SIMPLEX && type != NoiseType.SIMPLEX_FAST, "4D noise is only available for simplex noise");
+
+        return ((Simplex) algorithm).noise(x, y, z, w);
+    }
+
+    /**
+     * Sample fractal noise.
+     *
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        return algorithm.fractalNoise(x, y, z, octaves, persistence, frequencyMult);
+    }
+
+    /**
+     * Sample turbulence noise.
+     *
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        return algorithm.turbulenceNoise(x, y, z, octaves, persistence, frequencyMult);
+    }
+
+    /**
+     * Sample ridge noise.
+     *
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        return algorithm.ridgeNoise(x, y, z, octaves, persistence, frequencyMult);
+    }
+
+    /**
+     * Sample billow noise.
+     *
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param octaves Octaves.
+     * @param persistence Persistence.
+     * @param frequencyMult Multiply frequency.
+     */
+    public double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        return algorithm.billowNoise(x, y, z, octaves, persistence, frequencyMult);
+    }
+
+    /**
+     * Sample 2D cellular noise (worley only).
+     *
+     * @param output Worley output.
+     * @param x X.
+     * @param y Y.
+     */
+    public double cellular(WorleyOutput output, double x, double y) {
+        assert_t(type != NoiseType.WORLEY, "cellular noise is only available for worley noise");
+
+        return ((Worley) algorithm).cellular(x, y, output);
+    }
+
+    /**
+     * Sample 3D cellular noise (worley only).
+     *
+     * @param output Worley output.
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     */
+    public double cellular(WorleyOutput output, double x, double y, double z) {
+        assert_t(type != NoiseType.WORLEY, "cellular noise is only available for worley noise");
+
+        return ((Worley) algorithm).cellular(x, y, z, output);
+    }
+
+    /**
+     * Fill row of samples at (originX + x * step, y, z) with fractal mode (one kernel call per row).
+     *
+     * @param fractal Fractal mode.
+     * @param out Output array.
+     * @param offset Output array offset.
+     * @param width Row width.
+     * @param originX Origin X.
+     * @param step Distance between samples.
+     * @param y Y.
+     * @param z Z (ignored for flat NONE rows).
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
+     * @param flat Sample 2D noise for NONE?
+     */
+    void fillRow(NoiseFractal fractal, float[] out, int offset, int width, double originX, double step, double y, double z, int octaves, double persistence, double frequencyMult, boolean flat) {
+        algorithm.fillRow(fractal, out, offset, width, originX, step, y, z, octaves, persistence, frequencyMult, flat);
+    }
+
+    /**
+     * Sample noise with fractal mode.
+     *
+     * @param fractal Fractal mode.
+     * @param x X.
+     * @param y Y.
+     * @param z Z.
+     * @param octaves Octaves (ignored for NONE).
+     * @param persistence Persistence (ignored for NONE).
+     * @param frequencyMult Multiply frequency (ignored for NONE).
+     */
+    public double sample(NoiseFractal fractal, double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        return switch(fractal) {
+            case NONE -> algorithm.noise(x, y, z);
+            case FRACTAL -> algorithm.fractalNoise(x, y, z, octaves, persistence, frequencyMult);
+            case TURBULENCE -> algorithm.turbulenceNoise(x, y, z, octaves, persistence, frequencyMult);
+            case RIDGE -> algorithm.ridgeNoise(x, y, z, octaves, persistence, frequencyMult);
+            case BILLOW -> algorithm.billowNoise(x, y, z, octaves, persistence, frequencyMult);
+        };
+    }
+
+    /**
+     * Get noise type.
+     */
+    public NoiseType getType() {
+        return type;
+    }
+
+    /**
+     * Get seed.
+     */
+    public int getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,33 @@
+package gsdk.source.generic;
+
+/**
+ * Noise algorithm types.
+ */
+public enum NoiseType {
+    /**
+     * Perlin (gradient) noise.
+     */
+    PERLIN,
+
+    /**
+     * Simplex noise.
+     */
+    SIMPLEX,
+
+    /**
+     * Perlin noise, fast float kernel (table gradients, dedicated 2D path).
+     * Same lattice as PERLIN; values differ from PERLIN by less than 3e-6 at any coordinate magnitude.
+     */
+    PERLIN_FAST,
+
+    /**
+     * Simplex noise, fast float kernel (precomputed skew constants and gradient indices, float corner math).
+     * Same lattice as SIMPLEX; values differ from SIMPLEX by less than 1e-6 at any coordinate magnitude. 4D noise uses the reference kernel.
+     */
+    SIMPLEX_FAST,
+
+    /**
+     * Worley (cellular) noise: <code>noise</code> returns F1 distance (0 .. ~1.2), see <code>NoiseSource::cellular</code> for other outputs.
+     */
+    WORLEY
+}
@@ -0,0 +1,51 @@
+package gsdk.source.generic;
+
+import java.util.Random;
+
+class Perlin implements NoiseAlgorithm {
+    private final int[] perm;
+    final int[] dPerm;
+    protected Perlin(int seed) {
+        perm = new int[256];dPerm = new int[512];
+        Random random = new Random(seed);
+        for(int i = 0; i < 256; i++) {perm[i] = i;}
+        for(int i = 0; i < 256; i++) {int swapIndex = random.nextInt(256);int temp = perm[i];perm[i] = perm[swapIndex];perm[swapIndex] = temp;}
+        for(int i = 0; i < 512; i++) {dPerm[i] = perm[i % 256];}}
+    public double noise(double x, double y) {return noise(x, y, 0);}
+    public double noise(double x, double y, double z) {
+        int X = (int) Math.floor(x) & 255;int Y = (int) Math.floor(y) & 255;int Z = (int) Math.floor(z) & 255;
+        x -= Math.floor(x);y -= Math.floor(y);z -= Math.floor(z);
+        double u = fade(x);double v = fade(y);double w = fade(z);
+        int A = dPerm[X] + Y;int AA = dPerm[A] + Z;int AB = dPerm[A + 1] + Z;
+        int B = dPerm[X + 1] + Y;int BA = dPerm[B] + Z;int BB = dPerm[B + 1] + Z;
+        return lerp(w, lerp(v, lerp(u, grad(dPerm[AA], x, y, z), grad(dPerm[BA], x - 1, y, z)),
+                        lerp(u, grad(dPerm[AB], x, y - 1, z), grad(dPerm[BB], x - 1, y - 1, z))),
+                lerp(v, lerp(u, grad(dPerm[AA + 1], x, y, z - 1), grad(dPerm[BA + 1], x - 1, y, z - 1)),
+                        lerp(u, grad(dPerm[AB + 1], x, y - 1, z - 1), grad(dPerm[BB + 1], x - 1, y - 1, z - 1))));}
+    private double fade(double t) {return t * t * t * (t * (t * 6 - 15) + 10);}
+    private double lerp(double t, double a, double b) {return a + t * (b - a);}
+    private double grad(int hash, double x, double y, double z) {int h = hash & 15;double u = h < 8 ? x : y;double v = h < 4 ? y : h == 12 || h == 14 ? x : z;
+        return ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);}
+    public double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for(int i = 0; i < octaves; i++) {total += noise(x * frequency, y * frequency, z * frequency) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {total += Math.abs(noise(x * frequency, y * frequency, z * frequency) * amplitude);maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (1 - Math.abs(n)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (2 * Math.abs(n) - 1) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public void fillRow(NoiseFractal fractal, float[] out, int offset, int width, double originX, double step, double y, double z, int octaves, double persistence, double frequencyMult, boolean flat) {
+        switch(fractal) {
+            case NONE -> {if(flat) {for(int x = 0; x < width; x++) out[offset + x] = (float) noise(originX + x * step, y);} else {for(int x = 0; x < width; x++) out[offset + x] = (float) noise(originX + x * step, y, z);}}
+            case FRACTAL -> {for(int x = 0; x < width; x++) out[offset + x] = (float) fractalNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case TURBULENCE -> {for(int x = 0; x < width; x++) out[offset + x] = (float) turbulenceNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case RIDGE -> {for(int x = 0; x < width; x++) out[offset + x] = (float) ridgeNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case BILLOW -> {for(int x = 0; x < width; x++) out[offset + x] = (float) billowNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}}}}
@@ -0,0 +1,185 @@
+package gsdk.source.generic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Streaming uncompressed PNG encoder (8-bit grayscale or RGBA).
+ * Rows are written one by one into stored (uncompressed) deflate blocks, so memory use does not depend on image height.
+ */
+public class PngStreamWriter implements Closeable {
+    private static final byte[] SIGNATURE = {(byte) 137, 'P', 'N', 'G', '\r', '\n', 26, '\n'};
+
+    private static final byte[] FILTER_NONE = {0};
+
+    // Max stored deflate block length.
+    private static final int BLOCK_SIZE = 65535;
+
+    private final OutputStream out;
+
+    private final int width, height, channels;
+
+    private final byte[] block = new byte[BLOCK_SIZE];
+
+    // zlib header (first block only), stored block header and block data.
+    private final byte[] chunk = new byte[2 + 5 + BLOCK_SIZE];
+
+    private int blockLength = 0, rowsWritten = 0;
+
+    private boolean zlibHeaderWritten = false, closed = false;
+
+    private final Adler32 adler = new Adler32();
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Initialize PNG stream writer and write PNG header.
+     *
+     * @param out_ Output stream (closed with writer).
+     * @param width_ Width.
+     * @param height_ Height.
+     * @param channels_ Channels: 1 (grayscale) or 4 (RGBA).
+     */
+    public PngStreamWriter(OutputStream out_, int width_, int height_, int channels_) throws IOException {
+        assert_t(channels_ != 1 && channels_ != 4, "PNG stream writer supports 1 (grayscale) or 4 (RGBA) channels");
+
+        out = out_;
+
+        width = width_;
+        height = height_;
+
+        channels = channels_;
+
+        out.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+
+        header[8] = 8;
+        header[9] = (byte) (channels == 1 ? 0 : 6);
+
+        writeChunk("IHDR", header, 0, header.length);
+    }
+
+    /**
+     * Write next row.
+     *
+     * @param row Row pixels (<code>width * channels</code> bytes starting at offset).
+     * @param offset Row offset.
+     */
+    public void writeRow(byte[] row, int offset) throws IOException {
+        assert_t(rowsWritten >= height, "all PNG rows were already written");
+
+        append(FILTER_NONE, 0, 1);
+
+        append(row, offset, width * channels);
+
+        rowsWritten++;
+    }
+
+    /**
+     * Write final deflate block, zlib checksum and PNG end chunk, then close output stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if(closed) return;
+
+        closed = true;
+
+        try {
+            assert_t(rowsWritten != height, "PNG is closed before all rows were written");
+
+            flushBlock(true);
+
+            byte[] checksum = new byte[4];
+
+            putInt(checksum, 0, (int) adler.getValue());
+
+            writeChunk("IDAT", checksum, 0, checksum.length);
+
+            writeChunk("IEND", new byte[0], 0, 0);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void append(byte[] data, int offset, int length) throws IOException {
+        adler.update(data, offset, length);
+
+        while(length > 0) {
+            int count = Math.min(length, BLOCK_SIZE - blockLength);
+
+            System.arraycopy(data, offset, block, blockLength, count);
+
+            blockLength += count;
+
+            offset += count;
+            length -= count;
+
+            if(blockLength == BLOCK_SIZE) flushBlock(false);
+        }
+    }
+
+    // Write buffered data as one stored deflate block inside one IDAT chunk.
+    private void flushBlock(boolean last) throws IOException {
+        int position = 0;
+
+        if(!zlibHeaderWritten) {
+            // Deflate, 32K window, no compression level hint.
+            chunk[position++] = 0x78;
+            chunk[position++] = 0x01;
+
+            zlibHeaderWritten = true;
+        }
+
+        chunk[position++] = (byte) (last ? 1 : 0);
+
+        chunk[position++] = (byte) blockLength;
+        chunk[position++] = (byte) (blockLength >>> 8);
+        chunk[position++] = (byte) ~blockLength;
+        chunk[position++] = (byte) (~blockLength >>> 8);
+
+        System.arraycopy(block, 0, chunk, position, blockLength);
+
+        writeChunk("IDAT", chunk, 0, position + blockLength);
+
+        blockLength = 0;
+    }
+
+    private void writeChunk(String type, byte[] data, int offset, int length) throws IOException {
+        byte[] prefix = new byte[8];
+
+        putInt(prefix, 0, length);
+
+        System.arraycopy(type.getBytes(StandardCharsets.US_ASCII), 0, prefix, 4, 4);
+
+        crc.reset();
+        crc.update(prefix, 4, 4);
+        crc.update(data, offset, length);
+
+        byte[] checksum = new byte[4];
+
+        putInt(checksum, 0, (int) crc.getValue());
+
+        out.write(prefix);
+        out.write(data, offset, length);
+        out.write(checksum);
+    }
+
+    private static void putInt(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >>> 24);
+        data[offset + 1] = (byte) (value >>> 16);
+        data[offset + 2] = (byte) (value >>> 8);
+        data[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,201 @@
+package gsdk.source.generic;
+
+import com.raylib.Raylib;
+
+import org.bytedeco.javacpp.BytePointer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.nativeOrder;
+
+/**
+ * Scrolling noise surface: R8G8B8A8 noise image kept as a ring buffer over an infinite noise plane.
+ * World pixel (x, y) is stored at (x mod width, y mod height), so scrolling only generates newly exposed rows and columns.
+ * Render it with texture wrap set to repeat and source rectangle starting at (<code>getWrapX</code>, <code>getWrapY</code>).
+ */
+public class ScrollingNoiseSurface {
+    private final NoiseSource source;
+
+    private final NoiseFractal fractal;
+
+    private final int octaves, pixAdd;
+
+    private final float persistence, frequencyMult;
+
+    private final double step;
+
+    private final int width, height;
+
+    private final ByteBuffer buffer;
+
+    private Raylib.Image image = null;
+
+    private int offsetX = 0, offsetY = 0;
+
+    /**
+     * Initialize scrolling noise surface (whole surface is generated at offset (0, 0)).
+     *
+     * @param source_ Noise source.
+     * @param fractal_ Fractal mode.
+     * @param octaves_ Octaves (ignored for NONE).
+     * @param persistence_ Persistence (ignored for NONE).
+     * @param frequencyMult_ Multiply frequency (ignored for NONE).
+     * @param pixAdd_ Append number to pixel (default is 1).
+     * @param step_ Noise units per pixel.
+     * @param width_ Width.
+     * @param height_ Height.
+     */
+    public ScrollingNoiseSurface(NoiseSource source_, NoiseFractal fractal_, int octaves_, float persistence_, float frequencyMult_, int pixAdd_, double step_, int width_, int height_) {
+        source = source_;
+        fractal = fractal_;
+
+        octaves = octaves_;
+
+        persistence = persistence_;
+        frequencyMult = frequencyMult_;
+
+        pixAdd = pixAdd_;
+
+        step = step_;
+
+        width = width_;
+        height = height_;
+
+        buffer = ByteBuffer.allocateDirect(width * height * 4).order(nativeOrder());
+
+        regenerate();
+    }
+
+    /**
+     * Scroll surface to world pixel offset. Only newly exposed rows and columns are generated
+     * (whole surface when it moves by a full width or height).
+     *
+     * @param x Offset X (world pixels).
+     * @param y Offset Y (world pixels).
+     */
+    public void scrollTo(int x, int y) {
+        int dx = x - offsetX, dy = y - offsetY;
+
+        offsetX = x;
+        offsetY = y;
+
+        if(Math.abs(dx) >= width || Math.abs(dy) >= height) {
+            regenerate();
+
+            return;
+        }
+
+        if(dx > 0) fill(x + width - dx, y, dx, height);
+        else if(dx < 0) fill(x, y, -dx, height);
+
+        // Corners were already generated with the new columns.
+        int keptX = dx > 0 ? x : x - dx, keptWidth = width - Math.abs(dx);
+
+        if(dy > 0) fill(keptX, y + height - dy, keptWidth, dy);
+        else if(dy < 0) fill(keptX, y, keptWidth, -dy);
+    }
+
+    /**
+     * Scroll surface by world pixels, see <code>scrollTo</code>.
+     *
+     * @param dx Delta X.
+     * @param dy Delta Y.
+     */
+    public void scrollBy(int dx, int dy) {
+        scrollTo(offsetX + dx, offsetY + dy);
+    }
+
+    /**
+     * Generate whole surface at current offset.
+     */
+    public void regenerate() {
+        fill(offsetX, offsetY, width, height);
+    }
+
+    // Generate world pixel rectangle into ring buffer.
+    private void fill(int worldX, int worldY, int regionWidth, int regionHeight) {
+        NoiseGenerator.forEachRow(regionWidth, regionHeight, row -> {
+            int wy = worldY + row;
+
+            int rowOffset = Math.floorMod(wy, height) * width;
+
+            int rx = Math.floorMod(worldX, width);
+
+            for (int x = 0; x < regionWidth; x++) {
+                double value = source.sample(fractal, (worldX + x) * step, wy * step, 0, octaves, persistence, frequencyMult);
+
+                byte pixelVal = (byte) (int) ((value + pixAdd) * 127.5);
+
+                int offset = (rowOffset + rx) * 4;
+
+                buffer.put(offset, pixelVal);
+                buffer.put(offset + 1, pixelVal);
+                buffer.put(offset + 2, pixelVal);
+
+                buffer.put(offset + 3, (byte) 255);
+
+                if(++rx == width) rx = 0;
+            }
+        });
+    }
+
+    /**
+     * Get ring buffer pixels (R8G8B8A8, <code>width * height * 4</code> bytes).
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Get image sharing ring buffer pixels (e.g. for <code>Raylib.UpdateTexture</code>); must not be unloaded.
+     */
+    public Raylib.Image getImage() {
+        if(image == null) {
+            image = new Raylib.Image().data(new BytePointer(buffer)).width(width).height(height).mipmaps(1).format(Raylib.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        }
+
+        return image;
+    }
+
+    /**
+     * Get ring buffer X of surface's top-left pixel.
+     */
+    public int getWrapX() {
+        return Math.floorMod(offsetX, width);
+    }
+
+    /**
+     * Get ring buffer Y of surface's top-left pixel.
+     */
+    public int getWrapY() {
+        return Math.floorMod(offsetY, height);
+    }
+
+    /**
+     * Get offset X (world pixels).
+     */
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Get offset Y (world pixels).
+     */
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * Get width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get height.
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,79 @@
+package gsdk.source.generic;
+
+import java.util.Random;
+
+class Simplex implements NoiseAlgorithm {
+    static final int[][] GRAD3 = {{1,1,0}, {-1,1,0}, {1,-1,0}, {-1,-1,0}, {1,0,1}, {-1,0,1}, {1,0,-1}, {-1,0,-1}, {0,1,1}, {0,-1,1}, {0,1,-1}, {0,-1,-1}};
+    private static final int[][] GRAD4 = {{0,1,1,1}, {0,1,1,-1}, {0,1,-1,1}, {0,1,-1,-1}, {0,-1,1,1}, {0,-1,1,-1}, {0,-1,-1,1}, {0,-1,-1,-1},
+        {1,0,1,1}, {1,0,1,-1}, {1,0,-1,1}, {1,0,-1,-1}, {-1,0,1,1}, {-1,0,1,-1}, {-1,0,-1,1}, {-1,0,-1,-1},
+        {1,1,0,1}, {1,1,0,-1}, {1,-1,0,1}, {1,-1,0,-1}, {-1,1,0,1}, {-1,1,0,-1}, {-1,-1,0,1}, {-1,-1,0,-1},
+        {1,1,1,0}, {1,1,-1,0}, {1,-1,1,0}, {1,-1,-1,0}, {-1,1,1,0}, {-1,1,-1,0}, {-1,-1,1,0}, {-1,-1,-1,0}};
+    private final int[] p = new int[512];
+    final int[] perm = new int[512];
+    protected Simplex(int seed) {
+        Random random = new Random(seed);
+        for(int i = 0; i < 256; i++) {p[i] = i;}
+        for(int i = 255; i > 0; i--) {int n = random.nextInt(i + 1);int swap = p[i];p[i] = p[n];p[n] = swap;}
+        for(int i = 0; i < 512; i++) {perm[i] = p[i & 255];}}
+    public double noise(double xin, double yin) {
+        double n0, n1, n2;final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);double s = (xin + yin) * F2;int i = fastfloor(xin + s);
+        int j = fastfloor(yin + s);final double G2 = (3.0 - Math.sqrt(3.0)) / 6.0;double t = (i + j) * G2;double X0 = i - t;double Y0 = j - t;
+        double x0 = xin - X0;double y0 = yin - Y0;int i1, j1;if (x0 > y0) {i1 = 1; j1 = 0;} else {i1 = 0; j1 = 1;}double x1 = x0 - i1 + G2;double y1 = y0 - j1 + G2;
+        double x2 = x0 - 1.0 + 2.0 * G2;double y2 = y0 - 1.0 + 2.0 * G2;int ii = i & 255;int jj = j & 255;int gi0 = perm[ii + perm[jj]] % 12;
+        int gi1 = perm[ii + i1 + perm[jj + j1]] % 12;int gi2 = perm[ii + 1 + perm[jj + 1]] % 12;double t0 = 0.5 - x0 * x0 - y0 * y0;if (t0 < 0) n0 = 0.0;
+        else {t0 *= t0;n0 = t0 * t0 * dot(GRAD3[gi0], x0, y0);}double t1 = 0.5 - x1 * x1 - y1 * y1;if (t1 < 0) n1 = 0.0;else {t1 *= t1;n1 = t1 * t1 * dot(GRAD3[gi1], x1, y1);}double t2 = 0.5 - x2 * x2 - y2 * y2;
+        if (t2 < 0) n2 = 0.0;else {t2 *= t2;n2 = t2 * t2 * dot(GRAD3[gi2], x2, y2);}return 70.0 * (n0 + n1 + n2);}
+    public double noise(double xin, double yin, double zin) {
+        final double F3 = 1.0 / 3.0;final double G3 = 1.0 / 6.0;double s = (xin + yin + zin) * F3;int i = fastfloor(xin + s);int j = fastfloor(yin + s);int k = fastfloor(zin + s);
+        double t = (i + j + k) * G3;double x0 = xin - (i - t);double y0 = yin - (j - t);double z0 = zin - (k - t);int i1, j1, k1, i2, j2, k2;
+        if (x0 >= y0) {if (y0 >= z0) {i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 1; k2 = 0;} else if (x0 >= z0) {i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 0; k2 = 1;} else {i1 = 0; j1 = 0; k1 = 1; i2 = 1; j2 = 0; k2 = 1;}}
+        else {if (y0 < z0) {i1 = 0; j1 = 0; k1 = 1; i2 = 0; j2 = 1; k2 = 1;} else if (x0 < z0) {i1 = 0; j1 = 1; k1 = 0; i2 = 0; j2 = 1; k2 = 1;} else {i1 = 0; j1 = 1; k1 = 0; i2 = 1; j2 = 1; k2 = 0;}}
+        double x1 = x0 - i1 + G3;double y1 = y0 - j1 + G3;double z1 = z0 - k1 + G3;double x2 = x0 - i2 + 2.0 * G3;double y2 = y0 - j2 + 2.0 * G3;double z2 = z0 - k2 + 2.0 * G3;
+        double x3 = x0 - 1.0 + 3.0 * G3;double y3 = y0 - 1.0 + 3.0 * G3;double z3 = z0 - 1.0 + 3.0 * G3;int ii = i & 255;int jj = j & 255;int kk = k & 255;
+        int gi0 = perm[ii + perm[jj + perm[kk]]] % 12;int gi1 = perm[ii + i1 + perm[jj + j1 + perm[kk + k1]]] % 12;
+        int gi2 = perm[ii + i2 + perm[jj + j2 + perm[kk + k2]]] % 12;int gi3 = perm[ii + 1 + perm[jj + 1 + perm[kk + 1]]] % 12;
+        return 32.0 * (corner(GRAD3[gi0], x0, y0, z0) + corner(GRAD3[gi1], x1, y1, z1) + corner(GRAD3[gi2], x2, y2, z2) + corner(GRAD3[gi3], x3, y3, z3));}
+    public double noise(double x, double y, double z, double w) {
+        final double F4 = (Math.sqrt(5.0) - 1.0) / 4.0;final double G4 = (5.0 - Math.sqrt(5.0)) / 20.0;double s = (x + y + z + w) * F4;
+        int i = fastfloor(x + s);int j = fastfloor(y + s);int k = fastfloor(z + s);int l = fastfloor(w + s);double t = (i + j + k + l) * G4;
+        double x0 = x - (i - t);double y0 = y - (j - t);double z0 = z - (k - t);double w0 = w - (l - t);int rankx = 0;int ranky = 0;int rankz = 0;int rankw = 0;
+        if (x0 > y0) rankx++; else ranky++;if (x0 > z0) rankx++; else rankz++;if (x0 > w0) rankx++; else rankw++;
+        if (y0 > z0) ranky++; else rankz++;if (y0 > w0) ranky++; else rankw++;if (z0 > w0) rankz++; else rankw++;
+        int i1 = rankx >= 3 ? 1 : 0;int j1 = ranky >= 3 ? 1 : 0;int k1 = rankz >= 3 ? 1 : 0;int l1 = rankw >= 3 ? 1 : 0;
+        int i2 = rankx >= 2 ? 1 : 0;int j2 = ranky >= 2 ? 1 : 0;int k2 = rankz >= 2 ? 1 : 0;int l2 = rankw >= 2 ? 1 : 0;
+        int i3 = rankx >= 1 ? 1 : 0;int j3 = ranky >= 1 ? 1 : 0;int k3 = rankz >= 1 ? 1 : 0;int l3 = rankw >= 1 ? 1 : 0;
+        double x1 = x0 - i1 + G4;double y1 = y0 - j1 + G4;double z1 = z0 - k1 + G4;double w1 = w0 - l1 + G4;
+        double x2 = x0 - i2 + 2.0 * G4;double y2 = y0 - j2 + 2.0 * G4;double z2 = z0 - k2 + 2.0 * G4;double w2 = w0 - l2 + 2.0 * G4;
+        double x3 = x0 - i3 + 3.0 * G4;double y3 = y0 - j3 + 3.0 * G4;double z3 = z0 - k3 + 3.0 * G4;double w3 = w0 - l3 + 3.0 * G4;
+        double x4 = x0 - 1.0 + 4.0 * G4;double y4 = y0 - 1.0 + 4.0 * G4;double z4 = z0 - 1.0 + 4.0 * G4;double w4 = w0 - 1.0 + 4.0 * G4;int ii = i & 255;int jj = j & 255;int kk = k & 255;int ll = l & 255;
+        int gi0 = perm[ii + perm[jj + perm[kk + perm[ll]]]] % 32;int gi1 = perm[ii + i1 + perm[jj + j1 + perm[kk + k1 + perm[ll + l1]]]] % 32;
+        int gi2 = perm[ii + i2 + perm[jj + j2 + perm[kk + k2 + perm[ll + l2]]]] % 32;int gi3 = perm[ii + i3 + perm[jj + j3 + perm[kk + k3 + perm[ll + l3]]]] % 32;
+        int gi4 = perm[ii + 1 + perm[jj + 1 + perm[kk + 1 + perm[ll + 1]]]] % 32;
+        return 27.0 * (corner(GRAD4[gi0], x0, y0, z0, w0) + corner(GRAD4[gi1], x1, y1, z1, w1) + corner(GRAD4[gi2], x2, y2, z2, w2) + corner(GRAD4[gi3], x3, y3, z3, w3) + corner(GRAD4[gi4], x4, y4, z4, w4));}
+    private static double corner(int[] g, double x, double y, double z) {double t = 0.6 - x * x - y * y - z * z;if (t < 0) return 0.0;t *= t;return t * t * (g[0] * x + g[1] * y + g[2] * z);}
+    private static double corner(int[] g, double x, double y, double z, double w) {double t = 0.6 - x * x - y * y - z * z - w * w;if (t < 0) return 0.0;t *= t;return t * t * (g[0] * x + g[1] * y + g[2] * z + g[3] * w);}
+    private static int fastfloor(double x) {return x > 0 ? (int) x : (int) x - 1;}
+    private static double dot(int[] g, double x, double y) {return g[0] * x + g[1] * y;}
+    public double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {total += noise(x * frequency, y * frequency, z * frequency) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {total += Math.abs(noise(x * frequency, y * frequency, z * frequency)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (1 - Math.abs(n)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (2 * Math.abs(n) - 1) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public void fillRow(NoiseFractal fractal, float[] out, int offset, int width, double originX, double step, double y, double z, int octaves, double persistence, double frequencyMult, boolean flat) {
+        switch(fractal) {
+            case NONE -> {if(flat) {for(int x = 0; x < width; x++) out[offset + x] = (float) noise(originX + x * step, y);} else {for(int x = 0; x < width; x++) out[offset + x] = (float) noise(originX + x * step, y, z);}}
+            case FRACTAL -> {for(int x = 0; x < width; x++) out[offset + x] = (float) fractalNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case TURBULENCE -> {for(int x = 0; x < width; x++) out[offset + x] = (float) turbulenceNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case RIDGE -> {for(int x = 0; x < width; x++) out[offset + x] = (float) ridgeNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case BILLOW -> {for(int x = 0; x < width; x++) out[offset + x] = (float) billowNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}}}}
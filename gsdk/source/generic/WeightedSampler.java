@@ -0,0 +1,136 @@
+package gsdk.source.generic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Weighted random sampler (Vose's alias method): O(n) setup, O(1) per draw.
+ * Sampler is immutable and can be shared between threads (each thread draws with its own stream).
+ */
+public class WeightedSampler<T> {
+    private final List<T> items;
+
+    private final double[] probability;
+
+    private final int[] alias;
+
+    /**
+     * Initialize weighted sampler.
+     *
+     * @param items_ Items.
+     * @param weights Item weights (non-negative, at least one positive).
+     */
+    public WeightedSampler(T[] items_, double ...weights) {
+        this(Arrays.asList(items_), weights);
+    }
+
+    /**
+     * Initialize weighted sampler.
+     *
+     * @param items_ Items.
+     * @param weights Item weights (non-negative, at least one positive).
+     */
+    public WeightedSampler(List<T> items_, double ...weights) {
+        assert_t(items_.size() != weights.length, "items count is not equal to weights count");
+
+        assert_t(weights.length == 0, "weighted sampler needs at least one item");
+
+        items = Collections.unmodifiableList(new ArrayList<>(items_));
+
+        int count = weights.length;
+
+        double total = 0.0;
+
+        for(double weight : weights) {
+            assert_t(weight < 0 || Double.isNaN(weight), "weights must be non-negative");
+
+            total += weight;
+        }
+
+        assert_t(total <= 0, "weights sum must be positive");
+
+        probability = new double[count];
+
+        alias = new int[count];
+
+        double[] scaled = new double[count];
+
+        int[] small = new int[count], large = new int[count];
+
+        int smallCount = 0, largeCount = 0;
+
+        for(int i = 0; i < count; i++) {
+            scaled[i] = weights[i] * count / total;
+
+            if(scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        while(smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount], more = large[--largeCount];
+
+            probability[less] = scaled[less];
+
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+
+            if(scaled[more] < 1.0) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        // Leftovers are 1.0 up to rounding errors.
+        while(largeCount > 0) probability[large[--largeCount]] = 1.0;
+        while(smallCount > 0) probability[small[--smallCount]] = 1.0;
+    }
+
+    /**
+     * Draw random item index.
+     *
+     * @param stream Random stream.
+     */
+    public int sampleIndex(GRandomStream stream) {
+        double value = stream.nextDouble() * probability.length;
+
+        int column = (int) value;
+
+        return value - column < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Draw random item.
+     *
+     * @param stream Random stream.
+     */
+    public T sample(GRandomStream stream) {
+        return items.get(sampleIndex(stream));
+    }
+
+    /**
+     * Draw random item using calling thread's stream (see <code>GRandom::current</code>).
+     */
+    public T sample() {
+        return sample(GRandom.current());
+    }
+
+    /**
+     * Fill array with random item indices.
+     *
+     * @param stream Random stream.
+     * @param indices Output indices.
+     */
+    public void sampleIndices(GRandomStream stream, int[] indices) {
+        for(int i = 0; i < indices.length; i++) indices[i] = sampleIndex(stream);
+    }
+
+    /**
+     * Get items count.
+     */
+    public int getSize() {
+        return probability.length;
+    }
+}
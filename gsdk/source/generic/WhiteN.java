@@ -0,0 +1,8 @@
+package gsdk.source.generic;
+
+import java.util.Random;
+
+class WhiteN {
+    private final Random random;
+    protected WhiteN(int seed) {random = new Random(seed);}
+    protected double noise() {return random.nextDouble();}}
@@ -0,0 +1,52 @@
+package gsdk.source.generic;
+
+import java.util.Random;
+
+// Jittered grid: one feature point per cell, only the neighbouring cells are searched.
+class Worley implements NoiseAlgorithm {
+    private final int[] perm = new int[512];
+    private final double[] offsetX = new double[256], offsetY = new double[256], offsetZ = new double[256];
+    protected Worley(int seed) {
+        Random random = new Random(seed);
+        for(int i = 0; i < 256; i++) {perm[i] = i;}
+        for(int i = 255; i > 0; i--) {int n = random.nextInt(i + 1);int swap = perm[i];perm[i] = perm[n];perm[n] = swap;}
+        for(int i = 0; i < 256; i++) {perm[i + 256] = perm[i];offsetX[i] = random.nextDouble();offsetY[i] = random.nextDouble();offsetZ[i] = random.nextDouble();}}
+    public double cellular(double x, double y, WorleyOutput output) {
+        int xi = FastPerlin.floor(x);int yi = FastPerlin.floor(y);double f1 = Double.MAX_VALUE;double f2 = Double.MAX_VALUE;
+        for(int cy = yi - 1; cy <= yi + 1; cy++) {for(int cx = xi - 1; cx <= xi + 1; cx++) {
+            int h = perm[perm[cx & 255] + (cy & 255)];double dx = cx + offsetX[h] - x;double dy = cy + offsetY[h] - y;double d = dx * dx + dy * dy;
+            if(d < f1) {f2 = f1;f1 = d;} else if(d < f2) {f2 = d;}}}
+        return output(f1, f2, output);}
+    public double cellular(double x, double y, double z, WorleyOutput output) {
+        int xi = FastPerlin.floor(x);int yi = FastPerlin.floor(y);int zi = FastPerlin.floor(z);double f1 = Double.MAX_VALUE;double f2 = Double.MAX_VALUE;
+        for(int cz = zi - 1; cz <= zi + 1; cz++) {for(int cy = yi - 1; cy <= yi + 1; cy++) {for(int cx = xi - 1; cx <= xi + 1; cx++) {
+            int h = perm[perm[perm[cx & 255] + (cy & 255)] + (cz & 255)];double dx = cx + offsetX[h] - x;double dy = cy + offsetY[h] - y;double dz = cz + offsetZ[h] - z;double d = dx * dx + dy * dy + dz * dz;
+            if(d < f1) {f2 = f1;f1 = d;} else if(d < f2) {f2 = d;}}}}
+        return output(f1, f2, output);}
+    private static double output(double f1, double f2, WorleyOutput output) {
+        return switch(output) {case F1 -> Math.sqrt(f1);case F2 -> Math.sqrt(f2);case F2_MINUS_F1 -> Math.sqrt(f2) - Math.sqrt(f1);};}
+    public double noise(double x, double y) {return cellular(x, y, WorleyOutput.F1);}
+    public double noise(double x, double y, double z) {return cellular(x, y, z, WorleyOutput.F1);}
+    public double fractalNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {total += noise(x * frequency, y * frequency, z * frequency) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double turbulenceNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {total += Math.abs(noise(x * frequency, y * frequency, z * frequency)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double ridgeNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (1 - Math.abs(n)) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public double billowNoise(double x, double y, double z, int octaves, double persistence, double frequencyMult) {
+        double total = 0;double frequency = 1;double amplitude = 1;double maxValue = 0;
+        for (int i = 0; i < octaves; i++) {double n = noise(x * frequency, y * frequency, z * frequency);total += (2 * Math.abs(n) - 1) * amplitude;maxValue += amplitude;amplitude *= persistence;frequency *= frequencyMult;}
+        return total / maxValue;}
+    public void fillRow(NoiseFractal fractal, float[] out, int offset, int width, double originX, double step, double y, double z, int octaves, double persistence, double frequencyMult, boolean flat) {
+        switch(fractal) {
+            case NONE -> {if(flat) {for(int x = 0; x < width; x++) out[offset + x] = (float) noise(originX + x * step, y);} else {for(int x = 0; x < width; x++) out[offset + x] = (float) noise(originX + x * step, y, z);}}
+            case FRACTAL -> {for(int x = 0; x < width; x++) out[offset + x] = (float) fractalNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case TURBULENCE -> {for(int x = 0; x < width; x++) out[offset + x] = (float) turbulenceNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case RIDGE -> {for(int x = 0; x < width; x++) out[offset + x] = (float) ridgeNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}
+            case BILLOW -> {for(int x = 0; x < width; x++) out[offset + x] = (float) billowNoise(originX + x * step, y, z, octaves, persistence, frequencyMult);}}}}
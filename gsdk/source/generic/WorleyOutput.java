@@ -0,0 +1,21 @@
+package gsdk.source.generic;
+
+/**
+ * Worley (cellular) noise outputs: distances to the nearest feature points.
+ */
+public enum WorleyOutput {
+    /**
+     * Distance to the nearest feature point (cells).
+     */
+    F1,
+
+    /**
+     * Distance to the second nearest feature point (stone, cobbles).
+     */
+    F2,
+
+    /**
+     * F2 - F1 (cracks, cell and biome borders).
+     */
+    F2_MINUS_F1
+}
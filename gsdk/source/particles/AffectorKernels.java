@@ -0,0 +1,52 @@
+package gsdk.source.particles;
+
+// Array kernels used by built-in affectors.
+// Loops are kept branch-free and per-axis so HotSpot C2 can auto-vectorize them (SuperWord).
+class AffectorKernels {
+    // v += a
+    protected static void add(float[] v, float a, int size) {
+        for(int i=0; i < size; i++) v[i] += a;
+    }
+
+    // v *= s
+    protected static void scale(float[] v, float s, int size) {
+        for(int i=0; i < size; i++) v[i] *= s;
+    }
+
+    // v += (target - v) * k
+    protected static void relax(float[] v, float target, float k, int size) {
+        for(int i=0; i < size; i++) v[i] += (target - v[i]) * k;
+    }
+
+    // v += (c - p) * k / (|c - p|^3 + softening), i.e. inverse square pull towards c.
+    protected static void attract(ParticleBuffer buffer, float cx, float cy, float cz, float k, float softening) {
+        float[] px = buffer.posX, py = buffer.posY, pz = buffer.posZ;
+        float[] vx = buffer.velX, vy = buffer.velY, vz = buffer.velZ;
+
+        for(int i=0; i < buffer.getSize(); i++) {
+            float dx = cx - px[i], dy = cy - py[i], dz = cz - pz[i];
+
+            float distSq = dx * dx + dy * dy + dz * dz;
+
+            float f = k / (distSq * (float) Math.sqrt(distSq) + softening);
+
+            vx[i] += dx * f;
+            vy[i] += dy * f;
+            vz[i] += dz * f;
+        }
+    }
+
+    // v += (axis x (p - c)) * k, i.e. swirl around axis going through c.
+    protected static void swirl(ParticleBuffer buffer, float cx, float cy, float cz, float ax, float ay, float az, float k) {
+        float[] px = buffer.posX, py = buffer.posY, pz = buffer.posZ;
+        float[] vx = buffer.velX, vy = buffer.velY, vz = buffer.velZ;
+
+        for(int i=0; i < buffer.getSize(); i++) {
+            float dx = px[i] - cx, dy = py[i] - cy, dz = pz[i] - cz;
+
+            vx[i] += (ay * dz - az * dy) * k;
+            vy[i] += (az * dx - ax * dz) * k;
+            vz[i] += (ax * dy - ay * dx) * k;
+        }
+    }
+}
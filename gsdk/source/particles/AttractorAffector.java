@@ -0,0 +1,78 @@
+package gsdk.source.particles;
+
+import gsdk.source.vectors.Vector3Df;
+
+/**
+ * Point attractor affector: pulls particles towards point (inverse square). Negative strength repels particles.
+ * Point is in emitter space (relative to emitter position).
+ */
+public class AttractorAffector implements ParticleAffector {
+    private Vector3Df point;
+
+    private float strength, softening;
+
+    /**
+     * Initialize attractor affector.
+     *
+     * @param point_ Attractor point.
+     * @param strength_ Attractor strength.
+     * @param softening_ Softening (avoids infinite force near the point).
+     */
+    public AttractorAffector(Vector3Df point_, float strength_, float softening_) {
+        point = point_;
+
+        strength = strength_;
+        softening = softening_;
+    }
+
+    /**
+     * Initialize attractor affector with default softening (0.01).
+     *
+     * @param point_ Attractor point.
+     * @param strength_ Attractor strength.
+     */
+    public AttractorAffector(Vector3Df point_, float strength_) {
+        this(point_, strength_, 0.01f);
+    }
+
+    @Override
+    public void affect(ParticleBuffer buffer, float delta) {
+        AffectorKernels.attract(buffer, point.x(), point.y(), point.z(), strength * delta, softening);
+    }
+
+    /**
+     * Set attractor point.
+     *
+     * @param point_ Attractor point.
+     */
+    public void setPoint(Vector3Df point_) { point = point_; }
+
+    /**
+     * Get attractor point.
+     */
+    public Vector3Df getPoint() { return point; }
+
+    /**
+     * Set attractor strength.
+     *
+     * @param strength_ Attractor strength.
+     */
+    public void setStrength(float strength_) { strength = strength_; }
+
+    /**
+     * Get attractor strength.
+     */
+    public float getStrength() { return strength; }
+
+    /**
+     * Set attractor softening.
+     *
+     * @param softening_ Attractor softening.
+     */
+    public void setSoftening(float softening_) { softening = softening_; }
+
+    /**
+     * Get attractor softening.
+     */
+    public float getSoftening() { return softening; }
+}
@@ -0,0 +1,38 @@
+package gsdk.source.particles;
+
+/**
+ * Linear drag affector: slows particles down.
+ */
+public class DragAffector implements ParticleAffector {
+    private float drag;
+
+    /**
+     * Initialize drag affector.
+     *
+     * @param drag_ Drag coefficient (per second).
+     */
+    public DragAffector(float drag_) {
+        drag = drag_;
+    }
+
+    @Override
+    public void affect(ParticleBuffer buffer, float delta) {
+        float s = Math.max(0.0f, 1.0f - drag * delta);
+
+        AffectorKernels.scale(buffer.velX, s, buffer.getSize());
+        AffectorKernels.scale(buffer.velY, s, buffer.getSize());
+        AffectorKernels.scale(buffer.velZ, s, buffer.getSize());
+    }
+
+    /**
+     * Set drag coefficient.
+     *
+     * @param drag_ Drag coefficient.
+     */
+    public void setDrag(float drag_) { drag = drag_; }
+
+    /**
+     * Get drag coefficient.
+     */
+    public float getDrag() { return drag; }
+}
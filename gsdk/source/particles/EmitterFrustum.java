@@ -0,0 +1,72 @@
+package gsdk.source.particles;
+
+import com.raylib.Raylib;
+
+// Camera frustum test for emitter bounds (AABB).
+class EmitterFrustum {
+    // Same as rlgl RL_CULL_DISTANCE_NEAR/RL_CULL_DISTANCE_FAR used by BeginMode3D.
+    protected static final float CULL_DISTANCE_NEAR = 0.01f;
+    protected static final float CULL_DISTANCE_FAR = 1000.0f;
+
+    /**
+     * Does AABB intersect camera frustum.
+     *
+     * @param cam 3D Camera.
+     * @param aspect Viewport aspect ratio (width / height).
+     * @param bounds AABB {minX, minY, minZ, maxX, maxY, maxZ}.
+     */
+    protected static boolean intersects(Raylib.Camera3D cam, float aspect, float[] bounds) {
+        float px = cam._position().x(), py = cam._position().y(), pz = cam._position().z();
+
+        float[] f = normalize(cam.target().x() - px, cam.target().y() - py, cam.target().z() - pz);
+
+        if(f == null) return true;
+
+        float[] r = normalize(
+            f[1] * cam.up().z() - f[2] * cam.up().y(),
+            f[2] * cam.up().x() - f[0] * cam.up().z(),
+            f[0] * cam.up().y() - f[1] * cam.up().x());
+
+        if(r == null) return true;
+
+        float[] u = new float[] {r[1] * f[2] - r[2] * f[1], r[2] * f[0] - r[0] * f[2], r[0] * f[1] - r[1] * f[0]};
+
+        // Each plane is {nx, ny, nz, w}: point p is inside when n * (p - camPos) + w >= 0.
+        float[][] planes;
+
+        if(cam.projection() == Raylib.CAMERA_ORTHOGRAPHIC) {
+            float top = cam.fovy() * 0.5f, right = top * aspect;
+
+            planes = new float[][] {
+                {-r[0], -r[1], -r[2], right}, {r[0], r[1], r[2], right},
+                {-u[0], -u[1], -u[2], top}, {u[0], u[1], u[2], top},
+                {f[0], f[1], f[2], -CULL_DISTANCE_NEAR}, {-f[0], -f[1], -f[2], CULL_DISTANCE_FAR}
+            };
+        } else {
+            float tanV = (float) Math.tan(Math.toRadians(cam.fovy()) * 0.5), tanH = tanV * aspect;
+
+            planes = new float[][] {
+                {f[0] * tanH - r[0], f[1] * tanH - r[1], f[2] * tanH - r[2], 0}, {f[0] * tanH + r[0], f[1] * tanH + r[1], f[2] * tanH + r[2], 0},
+                {f[0] * tanV - u[0], f[1] * tanV - u[1], f[2] * tanV - u[2], 0}, {f[0] * tanV + u[0], f[1] * tanV + u[1], f[2] * tanV + u[2], 0},
+                {f[0], f[1], f[2], -CULL_DISTANCE_NEAR}, {-f[0], -f[1], -f[2], CULL_DISTANCE_FAR}
+            };
+        }
+
+        for(float[] plane : planes) {
+            // Test only the AABB corner furthest along plane normal (p-vertex).
+            float vx = (plane[0] >= 0 ? bounds[3] : bounds[0]) - px;
+            float vy = (plane[1] >= 0 ? bounds[4] : bounds[1]) - py;
+            float vz = (plane[2] >= 0 ? bounds[5] : bounds[2]) - pz;
+
+            if(plane[0] * vx + plane[1] * vy + plane[2] * vz + plane[3] < 0) return false;
+        }
+
+        return true;
+    }
+
+    private static float[] normalize(float x, float y, float z) {
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+
+        return length == 0 ? null : new float[] {x / length, y / length, z / length};
+    }
+}
@@ -0,0 +1,38 @@
+package gsdk.source.particles;
+
+import gsdk.source.vectors.Vector3Df;
+
+/**
+ * Constant acceleration affector (gravity).
+ */
+public class GravityAffector implements ParticleAffector {
+    private Vector3Df gravity;
+
+    /**
+     * Initialize gravity affector.
+     *
+     * @param gravity_ Gravity acceleration.
+     */
+    public GravityAffector(Vector3Df gravity_) {
+        gravity = gravity_;
+    }
+
+    @Override
+    public void affect(ParticleBuffer buffer, float delta) {
+        AffectorKernels.add(buffer.velX, gravity.x() * delta, buffer.getSize());
+        AffectorKernels.add(buffer.velY, gravity.y() * delta, buffer.getSize());
+        AffectorKernels.add(buffer.velZ, gravity.z() * delta, buffer.getSize());
+    }
+
+    /**
+     * Set gravity acceleration.
+     *
+     * @param gravity_ Gravity acceleration.
+     */
+    public void setGravity(Vector3Df gravity_) { gravity = gravity_; }
+
+    /**
+     * Get gravity acceleration.
+     */
+    public Vector3Df getGravity() { return gravity; }
+}
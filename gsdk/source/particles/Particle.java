@@ -2,7 +2,7 @@ package gsdk.source.particles;
 
 // Particle structure.
 class Particle {
-    private float[] pos;
+    private final ParticleBuffer buffer;
 
     private int[] color;
 
@@ -20,8 +20,8 @@ class Particle {
 
     private float[] designatedVelocity;
 
-    protected Particle(float[] pos_, int[] color_, float alpha_, float size_, float rotation_, float[] designatedVelocity_, int id_) {
-        pos = pos_;
+    protected Particle(ParticleBuffer buffer_, float[] pos_, int[] color_, float alpha_, float size_, float rotation_, float[] designatedVelocity_, int id_) {
+        buffer = buffer_;
         color = color_;
         alpha = alpha_;
         size = size_;
@@ -31,15 +31,21 @@ class Particle {
 
         id = id_;
 
+        setPos(pos_);
+        resetVelocity(1.0f);
+
         spawningProcess = true;
 
         lifetime = 0;
     }
 
-    protected void setPos(float[] pos_) { pos = pos_; }
-    protected void addPos(float x, float y, float z) { setPos(new float[] {pos[0] + x, pos[1] + y, pos[2] + z}); }
+    protected void setPos(float[] pos_) { buffer.posX[id] = pos_[0]; buffer.posY[id] = pos_[1]; buffer.posZ[id] = pos_[2]; }
+    protected void addPos(float x, float y, float z) { buffer.posX[id] += x; buffer.posY[id] += y; buffer.posZ[id] += z; }
     protected void subPos(float x, float y, float z) { addPos(-x, -y, -z); }
-    protected float[] getPos() { return pos; }
+    protected float[] getPos() { return new float[] {buffer.posX[id], buffer.posY[id], buffer.posZ[id]}; }
+
+    protected void resetVelocity(float direction) { buffer.velX[id] = designatedVelocity[0] * direction; buffer.velY[id] = designatedVelocity[1] * direction; buffer.velZ[id] = designatedVelocity[2] * direction; }
+    protected float[] getVelocity() { return new float[] {buffer.velX[id], buffer.velY[id], buffer.velZ[id]}; }
 
     protected void setColor(int[] color_) { color = color_; }
     protected void addColor(int r, int g, int b) { setColor(new int[] {color[0] + r, color[1] + g, color[2] + b}); }
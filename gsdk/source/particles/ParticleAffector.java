@@ -0,0 +1,15 @@
+package gsdk.source.particles;
+
+/**
+ * Particle affector (force field). Affectors are applied to the whole particle buffer before particles are moved.
+ * Velocity is particle displacement per simulation step (see EmissionVelocity), so affector strengths are in velocity units per second.
+ */
+public interface ParticleAffector {
+    /**
+     * Affect particles velocities.
+     *
+     * @param buffer Particle buffer.
+     * @param delta Simulation step delta.
+     */
+    void affect(ParticleBuffer buffer, float delta);
+}
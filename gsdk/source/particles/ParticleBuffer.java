@@ -0,0 +1,37 @@
+package gsdk.source.particles;
+
+/**
+ * Particles positions and velocities stored as separate arrays (structure of arrays).
+ * Used by affectors to process all emitter particles at once.
+ */
+public class ParticleBuffer {
+    public final float[] posX, posY, posZ;
+
+    public final float[] velX, velY, velZ;
+
+    private final int size;
+
+    /**
+     * Initialize particle buffer.
+     *
+     * @param size_ Particles count.
+     */
+    public ParticleBuffer(int size_) {
+        size = size_;
+
+        posX = new float[size];
+        posY = new float[size];
+        posZ = new float[size];
+
+        velX = new float[size];
+        velY = new float[size];
+        velZ = new float[size];
+    }
+
+    /**
+     * Get particles count.
+     */
+    public int getSize() {
+        return size;
+    }
+}
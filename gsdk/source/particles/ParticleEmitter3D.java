@@ -18,7 +18,7 @@
  * - Add support for multiple textures (each particle emission - new texture).
  * - Random fade delay for each particle (based of pFade).
  * - Random initial rotation for each particle.
- * - Simulate only visible particles (optimization).
+ * - Simulate only visible particles (optimization): only whole emitters are culled for now.
  * - Improve code quality (generic).
  */
 
@@ -28,6 +28,8 @@ import com.raylib.Raylib;
 
 import java.util.Random;
 
+import java.util.List;
+
 import org.bytedeco.javacpp.FloatPointer;
 
 import gsdk.source.grender.Texture;
@@ -39,8 +41,6 @@ import gsdk.source.vectors.Vector2Df;
 
 import static gsdk.source.generic.ImagePixelsFilter.filterPixels;
 
-import static gsdk.source.generic.GMath.clamp;
-
 import static gsdk.source.generic.GLogger.warning;
 
 import static gsdk.source.generic.Assert.assert_t;
@@ -54,21 +54,21 @@ import static gsdk.r_utilities.PathResolver.resolvePath;
 public class ParticleEmitter3D {
     private final ParticleEmitterConfig emitterConfig;
 
-    private final Particle[] particleContainer;
+    private final ParticleSimulation simulation;
 
     private Texture particleTex = null;
 
-    private float lastSpawn;
-
     private final Raylib.Shader pixelsFormatShader;
 
     private final int pixelsFormatShaderThresholdLoc;
 
-    private final Random random;
+    private boolean visible = true;
+
+    private float pendingTime = 0.0f;
 
     public static final Vector4Df PFCOL_THRESHOLD_DEFAULT = new Vector4Df(0.15f, 0.15f, 0.15f, 0.75f);
 
-    public static final float[] CENTER = new float[] {0, 0, 0};
+    public static final float[] CENTER = ParticleSimulation.CENTER;
 
     /**
      * Initialize 3D particle emitter.
@@ -78,17 +78,13 @@ public class ParticleEmitter3D {
     public ParticleEmitter3D(ParticleEmitterConfig emitterConfig_) {
         emitterConfig = emitterConfig_;
 
-        particleContainer = new Particle[emitterConfig.getMaxParticles()];
+        simulation = new ParticleSimulation(emitterConfig);
 
         pixelsFormatShader = Raylib.LoadShader(null, resolvePath("gsdk/shaders/pe3d_ppfilter.fs"));
 
         pixelsFormatShaderThresholdLoc = Raylib.GetShaderLocation(pixelsFormatShader, "threshold");
 
         setPFColThreshold(PFCOL_THRESHOLD_DEFAULT);
-
-        lastSpawn = 1.0f / emitterConfig.getEmissionRate();
-
-        random = new Random();
     }
 
     /**
@@ -168,18 +164,7 @@ public class ParticleEmitter3D {
     public void loadParticles() {
         warning("VFlux is currently in an unstable state and under active development.");
 
-        for(int i=0; i < emitterConfig.getMaxParticles(); i++) {
-            particleContainer[i] = new Particle(
-                CENTER,
-                emitterConfig.getPColor().toArray(),
-                emitterConfig.getPAlpha(),
-                emitterConfig.getPScale(),
-                emitterConfig.getPRotation() > 0 ? Raylib.GetRandomValue(0, 360) : 0,
-                emitterConfig.getEmissionVelocity()
-                    .calcVelocity(
-                        randomFloat(random, -emitterConfig.getExplosiveness(), emitterConfig.getExplosiveness()),
-                        randomFloat(random, -emitterConfig.getExplosiveness(), emitterConfig.getExplosiveness())), i);
-        }
+        simulation.loadParticles();
     }
 
     /**
@@ -190,54 +175,51 @@ public class ParticleEmitter3D {
 
         if(emitterConfig.getPLifetime() < 2.0f) warning("pLifetime_ < 2.0f! particles lifetime is TOO low!; i.e expect non-smooth fades & etc");
 
-        lastSpawn += emitterConfig.getDelta();
-
-        for(Particle particle : particleContainer) {
-            float[] velocity = particle.getDesignatedVelocity();
+        simulation.simulateStep(emitterConfig.getDelta());
+    }
 
-            if (emitterConfig.getInversedEmission()) {
-                velocity[0] = -velocity[0];
-                velocity[1] = -velocity[1];
-                velocity[2] = -velocity[2];
-            }
+    /**
+     * Iterates each particle and simulates its behaviour with emitter frustum culling (if enabled in config).
+     * Off-screen emitter is simulated once per off-screen interval and catches up with fixed sub-steps when it comes back into view.
+     * Longer steps move particles by velocity times frames they stand for; time left after max catch up sub-steps is discarded.
+     *
+     * @param cam 3D Camera.
+     * @param pos Position.
+     */
+    public void simulateParticles(Raylib.Camera3D cam, Vector3Df pos) {
+        if(!emitterConfig.getCulling()) {
+            simulateParticles();
 
-            if(particle.getLifetime() >= emitterConfig.getPLifetime() / 2) particle.addSize(emitterConfig.getPScale() * 0.001f);
+            return;
+        }
 
-            particle.addPos(velocity[0], velocity[1], velocity[2]);
-            particle.addRotation(emitterConfig.getPRotation());
+        assert_t(!emitterConfig.deltaUpdated(), "deltaUpdated == false: use ParticleEmitterConfig::setDelta to update delta");
 
-            particle.subLifetime(emitterConfig.getDelta());
+        float delta = emitterConfig.getDelta();
 
-            if(particle.getSpawningProcess()) {
-                particle.addAlpha(emitterConfig.getPFade() * 0.1f);
+        visible = isVisible(cam, pos);
 
-                if(particle.getAlpha() >= emitterConfig.getPAlpha()) {
-                    particle.setAlpha(emitterConfig.getPAlpha());
+        pendingTime += delta;
 
-                    particle.setSpawningProcess(false);
-                }
-            } else {
-                if(particle.getLifetime() <= emitterConfig.getPLifetime() / 2) {
-                    particle.setAlpha((float) clamp(0, emitterConfig.getPAlpha(), particle.getAlpha() - (emitterConfig.getPFade() * 0.1f)));
+        if(visible) {
+            int steps = 0;
 
-                    particle.setSize((float) clamp(0, emitterConfig.getPScale(), particle.getSize() - (emitterConfig.getPScale() * 0.1f)));
-                }
+            while(pendingTime - delta >= emitterConfig.getCatchUpStep() && steps < emitterConfig.getMaxCatchUpSteps()) {
+                simulation.simulateStep(emitterConfig.getCatchUpStep(), emitterConfig.getCatchUpStep() / delta);
 
-                if(particle.isDead()) {
-                    if(lastSpawn >= (1.0 / emitterConfig.getEmissionRate())) {
-                        particle.setSize(emitterConfig.getPScale());
-                        particle.setPos(CENTER);
+                pendingTime -= emitterConfig.getCatchUpStep();
 
-                        particle.setAlpha(0);
+                steps++;
+            }
 
-                        particle.setLifetime(emitterConfig.getPLifetime());
+            simulation.simulateStep(delta);
 
-                        particle.setSpawningProcess(true);
+            // Beyond max catch up sub-steps: discarded, emitter does not fall behind further.
+            pendingTime = 0.0f;
+        } else if(pendingTime >= emitterConfig.getOffscreenInterval()) {
+            simulation.simulateStep(emitterConfig.getOffscreenInterval(), emitterConfig.getOffscreenInterval() / delta);
 
-                        lastSpawn = 0.0f;
-                    }
-                }
-            }
+            pendingTime -= emitterConfig.getOffscreenInterval();
         }
     }
 
@@ -250,13 +232,15 @@ public class ParticleEmitter3D {
     public void renderParticles(Raylib.Camera3D cam, Vector3Df pos) {
         assert_t(emitterConfig.getPType() == ParticleType.TEXTURE && particleTex == null, "can't render: particle type is texture but texture is null");
 
+        if(emitterConfig.getCulling() && !isVisible(cam, pos)) return;
+
         Raylib.BeginShaderMode(pixelsFormatShader);
 
         if(emitterConfig.blendingAvailable()) {
             Raylib.BeginBlendMode(emitterConfig.getBlending() == ParticleBlending.ALPHA ? Raylib.BLEND_ALPHA : Raylib.BLEND_ADDITIVE);
         }
 
-        for(Particle particle : particleContainer) {
+        for(Particle particle : simulation.getParticles()) {
             if(emitterConfig.getPType() == ParticleType.RECTANGLE) {
                 // Rectangle...
             } else if(emitterConfig.getPType() == ParticleType.CIRCLE) {
@@ -268,9 +252,9 @@ public class ParticleEmitter3D {
                     cam, particleTex.getTex(), new Vector4Di(0, 0, particleTex.getTexWidth(), particleTex.getTexHeight()).toRlRect(),
 
                     new Vector3Df(
-                        pos.x() + particle.getPos()[0],
-                        pos.y() + particle.getPos()[1],
-                        pos.z() + particle.getPos()[2]).toRlVec(),
+                        pos.x() + simulation.getParticleBuffer().posX[particle.getID()],
+                        pos.y() + simulation.getParticleBuffer().posY[particle.getID()],
+                        pos.z() + simulation.getParticleBuffer().posZ[particle.getID()]).toRlVec(),
 
                     new Vector3Df(0.0f, 1.0f, 0.0f).toRlVec(),
 
@@ -298,6 +282,73 @@ public class ParticleEmitter3D {
         Raylib.EndShaderMode();
     }
 
+    /**
+     * Get conservative emitter bounds (AABB), see <code>ParticleSimulation::getBounds</code>.
+     *
+     * @param pos Position.
+     */
+    public float[] getBounds(Vector3Df pos) {
+        return simulation.getBounds(pos);
+    }
+
+    /**
+     * Is emitter inside camera frustum (uses screen aspect ratio).
+     *
+     * @param cam 3D Camera.
+     * @param pos Position.
+     */
+    public boolean isVisible(Raylib.Camera3D cam, Vector3Df pos) {
+        float aspect = Raylib.GetScreenHeight() > 0 ? (float) Raylib.GetScreenWidth() / Raylib.GetScreenHeight() : 1.0f;
+
+        return EmitterFrustum.intersects(cam, aspect, getBounds(pos));
+    }
+
+    /**
+     * Was emitter visible during last culled simulation.
+     */
+    public boolean wasVisible() {
+        return visible;
+    }
+
+    /**
+     * Add particle affector. Affectors are applied in order they were added.
+     *
+     * @param affector Particle affector.
+     */
+    public void addAffector(ParticleAffector affector) {
+        simulation.addAffector(affector);
+    }
+
+    /**
+     * Remove particle affector.
+     *
+     * @param affector Particle affector.
+     */
+    public void removeAffector(ParticleAffector affector) {
+        simulation.removeAffector(affector);
+    }
+
+    /**
+     * Get particle affectors.
+     */
+    public List<ParticleAffector> getAffectors() {
+        return simulation.getAffectors();
+    }
+
+    /**
+     * Get particle buffer (particles positions and velocities).
+     */
+    public ParticleBuffer getParticleBuffer() {
+        return simulation.getParticleBuffer();
+    }
+
+    /**
+     * Get particle simulation core.
+     */
+    public ParticleSimulation getSimulation() {
+        return simulation;
+    }
+
     /**
      * Get emitter config.
      */
@@ -322,6 +373,6 @@ public class ParticleEmitter3D {
      * @param end Float end.
      */
     public static float randomFloat(Random random, float start, float end) {
-        return start + random.nextFloat() * (end - start);
+        return ParticleSimulation.randomFloat(random, start, end);
     }
 }
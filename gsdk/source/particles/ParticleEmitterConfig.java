@@ -24,6 +24,12 @@ public class ParticleEmitterConfig {
 
     private float delta = -1.0f;
 
+    private boolean culling = false;
+
+    private float offscreenInterval = 0.25f, catchUpStep = 1.0f / 60.0f;
+
+    private int maxCatchUpSteps = 120;
+
     /**
      * Create new config for particle emitter.
      *
@@ -256,4 +262,52 @@ public class ParticleEmitterConfig {
      * Get particles type.
      */
     public ParticleType getPType() { return pType; }
+
+    /**
+     * Enable emitter frustum culling (see <code>ParticleEmitter3D::simulateParticles(cam, pos)</code>).
+     *
+     * @param culling_ Enable culling?
+     */
+    public void setCulling(boolean culling_) { culling = culling_; }
+
+    /**
+     * Is emitter frustum culling enabled?
+     */
+    public boolean getCulling() { return culling; }
+
+    /**
+     * Set interval (in seconds) between simulation steps while emitter is off-screen.
+     *
+     * @param offscreenInterval_ Off-screen interval.
+     */
+    public void setOffscreenInterval(float offscreenInterval_) { offscreenInterval = offscreenInterval_; }
+
+    /**
+     * Get interval (in seconds) between simulation steps while emitter is off-screen.
+     */
+    public float getOffscreenInterval() { return offscreenInterval; }
+
+    /**
+     * Set fixed sub-step (in seconds) used to catch up simulation when emitter comes back into view.
+     *
+     * @param catchUpStep_ Catch up sub-step.
+     */
+    public void setCatchUpStep(float catchUpStep_) { catchUpStep = catchUpStep_; }
+
+    /**
+     * Get fixed catch up sub-step.
+     */
+    public float getCatchUpStep() { return catchUpStep; }
+
+    /**
+     * Set maximal amount of catch up sub-steps per frame (remaining off-screen time beyond them is discarded).
+     *
+     * @param maxCatchUpSteps_ Maximal catch up sub-steps.
+     */
+    public void setMaxCatchUpSteps(int maxCatchUpSteps_) { maxCatchUpSteps = maxCatchUpSteps_; }
+
+    /**
+     * Get maximal amount of catch up sub-steps per frame.
+     */
+    public int getMaxCatchUpSteps() { return maxCatchUpSteps; }
 }
@@ -0,0 +1,271 @@
+package gsdk.source.particles;
+
+import java.util.Random;
+
+import java.util.List;
+
+import java.util.ArrayList;
+
+import gsdk.source.vectors.Vector3Df;
+
+import static gsdk.source.generic.GMath.clamp;
+
+import static gsdk.source.generic.Assert.assert_t;
+
+/**
+ * Particle simulation core for the GSDK project: VFlux.
+ * Holds and simulates particles without any GPU resources, so it can be used headless (e.g benchmarks, servers).
+ */
+public class ParticleSimulation {
+    private final ParticleEmitterConfig emitterConfig;
+
+    private final Particle[] particleContainer;
+
+    private final ParticleBuffer particleBuffer;
+
+    private final List<ParticleAffector> affectors;
+
+    private float lastSpawn;
+
+    private final Random random;
+
+    private final float[] maxVelocity = new float[3];
+
+    private final float[] trackedBounds = new float[6];
+
+    public static final float[] CENTER = new float[] {0, 0, 0};
+
+    /**
+     * Initialize particle simulation.
+     *
+     * @param emitterConfig_ Emitter config.
+     */
+    public ParticleSimulation(ParticleEmitterConfig emitterConfig_) {
+        emitterConfig = emitterConfig_;
+
+        particleContainer = new Particle[emitterConfig.getMaxParticles()];
+
+        particleBuffer = new ParticleBuffer(emitterConfig.getMaxParticles());
+
+        affectors = new ArrayList<>();
+
+        lastSpawn = 1.0f / emitterConfig.getEmissionRate();
+
+        random = new Random();
+    }
+
+    /**
+     * Fill particle container with particles.
+     */
+    public void loadParticles() {
+        for(int i=0; i < emitterConfig.getMaxParticles(); i++) {
+            particleContainer[i] = new Particle(
+                particleBuffer,
+                CENTER,
+                emitterConfig.getPColor().toArray(),
+                emitterConfig.getPAlpha(),
+                emitterConfig.getPScale(),
+                emitterConfig.getPRotation() > 0 ? random.nextInt(361) : 0,
+                emitterConfig.getEmissionVelocity()
+                    .calcVelocity(
+                        randomFloat(random, -emitterConfig.getExplosiveness(), emitterConfig.getExplosiveness()),
+                        randomFloat(random, -emitterConfig.getExplosiveness(), emitterConfig.getExplosiveness())), i);
+
+            particleContainer[i].resetVelocity(emissionDirection());
+
+            for(int axis=0; axis < 3; axis++) {
+                maxVelocity[axis] = Math.max(maxVelocity[axis], Math.abs(particleContainer[i].getDesignatedVelocity()[axis]));
+            }
+        }
+    }
+
+    /**
+     * Simulate one step with config delta.
+     */
+    public void simulate() {
+        assert_t(!emitterConfig.deltaUpdated(), "deltaUpdated == false: use ParticleEmitterConfig::setDelta to update delta");
+
+        simulateStep(emitterConfig.getDelta());
+    }
+
+    /**
+     * Simulate one step with specified delta.
+     *
+     * @param delta Step delta.
+     */
+    public void simulateStep(float delta) {
+        simulateStep(delta, 1.0f);
+    }
+
+    /**
+     * Simulate one step with specified delta that stands for several frames (e.g off-screen or catch up steps):
+     * movement, growth, rotation and fading are multiplied by frames, and every emission interval elapsed in the step
+     * respawns one dead particle.
+     *
+     * @param delta Step delta.
+     * @param frames Frames the step stands for (1 for a regular frame).
+     */
+    public void simulateStep(float delta, float frames) {
+        lastSpawn += delta;
+
+        float spawnInterval = 1.0f / emitterConfig.getEmissionRate();
+
+        for(ParticleAffector affector : affectors) affector.affect(particleBuffer, delta);
+
+        float minX = 0, minY = 0, minZ = 0, maxX = 0, maxY = 0, maxZ = 0;
+
+        for(Particle particle : particleContainer) {
+            int id = particle.getID();
+
+            if(particle.getLifetime() >= emitterConfig.getPLifetime() / 2) particle.addSize(emitterConfig.getPScale() * 0.001f * frames);
+
+            particle.addPos(particleBuffer.velX[id] * frames, particleBuffer.velY[id] * frames, particleBuffer.velZ[id] * frames);
+            particle.addRotation(emitterConfig.getPRotation() * frames);
+
+            particle.subLifetime(delta);
+
+            if(particle.getSpawningProcess()) {
+                particle.addAlpha(emitterConfig.getPFade() * 0.1f * frames);
+
+                if(particle.getAlpha() >= emitterConfig.getPAlpha()) {
+                    particle.setAlpha(emitterConfig.getPAlpha());
+
+                    particle.setSpawningProcess(false);
+                }
+            } else {
+                if(particle.getLifetime() <= emitterConfig.getPLifetime() / 2) {
+                    particle.setAlpha((float) clamp(0, emitterConfig.getPAlpha(), particle.getAlpha() - (emitterConfig.getPFade() * 0.1f * frames)));
+
+                    particle.setSize((float) clamp(0, emitterConfig.getPScale(), particle.getSize() - (emitterConfig.getPScale() * 0.1f * frames)));
+                }
+
+                if(particle.isDead()) {
+                    if(lastSpawn >= spawnInterval) {
+                        particle.setSize(emitterConfig.getPScale());
+                        particle.setPos(CENTER);
+                        particle.resetVelocity(emissionDirection());
+
+                        particle.setAlpha(0);
+
+                        particle.setLifetime(emitterConfig.getPLifetime());
+
+                        particle.setSpawningProcess(true);
+
+                        lastSpawn -= spawnInterval;
+                    }
+                }
+            }
+
+            if(!particle.isDead()) {
+                minX = Math.min(minX, particleBuffer.posX[id]);
+                minY = Math.min(minY, particleBuffer.posY[id]);
+                minZ = Math.min(minZ, particleBuffer.posZ[id]);
+
+                maxX = Math.max(maxX, particleBuffer.posX[id]);
+                maxY = Math.max(maxY, particleBuffer.posY[id]);
+                maxZ = Math.max(maxZ, particleBuffer.posZ[id]);
+            }
+        }
+
+        // Intervals left without dead particles to respawn: at most one spawn stays pending (no burst later).
+        lastSpawn = Math.min(lastSpawn, spawnInterval);
+
+        trackedBounds[0] = minX;
+        trackedBounds[1] = minY;
+        trackedBounds[2] = minZ;
+
+        trackedBounds[3] = maxX;
+        trackedBounds[4] = maxY;
+        trackedBounds[5] = maxZ;
+    }
+
+    /**
+     * Get conservative emitter bounds (AABB) based on particles velocity and lifetime.
+     * Bounds are extended with live particles positions from last simulation step (affectors can move particles anywhere).
+     * Returns {minX, minY, minZ, maxX, maxY, maxZ}.
+     *
+     * @param pos Position.
+     */
+    public float[] getBounds(Vector3Df pos) {
+        float stepDelta = Math.min(emitterConfig.getDelta(), emitterConfig.getCatchUpStep());
+
+        float steps = stepDelta > 0 ? emitterConfig.getPLifetime() / stepDelta : 0;
+
+        float[] bounds = new float[6];
+
+        float[] center = new float[] {pos.x(), pos.y(), pos.z()};
+
+        for(int axis=0; axis < 3; axis++) {
+            float extent = maxVelocity[axis] * steps;
+
+            bounds[axis] = center[axis] + Math.min(-extent, trackedBounds[axis]) - emitterConfig.getPScale();
+            bounds[axis + 3] = center[axis] + Math.max(extent, trackedBounds[axis + 3]) + emitterConfig.getPScale();
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Add particle affector. Affectors are applied in order they were added.
+     *
+     * @param affector Particle affector.
+     */
+    public void addAffector(ParticleAffector affector) {
+        affectors.add(affector);
+    }
+
+    /**
+     * Remove particle affector.
+     *
+     * @param affector Particle affector.
+     */
+    public void removeAffector(ParticleAffector affector) {
+        affectors.remove(affector);
+    }
+
+    /**
+     * Get particle affectors.
+     */
+    public List<ParticleAffector> getAffectors() {
+        return affectors;
+    }
+
+    /**
+     * Get particle buffer (particles positions and velocities).
+     */
+    public ParticleBuffer getParticleBuffer() {
+        return particleBuffer;
+    }
+
+    /**
+     * Get particles.
+     */
+    protected Particle[] getParticles() {
+        return particleContainer;
+    }
+
+    /**
+     * Get emitter config.
+     */
+    public ParticleEmitterConfig getEmitterConfig() {
+        return emitterConfig;
+    }
+
+    /**
+     * Get emission direction applied to spawned particles velocity (-1 for inversed emission).
+     */
+    private float emissionDirection() {
+        return emitterConfig.getInversedEmission() ? -1.0f : 1.0f;
+    }
+
+    /**
+     * Generate random float between start and end.
+     *
+     * @param random Random class.
+     * @param start Float start.
+     * @param end Float end.
+     */
+    public static float randomFloat(Random random, float start, float end) {
+        return start + random.nextFloat() * (end - start);
+    }
+}
@@ -0,0 +1,73 @@
+package gsdk.source.particles;
+
+import gsdk.source.vectors.Vector3Df;
+
+/**
+ * Vortex affector: swirls particles around axis going through center point.
+ * Center is in emitter space (relative to emitter position).
+ */
+public class VortexAffector implements ParticleAffector {
+    private Vector3Df center, axis;
+
+    private float strength;
+
+    /**
+     * Initialize vortex affector.
+     *
+     * @param center_ Vortex center.
+     * @param axis_ Vortex axis (normalized on set).
+     * @param strength_ Vortex strength.
+     */
+    public VortexAffector(Vector3Df center_, Vector3Df axis_, float strength_) {
+        center = center_;
+
+        setAxis(axis_);
+
+        strength = strength_;
+    }
+
+    @Override
+    public void affect(ParticleBuffer buffer, float delta) {
+        AffectorKernels.swirl(buffer, center.x(), center.y(), center.z(), axis.x(), axis.y(), axis.z(), strength * delta);
+    }
+
+    /**
+     * Set vortex center.
+     *
+     * @param center_ Vortex center.
+     */
+    public void setCenter(Vector3Df center_) { center = center_; }
+
+    /**
+     * Get vortex center.
+     */
+    public Vector3Df getCenter() { return center; }
+
+    /**
+     * Set vortex axis.
+     *
+     * @param axis_ Vortex axis.
+     */
+    public void setAxis(Vector3Df axis_) {
+        float length = (float) Math.sqrt(axis_.x() * axis_.x() + axis_.y() * axis_.y() + axis_.z() * axis_.z());
+
+        axis = length == 0 ? new Vector3Df(0, 1, 0) : new Vector3Df(axis_.x() / length, axis_.y() / length, axis_.z() / length);
+    }
+
+    /**
+     * Get vortex axis.
+     */
+    public Vector3Df getAxis() { return axis; }
+
+    /**
+     * Set vortex strength.
+     *
+     * @param strength_ Vortex strength.
+     */
+    public void setStrength(float strength_) { strength = strength_; }
+
+    /**
+     * Get vortex strength.
+     */
+    public float getStrength() { return strength; }
+}
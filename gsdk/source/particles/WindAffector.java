@@ -0,0 +1,57 @@
+package gsdk.source.particles;
+
+import gsdk.source.vectors.Vector3Df;
+
+/**
+ * Wind affector: pulls particles velocity towards wind velocity.
+ */
+public class WindAffector implements ParticleAffector {
+    private Vector3Df wind;
+
+    private float strength;
+
+    /**
+     * Initialize wind affector.
+     *
+     * @param wind_ Wind velocity.
+     * @param strength_ How fast particles reach wind velocity (per second).
+     */
+    public WindAffector(Vector3Df wind_, float strength_) {
+        wind = wind_;
+
+        strength = strength_;
+    }
+
+    @Override
+    public void affect(ParticleBuffer buffer, float delta) {
+        float k = Math.min(1.0f, strength * delta);
+
+        AffectorKernels.relax(buffer.velX, wind.x(), k, buffer.getSize());
+        AffectorKernels.relax(buffer.velY, wind.y(), k, buffer.getSize());
+        AffectorKernels.relax(buffer.velZ, wind.z(), k, buffer.getSize());
+    }
+
+    /**
+     * Set wind velocity.
+     *
+     * @param wind_ Wind velocity.
+     */
+    public void setWind(Vector3Df wind_) { wind = wind_; }
+
+    /**
+     * Get wind velocity.
+     */
+    public Vector3Df getWind() { return wind; }
+
+    /**
+     * Set wind strength.
+     *
+     * @param strength_ Wind strength.
+     */
+    public void setStrength(float strength_) { strength = strength_; }
+
+    /**
+     * Get wind strength.
+     */
+    public float getStrength() { return strength; }
+}